@@ -0,0 +1,177 @@
+package cs3500.threetrios.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.threetrios.model.BinaryConfig;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Position;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+
+/**
+ * Generates the board and card configurations the benchmarks play on and sets up games on
+ * them. Configurations are written under the working directory, since the model only reads
+ * configuration files by relative path, and are rewritten on every run so the same seed always
+ * gives the same files.
+ */
+final class BenchmarkBoards {
+
+  /**
+   * The directory the configurations are written to, relative to the working directory.
+   */
+  static final String DIRECTORY = "target/benchmark-configs";
+
+  private static final String ATTACKS = "123456789A";
+
+  private BenchmarkBoards() {
+  }
+
+  /**
+   * Writes a board of the given size with a deck of exactly enough cards, and starts a game.
+   *
+   * @param size    the board size.
+   * @param cascade whether every card should be the cascade card instead of a random card.
+   * @param seed    the seed of the deck's attack values and of the deal.
+   * @return the started game.
+   */
+  static ThreeTriosGridModel startGame(BoardSize size, boolean cascade, long seed) {
+    String board = writeBoard(size);
+    String cards = writeDeck(size, cascade, seed);
+    ThreeTriosGridModel model = new ThreeTriosGridModel(new Random(seed));
+    model.startGame(DIRECTORY, cards, DIRECTORY, board);
+    return model;
+  }
+
+  /**
+   * Writes the board configuration of a size.
+   *
+   * @param size the board size.
+   * @return the file name within {@link #DIRECTORY}.
+   */
+  static String writeBoard(BoardSize size) {
+    StringBuilder config = new StringBuilder();
+    config.append(size.side).append(' ').append(size.side).append('\n');
+    for (int row = 0; row < size.side; row++) {
+      config.append("C".repeat(size.side)).append('\n');
+    }
+    String filename = "board-" + size.name().toLowerCase() + ".config";
+    write(filename, config);
+    return filename;
+  }
+
+  /**
+   * Writes a deck with one more card than the board of the given size has card cells.
+   *
+   * <p>A random deck draws every attack value uniformly. In the cascade deck every card has
+   * attack 1 to the north and east and 9 to the south and west. Since a card flips a neighbour
+   * whose facing attack is higher than its own, each placed or flipped card flips every
+   * opponent card to its north and east, so a move cascades through every opponent card it is
+   * connected to in those directions.</p>
+   *
+   * @param size    the board size.
+   * @param cascade whether to write the cascade deck.
+   * @param seed    the seed of the attack values.
+   * @return the file name within {@link #DIRECTORY}.
+   */
+  static String writeDeck(BoardSize size, boolean cascade, long seed) {
+    Random random = new Random(seed);
+    int cards = size.side * size.side + 1;
+    StringBuilder config = new StringBuilder();
+    for (int card = 0; card < cards; card++) {
+      config.append("Card").append(card);
+      for (int direction = 0; direction < 4; direction++) {
+        char attack = cascade ? (direction % 2 == 0 ? '1' : '9')
+                : ATTACKS.charAt(random.nextInt(ATTACKS.length()));
+        config.append(' ').append(attack);
+      }
+      config.append('\n');
+    }
+    String filename = "cards-" + size.name().toLowerCase() + (cascade ? "-cascade" : "-" + seed)
+            + ".config";
+    write(filename, config);
+    return filename;
+  }
+
+  /**
+   * Compiles a board or card configuration written by this class into the binary format.
+   *
+   * @param filename the text configuration within {@link #DIRECTORY}.
+   * @param board    whether the configuration is a board rather than a deck.
+   * @return the file name of the compiled configuration within {@link #DIRECTORY}.
+   */
+  static String compile(String filename, boolean board) {
+    String compiled = filename.replace(".config", board ? ".ttb" : ".ttc");
+    Path output = Paths.get(DIRECTORY, compiled);
+    try {
+      if (board) {
+        BinaryConfig.compileBoard(DIRECTORY, filename, output);
+      } else {
+        BinaryConfig.compileCards(DIRECTORY, filename, output);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot compile benchmark configuration " + filename, e);
+    }
+    return compiled;
+  }
+
+  /**
+   * Plays random cards at random empty cells until the given fraction of the board is full.
+   *
+   * @param model    the started game.
+   * @param fraction the fraction of card cells to fill.
+   * @param seed     the seed of the moves.
+   */
+  static void playRandomMoves(ThreeTriosGridModel model, double fraction, long seed) {
+    Random random = new Random(seed);
+    int moves = (int) (model.getLegalMoves().size() * fraction);
+    for (int move = 0; move < moves && !model.isGameOver(); move++) {
+      List<Position> legal = model.getLegalMoves();
+      List<Card> hand = model.getPlayerHand(model.getCurrentPlayer());
+      Position position = legal.get(random.nextInt(legal.size()));
+      model.playCardToCardCell(hand.get(random.nextInt(hand.size())), position.getRow(),
+              position.getCol());
+    }
+  }
+
+  /**
+   * Fills every cell but the bottom-left corner, starting from the top-right corner and moving
+   * left along each row. Every card is placed south or west of the cards already down, so with
+   * the cascade deck each move flips the opponent cards it touches and the last move, at the
+   * bottom-left corner, starts the longest cascade.
+   *
+   * @param model the started game on a cascade deck.
+   * @return the cell left empty.
+   */
+  static Position fillForCascade(ThreeTriosGridModel model) {
+    List<Position> order = new ArrayList<>();
+    for (int row = 0; row < model.getRows(); row++) {
+      for (int col = model.getCols() - 1; col >= 0; col--) {
+        order.add(new Position(row, col));
+      }
+    }
+    Position last = order.remove(order.size() - 1);
+    for (Position position : order) {
+      List<Card> hand = model.getPlayerHand(model.getCurrentPlayer());
+      model.playCardToCardCell(hand.get(0), position.getRow(), position.getCol());
+    }
+    return last;
+  }
+
+  private static void write(String filename, CharSequence config) {
+    try {
+      Path directory = Paths.get(DIRECTORY);
+      Files.createDirectories(directory);
+      Files.write(directory.resolve(filename),
+              config.toString().getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot write benchmark configuration " + filename, e);
+    }
+  }
+}
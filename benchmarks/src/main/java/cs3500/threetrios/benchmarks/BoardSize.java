@@ -0,0 +1,17 @@
+package cs3500.threetrios.benchmarks;
+
+/**
+ * The board sizes benchmarked. Every board is a square with an odd side and no holes, so it
+ * has an odd number of card cells.
+ */
+public enum BoardSize {
+  SMALL(5),
+  MEDIUM(11),
+  HUGE(41);
+
+  final int side;
+
+  BoardSize(int side) {
+    this.side = side;
+  }
+}
@@ -0,0 +1,72 @@
+package cs3500.threetrios.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.Position;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+
+/**
+ * Benchmarks {@link ThreeTriosGridModel#playCardToCardCell} on the last move of a cascade
+ * board, which flips a long chain of opponent cards. Each invocation plays on a fresh copy of
+ * the board, made outside the measured time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CascadeBenchmark {
+
+  @Param({"SMALL", "MEDIUM", "HUGE"})
+  private BoardSize size;
+
+  private ThreeTriosGridModel filled;
+  private Position last;
+  private ThreeTriosGridModel model;
+  private Card card;
+
+  /**
+   * Fills every cell but the one the cascade starts from.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    filled = BenchmarkBoards.startGame(size, true, 0);
+    last = BenchmarkBoards.fillForCascade(filled);
+  }
+
+  /**
+   * Copies the filled board for the next invocation.
+   */
+  @Setup(Level.Invocation)
+  public void copyBoard() {
+    model = (ThreeTriosGridModel) filled.getCopy();
+    card = model.getPlayerHand(model.getCurrentPlayer()).get(0);
+  }
+
+  /**
+   * Plays the last card, flipping the chain, and ends the game.
+   *
+   * @return the winner.
+   */
+  @Benchmark
+  public Player playCascade() {
+    model.playCardToCardCell(card, last.getRow(), last.getCol());
+    return model.getWinner();
+  }
+}
@@ -0,0 +1,144 @@
+package cs3500.threetrios.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Position;
+import cs3500.threetrios.model.ReadOnlyTTModel;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+
+/**
+ * Benchmarks the model operations the strategies and the simulations lean on: starting a game
+ * from its text or compiled configuration files, and simulating flips, copying and listing moves on a game that
+ * is half played.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+
+  private static final long SEED = 42;
+
+  @Param({"SMALL", "MEDIUM", "HUGE"})
+  private BoardSize size;
+
+  private String boardFile;
+  private String cardsFile;
+  private String compiledBoardFile;
+  private String compiledCardsFile;
+  private ThreeTriosGridModel halfPlayed;
+  private Card[] cards;
+  private Position[] cells;
+  private int next;
+
+  /**
+   * Writes the configurations and plays half of a random game.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    boardFile = BenchmarkBoards.writeBoard(size);
+    cardsFile = BenchmarkBoards.writeDeck(size, false, SEED);
+    compiledBoardFile = BenchmarkBoards.compile(boardFile, true);
+    compiledCardsFile = BenchmarkBoards.compile(cardsFile, false);
+    halfPlayed = BenchmarkBoards.startGame(size, false, SEED);
+    BenchmarkBoards.playRandomMoves(halfPlayed, 0.5, SEED);
+
+    // Every card in the hand to move paired with every empty cell, visited round robin.
+    List<Card> hand = halfPlayed.getPlayerHand(halfPlayed.getCurrentPlayer());
+    List<Position> legal = halfPlayed.getLegalMoves();
+    cards = new Card[hand.size() * legal.size()];
+    cells = new Position[cards.length];
+    for (int i = 0; i < cards.length; i++) {
+      cards[i] = hand.get(i / legal.size());
+      cells[i] = legal.get(i % legal.size());
+    }
+  }
+
+  /**
+   * Reads both configuration files, builds the board and deals the hands.
+   *
+   * @return the started game.
+   */
+  @Benchmark
+  public ThreeTriosGridModel startGame() {
+    ThreeTriosGridModel model = new ThreeTriosGridModel(new Random(SEED));
+    model.startGame(BenchmarkBoards.DIRECTORY, cardsFile, BenchmarkBoards.DIRECTORY, boardFile);
+    return model;
+  }
+
+  /**
+   * Loads both configurations compiled to the binary format, builds the board and deals the
+   * hands.
+   *
+   * @return the started game.
+   */
+  @Benchmark
+  public ThreeTriosGridModel startGameCompiled() {
+    ThreeTriosGridModel model = new ThreeTriosGridModel(new Random(SEED));
+    model.startGame(BenchmarkBoards.DIRECTORY, compiledCardsFile, BenchmarkBoards.DIRECTORY,
+            compiledBoardFile);
+    return model;
+  }
+
+  /**
+   * Simulates the cascade of one card at one empty cell, cycling through every pair.
+   *
+   * @return the number of flips.
+   */
+  @Benchmark
+  public int getPotentialFlips() {
+    int index = next;
+    next = index + 1 == cards.length ? 0 : index + 1;
+    Position cell = cells[index];
+    return halfPlayed.getPotentialFlips(cards[index], cell.getRow(), cell.getCol());
+  }
+
+  /**
+   * Computes the flips of every card in the hand at every empty cell.
+   *
+   * @return the flip matrix.
+   */
+  @Benchmark
+  public int[][] getFlipMatrix() {
+    return halfPlayed.getFlipMatrix(halfPlayed.getCurrentPlayer());
+  }
+
+  /**
+   * Deep copies the half-played game.
+   *
+   * @return the copy.
+   */
+  @Benchmark
+  public ReadOnlyTTModel getCopy() {
+    return halfPlayed.getCopy();
+  }
+
+  /**
+   * Lists the empty card cells of the half-played game.
+   *
+   * @param blackhole consumes the moves.
+   */
+  @Benchmark
+  public void getLegalMoves(Blackhole blackhole) {
+    blackhole.consume(halfPlayed.getLegalMoves());
+  }
+}
@@ -0,0 +1,70 @@
+package cs3500.threetrios.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.threetrios.model.ThreeTriosGridModel;
+import cs3500.threetrios.strategy.ScoredMove;
+import cs3500.threetrios.strategy.StrategicThreeTrios;
+import cs3500.threetrios.strategy.Strategies;
+
+/**
+ * Benchmarks one move decision of each of the simple strategies on a game that is a quarter
+ * played, when both hands are still large and most cells are empty. The model is only read,
+ * so the same game is reused for every invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+
+  private static final long SEED = 7;
+
+  /**
+   * The strategy names, as registered in {@link Strategies}: Corner, MaxCardFlip and
+   * HardToFlip.
+   */
+  @Param({"strategy1", "strategy2", "strategy3"})
+  private String strategyName;
+
+  @Param({"SMALL", "MEDIUM", "HUGE"})
+  private BoardSize size;
+
+  private StrategicThreeTrios strategy;
+  private ThreeTriosGridModel model;
+
+  /**
+   * Creates the strategy and plays a quarter of a random game.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    strategy = Strategies.create(strategyName);
+    model = BenchmarkBoards.startGame(size, false, SEED);
+    BenchmarkBoards.playRandomMoves(model, 0.25, SEED);
+  }
+
+  /**
+   * Picks the card and cell to play for the player to move.
+   *
+   * @return the chosen move.
+   */
+  @Benchmark
+  public ScoredMove optimalMove() {
+    return strategy.optimalMove(model, model.getCurrentPlayer());
+  }
+}
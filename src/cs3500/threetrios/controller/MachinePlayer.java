@@ -4,11 +4,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
-import cs3500.threetrios.model.Card;
 import cs3500.threetrios.model.Player;
 import cs3500.threetrios.model.Position;
 import cs3500.threetrios.model.ReadOnlyTTModel;
 import cs3500.threetrios.model.ThreeTriosGridModel;
+import cs3500.threetrios.strategy.EndgameSolver;
+import cs3500.threetrios.strategy.ScoredMove;
 import cs3500.threetrios.strategy.StrategicThreeTrios;
 import cs3500.threetrios.view.ViewListener;
 
@@ -39,6 +40,19 @@ public class MachinePlayer implements ThreeTriosPlayer {
     this.listeners = new ArrayList<>();
   }
 
+  /**
+   * Constructs a MachinePlayer that plays with the given strategy until at most endgameCells
+   * card cells are empty and then solves the rest of the game exactly.
+   * @param playerType the type of player like red or blue
+   * @param model the read-only model representing the current state of the game
+   * @param strategy the strategy used by this machine player before the endgame
+   * @param endgameCells the number of empty card cells at which the endgame solver takes over
+   */
+  public MachinePlayer(Player playerType, ReadOnlyTTModel model, StrategicThreeTrios strategy,
+                       int endgameCells) {
+    this(playerType, model, new EndgameSolver(Objects.requireNonNull(strategy), endgameCells));
+  }
+
   @Override
   public void addPlayerActionListener(ViewListener listener) {
     Objects.requireNonNull(listener);
@@ -51,18 +65,16 @@ public class MachinePlayer implements ThreeTriosPlayer {
     if (model.getCurrentPlayer() != playerType || model.isGameOver()) {
       return;
     }
-    Card card = strategy.optimalCard(model, playerType);
-    if (card != null) {
-      Position pos = strategy.optimalPosition(model, card, playerType);
-      if (pos != null) {
-        try {
-          this.model.playCardToCardCell(card, pos.getRow(), pos.getCol());
-          for (ViewListener listener : listeners) {
-            listener.gridCellClickedListener(pos.getRow(), pos.getCol());
-          }
-        } catch (IllegalArgumentException | IllegalStateException e) {
-          System.err.println("Machine player failed to make move: " + e.getMessage());
+    ScoredMove move = strategy.optimalMove(model, playerType);
+    if (move != null) {
+      Position pos = move.getPosition();
+      try {
+        this.model.playCardToCardCell(move.getCard(), pos.getRow(), pos.getCol());
+        for (ViewListener listener : listeners) {
+          listener.gridCellClickedListener(pos.getRow(), pos.getCol());
         }
+      } catch (IllegalArgumentException | IllegalStateException e) {
+        System.err.println("Machine player failed to make move: " + e.getMessage());
       }
     }
   }
@@ -7,9 +7,7 @@ import cs3500.threetrios.controller.ThreeTriosController;
 import cs3500.threetrios.controller.ThreeTriosPlayer;
 import cs3500.threetrios.model.Player;
 import cs3500.threetrios.model.ThreeTriosGridModel;
-import cs3500.threetrios.strategy.Corner;
-import cs3500.threetrios.strategy.MaxCardFlip;
-import cs3500.threetrios.strategy.HardToFlip;
+import cs3500.threetrios.strategy.Strategies;
 import cs3500.threetrios.view.ThreeTriosGUI;
 
 /**
@@ -24,7 +22,7 @@ public final class ThreeTrios {
    */
   public static void main(String[] args) {
     if (args.length != 2) {
-      System.out.println("Player types: human, strategy1, strategy2, strategy3");
+      System.out.println("Player types: human, " + String.join(", ", Strategies.names()));
       return;
     }
     ThreeTriosController.resetGameOverFlag();
@@ -48,17 +46,12 @@ public final class ThreeTrios {
 
   private static ThreeTriosPlayer createPlayer(String type, ThreeTriosGridModel model,
                                                Player player) {
-    switch (type.toLowerCase()) {
-      case "human":
-        return new HumanPlayer(player);
-      case "strategy1":
-        return new MachinePlayer(player, model, new Corner());
-      case "strategy2":
-        return new MachinePlayer(player, model, new MaxCardFlip());
-      case "strategy3":
-        return new MachinePlayer(player, model, new HardToFlip());
-      default:
-        throw new IllegalArgumentException("Invalid player type: " + type);
+    if (type.equalsIgnoreCase("human")) {
+      return new HumanPlayer(player);
     }
+    if (!Strategies.contains(type)) {
+      throw new IllegalArgumentException("Invalid player type: " + type);
+    }
+    return new MachinePlayer(player, model, Strategies.create(type));
   }
 }
\ No newline at end of file
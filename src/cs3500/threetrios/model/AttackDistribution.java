@@ -0,0 +1,59 @@
+package cs3500.threetrios.model;
+
+import java.util.Random;
+
+/**
+ * How the attack values of generated cards are distributed between 1 and A.
+ */
+public enum AttackDistribution {
+  /**
+   * Every attack value is equally likely.
+   */
+  UNIFORM {
+    @Override
+    int drawValue(Random random) {
+      return 1 + random.nextInt(10);
+    }
+  },
+  /**
+   * Values near the middle are most likely, like the sum of two dice.
+   */
+  BALANCED {
+    @Override
+    int drawValue(Random random) {
+      return 1 + (random.nextInt(10) + random.nextInt(10) + 1) / 2;
+    }
+  },
+  /**
+   * Low values are most likely: the lower of two uniform draws.
+   */
+  WEAK {
+    @Override
+    int drawValue(Random random) {
+      return 1 + Math.min(random.nextInt(10), random.nextInt(10));
+    }
+  },
+  /**
+   * High values are most likely: the higher of two uniform draws.
+   */
+  STRONG {
+    @Override
+    int drawValue(Random random) {
+      return 1 + Math.max(random.nextInt(10), random.nextInt(10));
+    }
+  };
+
+  private static final AttackValues[] VALUES = AttackValues.values();
+
+  /**
+   * Draws one attack value.
+   *
+   * @param random the source of randomness.
+   * @return the attack value.
+   */
+  public AttackValues draw(Random random) {
+    return VALUES[drawValue(random) - 1];
+  }
+
+  abstract int drawValue(Random random);
+}
@@ -0,0 +1,214 @@
+package cs3500.threetrios.model;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles board and card configuration files into a compact binary format that the config
+ * readers load without tokenising any text. startGame tells the formats apart by the magic
+ * number at the start of the file, so a compiled file can be passed anywhere a text
+ * configuration can.
+ *
+ * <p>All numbers are big-endian. A compiled board is the magic number, the number of rows and
+ * the number of columns as ints, then one bit per cell, row by row, packed into longs, with
+ * the bit set for a card cell and clear for a hole. A compiled deck is the magic number and the
+ * number of cards as ints, then two bytes per card holding the north, south, east and west
+ * attacks as 4-bit nibbles (the attack value minus one), then the length of every name in UTF-8
+ * bytes as an unsigned short, then all the names back to back.</p>
+ */
+public final class BinaryConfig {
+
+  // 0x89 then "TTB" and "TTC" in ASCII. Like PNG's signature, the leading byte is not ASCII
+  // and cannot start a UTF-8 character, so no text configuration is ever taken for a compiled
+  // one, whatever its first card is named.
+  static final int BOARD_MAGIC = 0x89545442;
+
+  static final int CARDS_MAGIC = 0x89545443;
+
+  private static final AttackValues[] ATTACKS = AttackValues.values();
+
+  private BinaryConfig() {
+  }
+
+  /**
+   * Compiles a text board configuration into the binary format.
+   *
+   * @param directory the directory of the text configuration.
+   * @param filename  the name of the text configuration.
+   * @param output    the file to write, replaced if it exists.
+   * @throws IllegalArgumentException if an argument is null or the configuration is invalid.
+   * @throws IOException              if a file cannot be read or written.
+   */
+  public static void compileBoard(String directory, String filename, Path output)
+          throws IOException {
+    if (output == null) {
+      throw new IllegalArgumentException("compileBoard args cannot be null");
+    }
+    write(output, encodeBoard(ConfigReader.readTopology(directory, filename)));
+  }
+
+  /**
+   * Compiles a text card configuration into the binary format.
+   *
+   * @param directory the directory of the text configuration.
+   * @param filename  the name of the text configuration.
+   * @param output    the file to write, replaced if it exists.
+   * @throws IllegalArgumentException if an argument is null or the configuration is invalid.
+   * @throws IOException              if a file cannot be read or written.
+   */
+  public static void compileCards(String directory, String filename, Path output)
+          throws IOException {
+    if (output == null) {
+      throw new IllegalArgumentException("compileCards args cannot be null");
+    }
+    write(output, encodeCards(ConfigReader.readCards(directory, filename)));
+  }
+
+  /**
+   * Encodes a board topology.
+   *
+   * @param topology the topology.
+   * @return the compiled board.
+   */
+  static byte[] encodeBoard(BoardTopology topology) {
+    int rows = topology.getRows();
+    int cols = topology.getCols();
+    int words = BoardTopology.wordsFor(rows, cols);
+    ByteBuffer buffer = ByteBuffer.allocate(12 + 8 * words);
+    buffer.putInt(BOARD_MAGIC).putInt(rows).putInt(cols);
+    for (int word = 0; word < words; word++) {
+      buffer.putLong(topology.getCardCellWord(word));
+    }
+    return buffer.array();
+  }
+
+  /**
+   * Encodes a deck.
+   *
+   * @param cards the cards, with unique names of at most 65535 UTF-8 bytes.
+   * @return the compiled deck.
+   * @throws IllegalArgumentException if a name is too long.
+   */
+  static byte[] encodeCards(List<Card> cards) {
+    byte[][] names = new byte[cards.size()][];
+    int nameBytes = 0;
+    for (int i = 0; i < names.length; i++) {
+      names[i] = cards.get(i).getName().getBytes(StandardCharsets.UTF_8);
+      if (names[i].length > 0xFFFF) {
+        throw new IllegalArgumentException("Card name too long: " + cards.get(i).getName());
+      }
+      nameBytes += names[i].length;
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(8 + 4 * names.length + nameBytes);
+    buffer.putInt(CARDS_MAGIC).putInt(names.length);
+    for (Card card : cards) {
+      buffer.put(nibbles(card.getNorthAttack(), card.getSouthAttack()));
+      buffer.put(nibbles(card.getEastAttack(), card.getWestAttack()));
+    }
+    for (byte[] name : names) {
+      buffer.putShort((short) name.length);
+    }
+    for (byte[] name : names) {
+      buffer.put(name);
+    }
+    return buffer.array();
+  }
+
+  /**
+   * Decodes a compiled board.
+   *
+   * @param buffer the whole compiled file, magic number included.
+   * @return the topology of the board.
+   * @throws IllegalArgumentException if the buffer is not a valid compiled board.
+   */
+  static BoardTopology decodeBoard(ByteBuffer buffer) {
+    try {
+      if (buffer.getInt() != BOARD_MAGIC) {
+        throw new IllegalArgumentException("Not a compiled board");
+      }
+      int rows = buffer.getInt();
+      int cols = buffer.getInt();
+      if (rows < 0 || cols < 0 || (long) rows * cols > Integer.MAX_VALUE - 8
+              || buffer.remaining() != 8L * BoardTopology.wordsFor(rows, cols)) {
+        throw new IllegalArgumentException("Invalid compiled board size");
+      }
+      long[] cardCells = new long[BoardTopology.wordsFor(rows, cols)];
+      buffer.asLongBuffer().get(cardCells);
+      int spare = (int) (((long) rows * cols) & 63);
+      if (spare != 0 && cardCells[cardCells.length - 1] >>> spare != 0) {
+        throw new IllegalArgumentException("Invalid compiled board size");
+      }
+      return new BoardTopology(rows, cols, cardCells);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated compiled board", e);
+    }
+  }
+
+  /**
+   * Decodes a compiled deck.
+   *
+   * @param buffer the whole compiled file, magic number included.
+   * @return the cards in the order they were compiled.
+   * @throws IllegalArgumentException if the buffer is not a valid compiled deck or two cards
+   *                                  share a name.
+   */
+  static List<Card> decodeCards(ByteBuffer buffer) {
+    try {
+      if (buffer.getInt() != CARDS_MAGIC) {
+        throw new IllegalArgumentException("Not a compiled deck");
+      }
+      int count = buffer.getInt();
+      if (count < 0 || count > buffer.remaining() / 4) {
+        throw new IllegalArgumentException("Invalid compiled deck size");
+      }
+      int attacks = buffer.position();
+      int lengths = attacks + 2 * count;
+      int names = lengths + 2 * count;
+      List<Card> cards = new ArrayList<>(count);
+      for (int card = 0; card < count; card++) {
+        int length = buffer.getShort(lengths + 2 * card) & 0xFFFF;
+        byte[] name = new byte[length];
+        buffer.position(names);
+        buffer.get(name);
+        names += length;
+        int northSouth = buffer.get(attacks + 2 * card);
+        int eastWest = buffer.get(attacks + 2 * card + 1);
+        cards.add(new Card(new String(name, StandardCharsets.UTF_8), attack(northSouth >> 4),
+                attack(northSouth), attack(eastWest >> 4), attack(eastWest)));
+      }
+      if (names != buffer.limit()) {
+        throw new IllegalArgumentException("Invalid compiled deck size");
+      }
+      ConfigReader.requireUniqueNames(cards);
+      return cards;
+    } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Truncated compiled deck", e);
+    }
+  }
+
+  private static byte nibbles(AttackValues high, AttackValues low) {
+    return (byte) (high.ordinal() << 4 | low.ordinal());
+  }
+
+  private static AttackValues attack(int nibble) {
+    int ordinal = nibble & 0xF;
+    if (ordinal >= ATTACKS.length) {
+      throw new IllegalArgumentException("Invalid compiled attack value: " + ordinal);
+    }
+    return ATTACKS[ordinal];
+  }
+
+  private static void write(Path output, byte[] bytes) throws IOException {
+    Path parent = output.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Files.write(output, bytes);
+  }
+}
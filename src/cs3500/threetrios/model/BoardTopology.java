@@ -0,0 +1,220 @@
+package cs3500.threetrios.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The layout of a board: its dimensions and which cells are card cells. Cells are numbered
+ * row by row, so the cell at (row, col) has index row * cols + col, and the card cells are
+ * packed one bit per cell. Card cells also have a dense index of their own, 0 to
+ * getCardCellCount() - 1 in the same row by row order, which per-game state is indexed by.
+ *
+ * <p>A topology never changes once it is built, so every game on the same board shares one.
+ * The tables of card cell positions and neighbouring card cells are built the first time they
+ * are asked for and then shared too. Every game fetches them when it starts, so a board pays
+ * for them once however many games are played on it; only code that reads a layout without
+ * playing on it, such as compiling a binary config, never builds them.</p>
+ */
+final class BoardTopology {
+  static final int[] ROW_STEPS = {-1, 1, 0, 0}; // Indexed by Direction ordinal.
+  static final int[] COL_STEPS = {0, 0, 1, -1}; // Indexed by Direction ordinal.
+
+  private final int rows;
+  private final int cols;
+  private final long[] cardCells; // Bit i is set if cell i is a card cell.
+  private final int[] ranks; // Number of card cells before each word of cardCells.
+  private final int cardCellCount;
+  private volatile int[] cells; // Cell index of each card cell, built on first use.
+  private volatile int[] neighbours; // Built on first use, see getNeighbours().
+  private volatile NeighbourTable table; // Read-only view of the tables, built on first use.
+
+  /**
+   * Creates a topology from a packed bitmap of card cells.
+   *
+   * @param rows      the number of rows.
+   * @param cols      the number of columns.
+   * @param cardCells the card cell bits, which the topology takes ownership of.
+   * @throws IllegalArgumentException if the bitmap does not have one bit per cell.
+   */
+  BoardTopology(int rows, int cols, long[] cardCells) {
+    if (rows < 0 || cols < 0 || cardCells.length != wordsFor(rows, cols)) {
+      throw new IllegalArgumentException("Card cell bitmap does not match the board size");
+    }
+    this.rows = rows;
+    this.cols = cols;
+    this.cardCells = cardCells;
+    this.ranks = new int[cardCells.length];
+    int count = 0;
+    for (int word = 0; word < cardCells.length; word++) {
+      ranks[word] = count;
+      count += Long.bitCount(cardCells[word]);
+    }
+    this.cardCellCount = count;
+  }
+
+  /**
+   * Creates a topology from the rows of a parsed grid.
+   *
+   * @param grid the rows of the grid, top to bottom, all of the same length.
+   * @return the topology of the grid.
+   */
+  static BoardTopology fromGrid(List<List<CellType>> grid) {
+    int rows = grid.size();
+    int cols = rows == 0 ? 0 : grid.get(0).size();
+    long[] cardCells = new long[wordsFor(rows, cols)];
+    for (int row = 0; row < rows; row++) {
+      List<CellType> gridRow = grid.get(row);
+      for (int col = 0; col < cols; col++) {
+        if (gridRow.get(col) == CellType.CARD_CELL) {
+          int cell = row * cols + col;
+          cardCells[cell >>> 6] |= 1L << cell;
+        }
+      }
+    }
+    return new BoardTopology(rows, cols, cardCells);
+  }
+
+  /**
+   * Gets the number of 64-bit words needed for one bit per cell of a board.
+   */
+  static int wordsFor(int rows, int cols) {
+    return (int) (((long) rows * cols + 63) >>> 6);
+  }
+
+  int getRows() {
+    return rows;
+  }
+
+  int getCols() {
+    return cols;
+  }
+
+  int getCardCellCount() {
+    return cardCellCount;
+  }
+
+  /**
+   * Checks whether a cell is a card cell.
+   *
+   * @param cell the index of the cell, row * cols + col.
+   * @return true if the cell is a card cell, false if it is a hole.
+   */
+  boolean isCardCell(int cell) {
+    return (cardCells[cell >>> 6] & (1L << cell)) != 0;
+  }
+
+  /**
+   * Gets the dense index of a card cell.
+   *
+   * @param cell the index of the cell, row * cols + col.
+   * @return the card cell index, or -1 if the cell is a hole.
+   */
+  int getCardCellIndex(int cell) {
+    long word = cardCells[cell >>> 6];
+    long bit = 1L << cell;
+    if ((word & bit) == 0) {
+      return -1;
+    }
+    return ranks[cell >>> 6] + Long.bitCount(word & (bit - 1));
+  }
+
+  /**
+   * Gets the dense index of the card cell at a position.
+   *
+   * @param row the row, which may be outside the board.
+   * @param col the column, which may be outside the board.
+   * @return the card cell index, or -1 if the position is off the board or a hole.
+   */
+  int getCardCellIndex(int row, int col) {
+    if (row < 0 || row >= rows || col < 0 || col >= cols) {
+      return -1;
+    }
+    return getCardCellIndex(row * cols + col);
+  }
+
+  /**
+   * Gets the cell index, row * cols + col, of every card cell.
+   *
+   * @return the cell indexes by card cell index; the array is shared and must not be changed.
+   */
+  int[] getCells() {
+    int[] result = cells;
+    if (result == null) {
+      result = new int[cardCellCount];
+      int next = 0;
+      for (int word = 0; word < cardCells.length; word++) {
+        for (long bits = cardCells[word]; bits != 0; bits &= bits - 1) {
+          result[next++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+        }
+      }
+      cells = result;
+    }
+    return result;
+  }
+
+  /**
+   * Gets the table of neighbouring card cells. The neighbour of card cell k in a direction is
+   * at index k * 4 + direction.ordinal(), and is the card cell index of the adjacent cell, or
+   * -1 if that side is the edge of the board or a hole.
+   *
+   * @return the neighbour table; the array is shared and must not be changed.
+   */
+  int[] getNeighbours() {
+    int[] result = neighbours;
+    if (result == null) {
+      int[] cellIndexes = getCells();
+      result = new int[cardCellCount * 4];
+      for (int cardCell = 0; cardCell < cardCellCount; cardCell++) {
+        int row = cellIndexes[cardCell] / cols;
+        int col = cellIndexes[cardCell] % cols;
+        for (int direction = 0; direction < 4; direction++) {
+          result[cardCell * 4 + direction] =
+                  getCardCellIndex(row + ROW_STEPS[direction], col + COL_STEPS[direction]);
+        }
+      }
+      neighbours = result;
+    }
+    return result;
+  }
+
+  /**
+   * Gets the read-only view of the neighbour table that models hand to strategies.
+   *
+   * @return the shared neighbour table of this board.
+   */
+  NeighbourTable getNeighbourTable() {
+    NeighbourTable result = table;
+    if (result == null) {
+      result = new NeighbourTable(this);
+      table = result;
+    }
+    return result;
+  }
+
+  /**
+   * Gets 64 cells of the card cell bitmap.
+   *
+   * @param word the index of the word; bit i of word w is cell 64 * w + i.
+   * @return the card cell bits of the word.
+   */
+  long getCardCellWord(int word) {
+    return cardCells[word];
+  }
+
+  /**
+   * Expands the topology into rows of cell types, as the grid parser returns them.
+   *
+   * @return the rows of the grid, top to bottom.
+   */
+  List<List<CellType>> toGrid() {
+    List<List<CellType>> grid = new ArrayList<>(rows);
+    for (int row = 0; row < rows; row++) {
+      List<CellType> gridRow = new ArrayList<>(cols);
+      for (int col = 0; col < cols; col++) {
+        gridRow.add(isCardCell(row * cols + col) ? CellType.CARD_CELL : CellType.HOLE);
+      }
+      grid.add(gridRow);
+    }
+    return grid;
+  }
+}
@@ -0,0 +1,200 @@
+package cs3500.threetrios.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A process-wide cache of parsed configuration files, shared by every game, so starting many
+ * games on the same board and deck parses each file once. Boards are cached as their immutable
+ * BoardTopology, along with the cell tables games build on it, and decks as unmodifiable lists
+ * of the immutable cards; a game copies the deck list before shuffling it, so only its own
+ * mutable state is allocated.
+ *
+ * <p>Files on disk are keyed by their absolute, normalized path, so every spelling of the same
+ * file shares one entry; a file inside a jar, which has no such path, is keyed by the
+ * directory and name it was asked for. A file on disk is parsed again when its
+ * modification time or size changes; a file inside a jar never changes while the game runs.
+ * The cache holds up to {@link #MAX_WEIGHT} estimated bytes of parsed configurations and
+ * evicts the least recently used ones beyond that, and a configuration bigger than the whole
+ * cache is not cached at all. Lookups are synchronized, but parsing happens outside the lock,
+ * so two games starting on a new file at the same time may both parse it.</p>
+ */
+final class ConfigCache {
+
+  // Estimated bytes of parsed configurations kept at most.
+  static final long MAX_WEIGHT = 64L << 20;
+
+  // Estimated bytes of a card beyond its name.
+  private static final int CARD_WEIGHT = 96;
+
+  private static final Map<String, Entry> ENTRIES = new LinkedHashMap<>(16, 0.75f, true);
+
+  private static long totalWeight;
+
+  private ConfigCache() {
+  }
+
+  /**
+   * Reads a grid configuration file through the cache, as {@link ConfigReader#readTopology}.
+   *
+   * @param directory the directory must not be null.
+   * @param filename  the name of the grid configuration file cannot be null.
+   * @return the shared topology of the grid.
+   * @throws IllegalArgumentException if directory or file is null or format is invalid format.
+   * @throws IOException              IO error when the reading in the file.
+   */
+  static BoardTopology readTopology(String directory, String filename) throws IOException {
+    if (directory == null || filename == null) {
+      throw new IllegalArgumentException("readGridConfig args cannot be null");
+    }
+    Path path = locate(directory, filename);
+    String key = key("board:", path, directory, filename);
+    BasicFileAttributes attributes = attributes(path);
+    BoardTopology topology = (BoardTopology) lookup(key, path, attributes);
+    if (topology == null) {
+      topology = ConfigReader.readTopology(directory, filename);
+      // The bitmap and ranks, plus the cell and neighbour tables games build on first use.
+      store(key, path, attributes, topology,
+              12L * BoardTopology.wordsFor(topology.getRows(), topology.getCols())
+                      + 20L * topology.getCardCellCount() + 64);
+    }
+    return topology;
+  }
+
+  /**
+   * Reads a card configuration file through the cache, as {@link ConfigReader#readCards}.
+   *
+   * @param directory the directory where the card config file is located; not be null
+   * @param filename  the name of the card configuration file; must not be {@code null}
+   * @return the shared, unmodifiable cards in the order they appear in the file.
+   * @throws IllegalArgumentException if an argument is null, if there are duplicate card names,
+   *                                  or if the file format is invalid
+   * @throws IOException              if an IO error occurs while reading the file.
+   */
+  @SuppressWarnings("unchecked")
+  static List<Card> readCards(String directory, String filename) throws IOException {
+    if (directory == null || filename == null) {
+      throw new IllegalArgumentException("readCardConfig args cannot be null");
+    }
+    Path path = locate(directory, filename);
+    String key = key("cards:", path, directory, filename);
+    BasicFileAttributes attributes = attributes(path);
+    List<Card> cards = (List<Card>) lookup(key, path, attributes);
+    if (cards == null) {
+      cards = Collections.unmodifiableList(ConfigReader.readCards(directory, filename));
+      long weight = 64;
+      for (Card card : cards) {
+        weight += CARD_WEIGHT + 2L * card.getName().length();
+      }
+      store(key, path, attributes, cards, weight);
+    }
+    return cards;
+  }
+
+  /**
+   * Finds a configuration file on disk as {@link ConfigReader#locate}, as an absolute,
+   * normalized path.
+   *
+   * @return the path of the file, or null if it is a classpath resource that is not a file.
+   */
+  private static Path locate(String directory, String filename) {
+    Path path = ConfigReader.locate(directory, filename);
+    return path == null ? null : path.toAbsolutePath().normalize();
+  }
+
+  /**
+   * Gets the cache key of a configuration file: its path on disk, or the name it was asked for
+   * if it is not on disk.
+   */
+  private static String key(String kind, Path path, String directory, String filename) {
+    return kind + (path == null ? directory + "/" + filename : path.toString());
+  }
+
+  /**
+   * Reads the modification time and size of a file on disk.
+   *
+   * @return the attributes, or null if the file is not on disk or cannot be read, in which case
+   *         it is treated as never changing or left to the reader to report.
+   */
+  private static BasicFileAttributes attributes(Path path) {
+    if (path == null) {
+      return null;
+    }
+    try {
+      return Files.readAttributes(path, BasicFileAttributes.class);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private static synchronized Object lookup(String key, Path path,
+                                            BasicFileAttributes attributes) {
+    Entry entry = ENTRIES.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (!entry.matches(path, attributes)) {
+      remove(key);
+      return null;
+    }
+    return entry.value;
+  }
+
+  private static synchronized void store(String key, Path path, BasicFileAttributes attributes,
+                                         Object value, long weight) {
+    if ((path != null && attributes == null) || weight > MAX_WEIGHT) {
+      return;
+    }
+    remove(key);
+    ENTRIES.put(key, new Entry(path, attributes, value, weight));
+    totalWeight += weight;
+    Iterator<Entry> eldest = ENTRIES.values().iterator();
+    while (totalWeight > MAX_WEIGHT) {
+      totalWeight -= eldest.next().weight;
+      eldest.remove();
+    }
+  }
+
+  private static void remove(String key) {
+    Entry removed = ENTRIES.remove(key);
+    if (removed != null) {
+      totalWeight -= removed.weight;
+    }
+  }
+
+  /**
+   * A parsed configuration with the version of the file it was parsed from.
+   */
+  private static final class Entry {
+    private final Path path;
+    private final FileTime modified;
+    private final long size;
+    private final Object value;
+    private final long weight;
+
+    Entry(Path path, BasicFileAttributes attributes, Object value, long weight) {
+      this.path = path;
+      this.modified = attributes == null ? null : attributes.lastModifiedTime();
+      this.size = attributes == null ? 0 : attributes.size();
+      this.value = value;
+      this.weight = weight;
+    }
+
+    boolean matches(Path path, BasicFileAttributes attributes) {
+      if (this.path == null || path == null) {
+        return this.path == null && path == null;
+      }
+      return attributes != null && this.path.equals(path)
+              && modified.equals(attributes.lastModifiedTime())
+              && size == attributes.size();
+    }
+  }
+}
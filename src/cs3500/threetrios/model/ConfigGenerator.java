@@ -0,0 +1,288 @@
+package cs3500.threetrios.model;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates random board and card configurations in the format the configuration files use,
+ * either as lines to write to a file or, for cards, as Card objects to pass straight to
+ * {@link GameGridModel#createGrid(List, List)}.
+ *
+ * <p>Generated boards always have an odd number of card cells, and every card cell can be
+ * reached from every other through card cells, so a cascade is never cut off by a wall of
+ * holes. Holes are first scattered independently with the given density; any card cells cut
+ * off from the largest region are then joined to it along a shortest path, opening the holes
+ * on the way, so the actual density can be a little lower than asked.</p>
+ */
+public final class ConfigGenerator {
+
+  // The order attack values are listed in on a card line.
+  private static final Direction[] FILE_ORDER = {Direction.NORTH, Direction.SOUTH,
+      Direction.EAST, Direction.WEST};
+
+  private static final int[] ROW_STEPS = {-1, 1, 0, 0};
+
+  private static final int[] COL_STEPS = {0, 0, 1, -1};
+
+  private ConfigGenerator() {
+  }
+
+  /**
+   * Generates a board configuration.
+   *
+   * @param rows        the number of rows.
+   * @param cols        the number of columns.
+   * @param holeDensity the chance of each cell being a hole, at least 0 and below 1.
+   * @param random      the source of randomness.
+   * @return the dimensions line followed by one line per row.
+   * @throws IllegalArgumentException if a dimension is not positive, the board has more cells
+   *                                  than an int can index, the density is out of range or
+   *                                  random is null.
+   */
+  public static List<String> generateBoard(int rows, int cols, double holeDensity,
+                                           Random random) {
+    if (rows < 1 || cols < 1 || (long) rows * cols > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("Invalid board dimensions: " + rows + " " + cols);
+    }
+    if (!(holeDensity >= 0 && holeDensity < 1)) {
+      throw new IllegalArgumentException("Hole density must be at least 0 and below 1");
+    }
+    if (random == null) {
+      throw new IllegalArgumentException("Random cannot be null");
+    }
+    int size = rows * cols;
+    boolean[] cardCells = new boolean[size];
+    boolean anyCardCell = false;
+    for (int cell = 0; cell < size; cell++) {
+      cardCells[cell] = random.nextDouble() >= holeDensity;
+      anyCardCell |= cardCells[cell];
+    }
+    if (!anyCardCell) {
+      cardCells[random.nextInt(size)] = true;
+    }
+    connect(cardCells, rows, cols);
+    makeOdd(cardCells, rows, cols);
+
+    List<String> lines = new ArrayList<>(rows + 1);
+    lines.add(rows + " " + cols);
+    char[] line = new char[cols];
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        line[col] = cardCells[row * cols + col] ? 'C' : 'X';
+      }
+      lines.add(new String(line));
+    }
+    return lines;
+  }
+
+  /**
+   * Generates a deck of cards named Card0, Card1 and so on.
+   *
+   * @param count        the number of cards.
+   * @param distribution how the attack values are distributed.
+   * @param random       the source of randomness.
+   * @return the cards.
+   * @throws IllegalArgumentException if count is negative or an argument is null.
+   */
+  public static List<Card> generateCards(int count, AttackDistribution distribution,
+                                         Random random) {
+    if (count < 0) {
+      throw new IllegalArgumentException("Card count cannot be negative");
+    }
+    if (distribution == null || random == null) {
+      throw new IllegalArgumentException("Distribution and random cannot be null");
+    }
+    List<Card> cards = new ArrayList<>(count);
+    for (int card = 0; card < count; card++) {
+      cards.add(new Card("Card" + card, distribution.draw(random), distribution.draw(random),
+              distribution.draw(random), distribution.draw(random)));
+    }
+    return cards;
+  }
+
+  /**
+   * Formats cards as the lines of a card configuration.
+   *
+   * @param cards the cards.
+   * @return one line per card: name, then the north, south, east and west attacks.
+   * @throws IllegalArgumentException if cards is null.
+   */
+  public static List<String> toCardLines(List<Card> cards) {
+    if (cards == null) {
+      throw new IllegalArgumentException("Cards cannot be null");
+    }
+    List<String> lines = new ArrayList<>(cards.size());
+    StringBuilder line = new StringBuilder();
+    for (Card card : cards) {
+      line.setLength(0);
+      line.append(card.getName());
+      for (Direction direction : FILE_ORDER) {
+        int value = card.getAttackValue(direction);
+        line.append(' ').append(value == 10 ? "A" : String.valueOf(value));
+      }
+      lines.add(line.toString());
+    }
+    return lines;
+  }
+
+  /**
+   * Writes configuration lines to a file, replacing it if it exists.
+   *
+   * @param file  the file to write.
+   * @param lines the lines of the configuration.
+   * @throws IllegalArgumentException if an argument is null.
+   * @throws IOException              if the file cannot be written.
+   */
+  public static void write(Path file, List<String> lines) throws IOException {
+    if (file == null || lines == null) {
+      throw new IllegalArgumentException("write args cannot be null");
+    }
+    Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Files.write(file, lines, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Joins every card cell to the largest region of card cells. A breadth-first search from the
+   * largest region over the whole board gives every cell a parent one step closer to it, and
+   * each cut-off region follows the parents from one of its cells, opening holes, until it
+   * meets a cell that is already joined.
+   */
+  private static void connect(boolean[] cardCells, int rows, int cols) {
+    int size = rows * cols;
+    int[] region = new int[size];
+    Arrays.fill(region, -1);
+    int[] queue = new int[size];
+    int regions = 0;
+    int largest = 0;
+    int largestSize = 0;
+    for (int start = 0; start < size; start++) {
+      if (!cardCells[start] || region[start] != -1) {
+        continue;
+      }
+      int head = 0;
+      int tail = 0;
+      queue[tail++] = start;
+      region[start] = regions;
+      while (head < tail) {
+        int cell = queue[head++];
+        for (int direction = 0; direction < ROW_STEPS.length; direction++) {
+          int next = step(cell, direction, rows, cols);
+          if (next != -1 && cardCells[next] && region[next] == -1) {
+            region[next] = regions;
+            queue[tail++] = next;
+          }
+        }
+      }
+      if (tail > largestSize) {
+        largestSize = tail;
+        largest = regions;
+      }
+      regions++;
+    }
+    if (regions < 2) {
+      return;
+    }
+
+    int[] parent = new int[size];
+    Arrays.fill(parent, -1);
+    int head = 0;
+    int tail = 0;
+    for (int cell = 0; cell < size; cell++) {
+      if (region[cell] == largest) {
+        parent[cell] = cell;
+        queue[tail++] = cell;
+      }
+    }
+    while (head < tail) {
+      int cell = queue[head++];
+      for (int direction = 0; direction < ROW_STEPS.length; direction++) {
+        int next = step(cell, direction, rows, cols);
+        if (next != -1 && parent[next] == -1) {
+          parent[next] = cell;
+          queue[tail++] = next;
+        }
+      }
+    }
+
+    // joinedBy[r] is the walk that joined region r, 0 while it is cut off. A walk may cross
+    // other cut-off regions; it stops at the first cell joined by an earlier walk.
+    int[] joinedBy = new int[regions];
+    boolean[] opened = new boolean[size];
+    joinedBy[largest] = -1;
+    int walk = 0;
+    for (int start = 0; start < size; start++) {
+      if (region[start] == -1 || joinedBy[region[start]] != 0) {
+        continue;
+      }
+      walk++;
+      joinedBy[region[start]] = walk;
+      int cell = parent[start];
+      while (!opened[cell]) {
+        int cellRegion = region[cell];
+        if (cellRegion == -1) {
+          cardCells[cell] = true;
+          opened[cell] = true;
+        } else if (joinedBy[cellRegion] == 0) {
+          joinedBy[cellRegion] = walk;
+        } else if (joinedBy[cellRegion] != walk) {
+          break;
+        }
+        cell = parent[cell];
+      }
+    }
+  }
+
+  /**
+   * Turns one card cell into a hole if there is an even number of them. The last cell a
+   * breadth-first search reaches is a leaf of the search tree, so removing it leaves the other
+   * card cells connected.
+   */
+  private static void makeOdd(boolean[] cardCells, int rows, int cols) {
+    int count = 0;
+    int start = -1;
+    for (int cell = 0; cell < cardCells.length; cell++) {
+      if (cardCells[cell]) {
+        count++;
+        start = cell;
+      }
+    }
+    if (count % 2 == 1) {
+      return;
+    }
+    boolean[] seen = new boolean[cardCells.length];
+    int[] queue = new int[count];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = start;
+    seen[start] = true;
+    while (head < tail) {
+      int cell = queue[head++];
+      for (int direction = 0; direction < ROW_STEPS.length; direction++) {
+        int next = step(cell, direction, rows, cols);
+        if (next != -1 && cardCells[next] && !seen[next]) {
+          seen[next] = true;
+          queue[tail++] = next;
+        }
+      }
+    }
+    cardCells[queue[tail - 1]] = false;
+  }
+
+  /**
+   * Gets the index of the cell one step from a cell, or -1 if the step leaves the board.
+   */
+  private static int step(int cell, int direction, int rows, int cols) {
+    int row = cell / cols + ROW_STEPS[direction];
+    int col = cell % cols + COL_STEPS[direction];
+    return row < 0 || row >= rows || col < 0 || col >= cols ? -1 : row * cols + col;
+  }
+}
@@ -0,0 +1,465 @@
+package cs3500.threetrios.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads the board and card configuration files shared by every model implementation.
+ * Files are looked up on the classpath first and then relative to the working directory.
+ */
+final class ConfigReader {
+
+  // Largest part of a grid file mapped into memory at once.
+  private static final long MAP_WINDOW = 1L << 30;
+
+  private ConfigReader() {
+  }
+
+  /**
+   * Reads and parses a grid configuration file. The first line holds the number of rows and
+   * columns, each following line holds one row of 'C' (card cell) and 'X' (hole) characters.
+   *
+   * @param directory the directory must not be null.
+   * @param filename  the name of the grid configuration file cannot be null.
+   * @return the rows of the grid, top to bottom.
+   * @throws IllegalArgumentException if directory or file is null or format is invalid format.
+   * @throws IOException              IO error when the reading in the file.
+   */
+  static List<List<CellType>> readGrid(String directory, String filename) throws IOException {
+    return readTopology(directory, filename).toGrid();
+  }
+
+  /**
+   * Reads a grid configuration file, in the format described in
+   * {@link #readGrid(String, String)}, straight into a packed topology. A file on disk is
+   * memory-mapped and decoded byte by byte, checking each row as it goes, so no line Strings
+   * or cell type lists are created; a file inside a jar is read as text instead. A board
+   * compiled by {@link BinaryConfig} is recognised by its magic number and loaded directly.
+   *
+   * @param directory the directory must not be null.
+   * @param filename  the name of the grid configuration file cannot be null.
+   * @return the topology of the grid.
+   * @throws IllegalArgumentException if directory or file is null or format is invalid format.
+   * @throws IOException              IO error when the reading in the file.
+   */
+  static BoardTopology readTopology(String directory, String filename) throws IOException {
+    if (directory == null || filename == null) {
+      throw new IllegalArgumentException("readGridConfig args cannot be null");
+    }
+
+    Path path = locate(directory, filename);
+    if (path == null) {
+      try (BufferedInputStream input = new BufferedInputStream(open(directory, filename))) {
+        if (startsWith(input, BinaryConfig.BOARD_MAGIC)) {
+          return BinaryConfig.decodeBoard(ByteBuffer.wrap(input.readAllBytes()));
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input));
+        return BoardTopology.fromGrid(parseGrid(reader.lines().iterator()));
+      }
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      ByteBuffer magic = ByteBuffer.allocate(4);
+      channel.read(magic, 0);
+      if (!magic.hasRemaining() && magic.getInt(0) == BinaryConfig.BOARD_MAGIC) {
+        if (size > Integer.MAX_VALUE) {
+          throw new IllegalArgumentException("Compiled board too large");
+        }
+        return BinaryConfig.decodeBoard(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+      }
+      GridDecoder decoder = new GridDecoder();
+      for (long position = 0; position < size; position += MAP_WINDOW) {
+        decoder.decode(channel.map(FileChannel.MapMode.READ_ONLY, position,
+                Math.min(MAP_WINDOW, size - position)));
+      }
+      return decoder.finish();
+    }
+  }
+
+  /**
+   * Parses the lines of a grid configuration, in the same format as the file read by
+   * {@link #readGrid(String, String)}. Lines after the last row are ignored.
+   *
+   * @param lines the lines of the configuration, starting with the dimensions line.
+   * @return the rows of the grid, top to bottom.
+   * @throws IllegalArgumentException if the lines are not a valid grid configuration.
+   */
+  static List<List<CellType>> parseGrid(Iterator<String> lines) {
+    if (!lines.hasNext()) {
+      throw new IllegalArgumentException("Empty grid configuration file");
+    }
+    String line = lines.next();
+    int[] dimensions = parseDimensions(line);
+    int numRows = dimensions[0];
+    int numCols = dimensions[1];
+
+    List<List<CellType>> grid = new ArrayList<>(numRows);
+    for (int row = 0; row < numRows; row++) {
+      if (!lines.hasNext()) {
+        throw new IllegalArgumentException("Not enough rows in grid configuration file");
+      }
+      line = lines.next().trim();
+      if (line.length() != numCols) {
+        throw new IllegalArgumentException("Invalid number of columns in row " + (row + 1));
+      }
+      List<CellType> gridRow = new ArrayList<>(numCols);
+      for (int col = 0; col < numCols; col++) {
+        char c = line.charAt(col);
+        if (c == 'C' || c == 'c') {
+          gridRow.add(CellType.CARD_CELL);
+        } else if (c == 'X' || c == 'x') {
+          gridRow.add(CellType.HOLE);
+        } else {
+          throw new IllegalArgumentException("Invalid character in grid");
+        }
+      }
+      grid.add(gridRow);
+    }
+    return grid;
+  }
+
+  /**
+   * Parses the dimensions line of a grid configuration.
+   *
+   * @param line the first line of the configuration.
+   * @return the number of rows and the number of columns.
+   * @throws IllegalArgumentException if the line is not two valid dimensions.
+   */
+  private static int[] parseDimensions(String line) {
+    String[] rowCol = line.trim().split("\\s+");
+    if (rowCol.length != 2) {
+      throw new IllegalArgumentException("Invalid grid dimensions line: " + line);
+    }
+    int numRows;
+    int numCols;
+    try {
+      numRows = Integer.parseInt(rowCol[0]);
+      numCols = Integer.parseInt(rowCol[1]);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid grid dimensions: " + line);
+    }
+    if (numRows < 0 || numCols < 0 || (long) numRows * numCols > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("Invalid grid dimensions: " + line);
+    }
+    return new int[] {numRows, numCols};
+  }
+
+  /**
+   * Decodes the bytes of a grid configuration file into a packed topology. It accepts exactly
+   * the files {@link #parseGrid(Iterator)} accepts when given the lines of a BufferedReader: a
+   * line ends at a carriage return, a line feed or a carriage return followed by a line feed,
+   * whitespace around a row is ignored and lines after the last row are ignored.
+   */
+  private static final class GridDecoder {
+    private final byte[] chunk = new byte[1 << 16];
+    private final StringBuilder header = new StringBuilder();
+    private boolean inHeader = true;
+    private int numRows;
+    private int numCols;
+    private long[] cardCells;
+    private int row;
+    private int col; // Cells read so far in the current row.
+    private boolean trailingSpace; // Whitespace seen after the cells of the current row.
+    private boolean lineStarted; // Any byte seen since the last line end.
+    private boolean afterReturn; // The last byte was a carriage return ending a line.
+
+    void decode(MappedByteBuffer buffer) {
+      while (buffer.hasRemaining()) {
+        int length = Math.min(chunk.length, buffer.remaining());
+        buffer.get(chunk, 0, length);
+        int i = 0;
+        while (i < length) {
+          i = decodeCells(i, length);
+          if (i < length) {
+            decode(chunk[i++]);
+          }
+        }
+      }
+    }
+
+    /**
+     * Decodes the run of upper case cells starting at index i of the chunk, as long as it stays
+     * inside the current row. This is the common case, so it keeps its state in locals.
+     *
+     * @return the index of the first byte that was not decoded.
+     */
+    private int decodeCells(int i, int length) {
+      if (inHeader || row >= numRows || trailingSpace) {
+        return i;
+      }
+      int end = i + Math.min(length - i, numCols - col);
+      int start = i;
+      int cell = row * numCols + col;
+      for (; i < end; i++, cell++) {
+        byte b = chunk[i];
+        if (b == 'C') {
+          cardCells[cell >>> 6] |= 1L << cell;
+        } else if (b != 'X') {
+          break;
+        }
+      }
+      if (i > start) {
+        col += i - start;
+        lineStarted = true;
+        afterReturn = false;
+      }
+      return i;
+    }
+
+    private void decode(byte b) {
+      if (b == '\n' && afterReturn) {
+        // The line feed of a CRLF; the carriage return already ended the line.
+        afterReturn = false;
+        return;
+      }
+      afterReturn = b == '\r';
+      if (b == '\n' || b == '\r') {
+        endLine();
+        return;
+      }
+      lineStarted = true;
+      if (inHeader) {
+        appendHeader((char) (b & 0xFF));
+      } else if (row >= numRows) {
+        return;
+      } else if ((b & 0xFF) <= ' ') {
+        trailingSpace = col > 0;
+      } else {
+        if (trailingSpace) {
+          throw new IllegalArgumentException("Invalid character in grid");
+        }
+        if (col == numCols) {
+          throw new IllegalArgumentException("Invalid number of columns in row " + (row + 1));
+        }
+        if (b == 'C' || b == 'c') {
+          int cell = row * numCols + col;
+          cardCells[cell >>> 6] |= 1L << cell;
+        } else if (b != 'X' && b != 'x') {
+          throw new IllegalArgumentException("Invalid character in grid");
+        }
+        col++;
+      }
+    }
+
+    /**
+     * Adds a character to the dimensions line. A run of the whitespace parseDimensions splits
+     * on is kept as one space, which splits and trims the same way, so a header padded with
+     * any amount of whitespace stays short.
+     */
+    private void appendHeader(char c) {
+      boolean space = c == ' ' || c == '\t' || c == '\u000B' || c == '\f';
+      if (!space) {
+        header.append(c);
+      } else if (header.length() == 0 || header.charAt(header.length() - 1) != ' ') {
+        header.append(' ');
+      }
+    }
+
+    private void endLine() {
+      lineStarted = false;
+      if (inHeader) {
+        int[] dimensions = parseDimensions(header.toString());
+        numRows = dimensions[0];
+        numCols = dimensions[1];
+        cardCells = new long[BoardTopology.wordsFor(numRows, numCols)];
+        inHeader = false;
+      } else if (row < numRows) {
+        if (col != numCols) {
+          throw new IllegalArgumentException("Invalid number of columns in row " + (row + 1));
+        }
+        row++;
+        col = 0;
+        trailingSpace = false;
+      }
+    }
+
+    BoardTopology finish() {
+      if (inHeader && !lineStarted) {
+        throw new IllegalArgumentException("Empty grid configuration file");
+      }
+      if (lineStarted) {
+        endLine();
+      }
+      if (row < numRows) {
+        throw new IllegalArgumentException("Not enough rows in grid configuration file");
+      }
+      return new BoardTopology(numRows, numCols, cardCells);
+    }
+  }
+
+  /**
+   * Reads card configuration file to build the deck of cards.
+   * CardName NorthAttack SouthAttack EastAttack WestAttack (of the cards).
+   * A deck compiled by {@link BinaryConfig} is recognised by its magic number instead.
+   *
+   * @param directory the directory where the card config file is located; not be null
+   * @param filename  the name of the card configuration file; must not be {@code null}
+   * @return the cards in the order they appear in the file.
+   * @throws IllegalArgumentException if {@code directory} or f is {@code null},
+   *                                  if there are duplicate card names,
+   *                                  or if the file format is invalid
+   * @throws IOException              if an IO error occurs while reading the file.
+   */
+  static List<Card> readCards(String directory, String filename) throws IOException {
+    if (directory == null || filename == null) {
+      throw new IllegalArgumentException("readCardConfig args cannot be null");
+    }
+
+    List<Card> cards = new ArrayList<>();
+    Set<String> cardNames = new HashSet<>();
+
+    try (BufferedInputStream input = new BufferedInputStream(open(directory, filename))) {
+      if (startsWith(input, BinaryConfig.CARDS_MAGIC)) {
+        return BinaryConfig.decodeCards(ByteBuffer.wrap(input.readAllBytes()));
+      }
+      BufferedReader reader = new BufferedReader(new InputStreamReader(input));
+      String line;
+      while ((line = reader.readLine()) != null) {
+        String[] breakUpLine = line.split("\\s+");
+        if (breakUpLine.length != 5) {
+          throw new IllegalArgumentException("Invalid card line format: " + line);
+        }
+        try {
+          String name = breakUpLine[0];
+          if (!cardNames.add(name)) {
+            throw new IllegalArgumentException("Duplicate card name found: " + name);
+          }
+          AttackValues north = parseAttack(breakUpLine[1]);
+          AttackValues south = parseAttack(breakUpLine[2]);
+          AttackValues east = parseAttack(breakUpLine[3]);
+          AttackValues west = parseAttack(breakUpLine[4]);
+          cards.add(new Card(name, north, south, east, west));
+        } catch (IllegalArgumentException ex) {
+          System.err.println("Invalid card line: " + line);
+          throw new IllegalArgumentException("Invalid file format", ex);
+        }
+      }
+    }
+    return cards;
+  }
+
+  /**
+   * Checks that no two cards share a name, as the card file reader requires.
+   *
+   * @param cards the cards of a deck.
+   * @throws IllegalArgumentException if a card is null or two cards have the same name.
+   */
+  static void requireUniqueNames(List<Card> cards) {
+    Set<String> cardNames = new HashSet<>(cards.size() * 2);
+    for (Card card : cards) {
+      if (card == null) {
+        throw new IllegalArgumentException("Cards cannot be null");
+      }
+      if (!cardNames.add(card.getName())) {
+        throw new IllegalArgumentException("Duplicate card name found: " + card.getName());
+      }
+    }
+  }
+
+  /**
+   * This helper method helps to set the attack.
+   *
+   * @param value is the specific attack.
+   * @return returns the attack value.
+   */
+  static AttackValues parseAttack(String value) {
+    if (value == null) {
+      throw new IllegalArgumentException("string attack value cannot be null");
+    }
+    value = value.toUpperCase();
+    switch (value) {
+      case "A":
+        return AttackValues.A;
+      case "1":
+        return AttackValues.ONE;
+      case "2":
+        return AttackValues.TWO;
+      case "3":
+        return AttackValues.THREE;
+      case "4":
+        return AttackValues.FOUR;
+      case "5":
+        return AttackValues.FIVE;
+      case "6":
+        return AttackValues.SIX;
+      case "7":
+        return AttackValues.SEVEN;
+      case "8":
+        return AttackValues.EIGHT;
+      case "9":
+        return AttackValues.NINE;
+      default:
+        throw new IllegalArgumentException("Invalid value: " + value);
+    }
+  }
+
+  /**
+   * Finds a configuration file on disk, looking on the classpath first and then in the working
+   * directory like {@link #open(String, String)}.
+   *
+   * @return the path of the file, or null if it is a classpath resource that is not a file.
+   */
+  static Path locate(String directory, String filename) {
+    URL resource = ConfigReader.class.getClassLoader().getResource(directory + "/" + filename);
+    if (resource == null) {
+      return Paths.get("." + File.separator + directory + File.separator + filename);
+    }
+    if (!"file".equals(resource.getProtocol())) {
+      return null;
+    }
+    try {
+      return Paths.get(resource.toURI());
+    } catch (URISyntaxException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Checks whether a stream starts with a magic number, leaving the stream where it was.
+   */
+  private static boolean startsWith(BufferedInputStream input, int magic) throws IOException {
+    input.mark(4);
+    int read = 0;
+    for (int i = 0; i < 4; i++) {
+      int b = input.read();
+      if (b == -1) {
+        input.reset();
+        return false;
+      }
+      read = read << 8 | b;
+    }
+    input.reset();
+    return read == magic;
+  }
+
+  /**
+   * Opens a configuration file from the classpath, falling back to the working directory.
+   */
+  private static InputStream open(String directory, String filename) throws IOException {
+    InputStream inputStream = ConfigReader.class.getClassLoader()
+            .getResourceAsStream(directory + "/" + filename);
+    if (inputStream == null) {
+      String filePath = "." + File.separator + directory + File.separator + filename;
+      inputStream = new FileInputStream(filePath);
+    }
+    return inputStream;
+  }
+}
@@ -0,0 +1,734 @@
+package cs3500.threetrios.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import cs3500.threetrios.controller.GameStatusListener;
+
+/**
+ * Alternative implementation of the GameGridModel interface that keeps the board in flat,
+ * row-major primitive arrays instead of nested lists of Cell objects. A cell at (row, col) is
+ * stored at index row * numCols + col of every array, so walking the board or resolving a
+ * battle never chases list references or dispatches through the Cell interface.
+ * Game rules, turn order and listener notifications are the same as ThreeTriosGridModel.
+ *
+ * <p>This model is opt-in: the GUI and the headless runners play on ThreeTriosGridModel, whose
+ * state hash and move undo the searching strategies depend on, and this model has neither.</p>
+ */
+public class FlatGridModel implements GameGridModel {
+
+  private static final byte CARD_CELL_BIT = 1; // Set in cellTypes for card cells.
+
+  private static final byte NO_OWNER = 0;
+
+  private static final byte RED_OWNER = 1;
+
+  private static final byte BLUE_OWNER = 2;
+
+  private static final int EMPTY = -1; // Card id of a cell without a card.
+
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private int numRows;
+
+  private int numCols;
+
+  private byte[] cellTypes; // Cell type bits per cell.
+
+  // Shared neighbour table of the board, empty until the game starts.
+  private NeighbourTable neighbourTable = new BoardTopology(0, 0, new long[0]).getNeighbourTable();
+
+  private int[] cellIndexes = new int[0]; // The topology's cell index of each card cell.
+
+  private int[] neighbours = new int[0]; // The topology's neighbour table.
+
+  private byte[] owners; // Owner of the card in each cell, NO_OWNER when empty.
+
+  private int[] cardIds; // Id of the card in each cell, EMPTY when empty.
+
+  private Card[] cards; // Every card read from the config, indexed by card id.
+
+  private byte[] attacks; // attacks[id * 4 + direction.ordinal()] for card id.
+
+  private Map<Card, Integer> idsByCard; // Card id lookup for cards of this game.
+
+  private Map<String, Integer> idsByName; // Card id lookup by card name.
+
+  private int redCells; // Number of cells owned by red.
+
+  private int blueCells; // Number of cells owned by blue.
+
+  private int emptyCardCells; // Number of card cells without a card.
+
+  private int numberOfCardCells;
+
+  private int[] workStack; // Scratch stack of card cells used while resolving a cascade.
+
+  private int[] visited; // Stamp per card cell marking cells already handled by a cascade.
+
+  private int visitStamp;
+
+  private Player currentPlayer;
+
+  private Player gameWinner;
+
+  private boolean isGameStarted;
+
+  private boolean gameOver;
+
+  private List<Card> deck;
+
+  private Hand redPlayerHand;
+
+  private Hand bluePlayerHand;
+
+  private final List<GameStatusListener> modelListeners;
+
+  private final Random random;
+
+  /**
+   * Creates a model that shuffles the deck with a fresh Random.
+   */
+  public FlatGridModel() {
+    this(new Random());
+  }
+
+  /**
+   * Creates a model that shuffles the deck with the given Random.
+   *
+   * @param random Random object used, must not be null.
+   */
+  public FlatGridModel(Random random) {
+    if (random == null) {
+      throw new IllegalArgumentException("Random cannot be null");
+    }
+    this.random = random;
+    this.currentPlayer = Player.RED;
+    this.deck = new ArrayList<>();
+    this.redPlayerHand = new Hand();
+    this.bluePlayerHand = new Hand();
+    this.modelListeners = new ArrayList<>();
+  }
+
+  @Override
+  public void addModelStatusListener(GameStatusListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("listener cannot be null");
+    }
+    modelListeners.add(listener);
+  }
+
+  /**
+   * Starts the game from a grid configuration and a deck held in memory instead of files. The
+   * grid lines use the same format as a grid configuration file.
+   *
+   * @param gridLines the lines of a grid configuration, starting with the dimensions line.
+   * @param cards     the deck, with unique card names.
+   * @throws IllegalArgumentException if an argument is null, the grid lines are invalid, two
+   *                                  cards share a name or there are not enough cards.
+   * @throws IllegalStateException    if the game has already started.
+   */
+  @Override
+  public void createGrid(List<String> gridLines, List<Card> cards) {
+    if (gridLines == null || cards == null) {
+      throw new IllegalArgumentException("createGrid args cannot be null");
+    }
+    if (isGameStarted) {
+      throw new IllegalStateException("Game has already started");
+    }
+    BoardTopology topology = BoardTopology.fromGrid(
+            ConfigReader.parseGrid(gridLines.iterator()));
+    ConfigReader.requireUniqueNames(cards);
+    initializeBoard(topology);
+    initializeCards(cards);
+    dealCards();
+    isGameStarted = true;
+  }
+
+  @Override
+  public void startGame(String directoryCards, String filenameCards,
+                        String directoryBoard, String filenameBoard) {
+    if (directoryCards == null || filenameCards == null || directoryBoard == null ||
+            filenameBoard == null) {
+      throw new IllegalArgumentException("startGame args cannot be null");
+    }
+    if (isGameStarted) {
+      throw new IllegalStateException("Game has already started");
+    }
+    BoardTopology topology;
+    try {
+      topology = ConfigCache.readTopology(directoryBoard, filenameBoard);
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Cannot read Grid.config file", e);
+    }
+    List<Card> allCards;
+    try {
+      allCards = ConfigCache.readCards(directoryCards, filenameCards);
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Cannot read Card.config file", e);
+    }
+    initializeBoard(topology);
+    initializeCards(allCards);
+    dealCards();
+    isGameStarted = true;
+  }
+
+  /**
+   * Lays out the flat cell arrays from the board topology.
+   */
+  private void initializeBoard(BoardTopology topology) {
+    numRows = topology.getRows();
+    numCols = topology.getCols();
+    int size = numRows * numCols;
+    cellTypes = new byte[size];
+    owners = new byte[size];
+    cardIds = new int[size];
+    Arrays.fill(cardIds, EMPTY);
+    for (int cell = 0; cell < size; cell++) {
+      if (topology.isCardCell(cell)) {
+        cellTypes[cell] = CARD_CELL_BIT;
+      }
+    }
+    numberOfCardCells = topology.getCardCellCount();
+    neighbourTable = topology.getNeighbourTable();
+    cellIndexes = topology.getCells();
+    neighbours = topology.getNeighbours();
+    emptyCardCells = numberOfCardCells;
+    redCells = 0;
+    blueCells = 0;
+    workStack = new int[numberOfCardCells];
+    visited = new int[numberOfCardCells];
+    visitStamp = 0;
+  }
+
+  /**
+   * Assigns every card an id and unpacks its attack values into the attack table.
+   */
+  private void initializeCards(List<Card> allCards) {
+    cards = allCards.toArray(new Card[0]);
+    attacks = new byte[cards.length * 4];
+    idsByCard = new IdentityHashMap<>(cards.length * 2);
+    idsByName = new HashMap<>(cards.length * 2);
+    for (int id = 0; id < cards.length; id++) {
+      idsByCard.put(cards[id], id);
+      idsByName.put(cards[id].getName(), id);
+      for (Direction direction : DIRECTIONS) {
+        attacks[id * 4 + direction.ordinal()] = (byte) cards[id].getAttackValue(direction);
+      }
+    }
+    deck = new ArrayList<>(allCards);
+  }
+
+  /**
+   * Shuffles the deck and deals (numberOfCardCells + 1) / 2 cards to each player, alternating
+   * red then blue exactly like ThreeTriosGridModel so a seeded Random deals the same hands.
+   */
+  private void dealCards() {
+    int fillHandSize = (numberOfCardCells + 1) / 2;
+    if (deck.size() < fillHandSize * 2) {
+      throw new IllegalArgumentException("Must be numberOfCard Cells at least: "
+              + numberOfCardCells + " + 1 to start game");
+    }
+    Collections.shuffle(deck, random);
+    redPlayerHand = new Hand();
+    bluePlayerHand = new Hand();
+    for (int card = 0; card < fillHandSize; card++) {
+      redPlayerHand.add(deck.get(2 * card));
+      bluePlayerHand.add(deck.get(2 * card + 1));
+    }
+    deck = new ArrayList<>(deck.subList(2 * fillHandSize, deck.size()));
+  }
+
+  @Override
+  public void playCardToCardCell(Card card, int row, int col) {
+    if (!isGameStarted) {
+      throw new IllegalStateException("Game has not started");
+    }
+    if (row < 0 || row >= numRows || col < 0 || col >= numCols) {
+      throw new IllegalArgumentException("Invalid cell coordinates");
+    }
+    int cell = row * numCols + col;
+    if ((cellTypes[cell] & CARD_CELL_BIT) == 0 || cardIds[cell] != EMPTY) {
+      throw new IllegalArgumentException("Cannot place a card on this cell");
+    }
+    List<Card> playerHand = getPlayerHand(currentPlayer);
+    if (!playerHand.remove(card)) {
+      throw new IllegalArgumentException("Card not in current player's hand");
+    }
+
+    byte mover = toOwner(currentPlayer);
+    cardIds[cell] = idsByCard.get(card);
+    owners[cell] = mover;
+    emptyCardCells--;
+    addOwned(mover, 1);
+    battlePhase(neighbourTable.getCardCell(row, col), mover);
+
+    currentPlayer = (currentPlayer == Player.RED) ? Player.BLUE : Player.RED;
+    for (GameStatusListener listener : modelListeners) {
+      listener.notifyTurnChange(currentPlayer);
+    }
+    if (emptyCardCells == 0) {
+      gameOver = true;
+      determineWinner();
+    }
+  }
+
+  /**
+   * Resolves the battle started by the card just placed at the given card cell, flipping every
+   * opponent card it (and every card it flips, in turn) beats. The cascade is walked with
+   * an explicit stack of card cells, whose sides come from the board's shared neighbour table.
+   *
+   * @param start the card cell index the card was placed in.
+   * @param mover the owner of the placed card.
+   */
+  private void battlePhase(int start, byte mover) {
+    int stamp = nextVisitStamp();
+    int top = 0;
+    workStack[top++] = start;
+    visited[start] = stamp;
+    int flipped = 0;
+    while (top > 0) {
+      int cardCell = workStack[--top];
+      int attackBase = cardIds[cellIndexes[cardCell]] * 4;
+      for (Direction direction : DIRECTIONS) {
+        // The neighbour table already leaves out the edges and holes.
+        int adjCardCell = neighbours[cardCell * 4 + direction.ordinal()];
+        if (adjCardCell == -1) {
+          continue;
+        }
+        int adj = cellIndexes[adjCardCell];
+        if (cardIds[adj] == EMPTY || owners[adj] == mover) {
+          continue;
+        }
+        int currentAttack = attacks[attackBase + direction.ordinal()];
+        if (currentAttack < defense(adj, direction) && visited[adjCardCell] != stamp) {
+          owners[adj] = mover;
+          visited[adjCardCell] = stamp;
+          workStack[top++] = adjCardCell;
+          flipped++;
+        }
+      }
+    }
+    addOwned(mover, flipped);
+    addOwned(mover == RED_OWNER ? BLUE_OWNER : RED_OWNER, -flipped);
+  }
+
+  /**
+   * Starts a new cascade generation, clearing the stamps only when the counter wraps.
+   */
+  private int nextVisitStamp() {
+    if (++visitStamp == Integer.MAX_VALUE) {
+      Arrays.fill(visited, 0);
+      visitStamp = 1;
+    }
+    return visitStamp;
+  }
+
+  private void addOwned(byte owner, int amount) {
+    if (owner == RED_OWNER) {
+      redCells += amount;
+    } else if (owner == BLUE_OWNER) {
+      blueCells += amount;
+    }
+  }
+
+  private static byte toOwner(Player player) {
+    return player == Player.RED ? RED_OWNER : BLUE_OWNER;
+  }
+
+  private static Player toPlayer(byte owner) {
+    if (owner == RED_OWNER) {
+      return Player.RED;
+    }
+    return owner == BLUE_OWNER ? Player.BLUE : Player.NULL_PLAYER;
+  }
+
+  /**
+   * Determines the winner once the board is full and notifies the listeners.
+   */
+  private void determineWinner() {
+    int redCards = redCells + redPlayerHand.size();
+    int blueCards = blueCells + bluePlayerHand.size();
+    if (redCards > blueCards) {
+      gameWinner = Player.RED;
+    } else if (blueCards > redCards) {
+      gameWinner = Player.BLUE;
+    } else {
+      gameWinner = Player.NULL_PLAYER;
+    }
+    int finalScore = (gameWinner == Player.BLUE) ? blueCards : redCards;
+    for (GameStatusListener listener : modelListeners) {
+      listener.notifyGameOver(gameWinner, finalScore);
+    }
+  }
+
+  @Override
+  public Cell getCell(int row, int col) {
+    if (row < 0 || row >= numRows || col < 0 || col >= numCols) {
+      throw new IllegalArgumentException("Invalid cell coordinates");
+    }
+    int cell = row * numCols + col;
+    if ((cellTypes[cell] & CARD_CELL_BIT) == 0) {
+      return new HoleCell();
+    }
+    CardCell cardCell = new CardCell();
+    if (cardIds[cell] != EMPTY) {
+      cardCell.placeCard(cards[cardIds[cell]], toPlayer(owners[cell]));
+    }
+    return cardCell;
+  }
+
+  @Override
+  public Player getCurrentPlayer() {
+    gameNotStarted();
+    return currentPlayer;
+  }
+
+  @Override
+  public List<Card> getPlayerHand(Player player) {
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    if (!isGameStarted) {
+      throw new IllegalStateException("Game has not been started");
+    }
+    if (player == Player.RED) {
+      return redPlayerHand;
+    } else if (player == Player.BLUE) {
+      return bluePlayerHand;
+    } else {
+      throw new IllegalArgumentException("Invalid player");
+    }
+  }
+
+  @Override
+  public boolean isGameOver() {
+    gameNotStarted();
+    return gameOver;
+  }
+
+  @Override
+  public Player getWinner() {
+    gameNotStarted();
+    if (!gameOver) {
+      throw new IllegalStateException("Game is not over");
+    }
+    return gameWinner;
+  }
+
+  @Override
+  public List<Card> getDeck() {
+    return new ArrayList<>(deck);
+  }
+
+  @Override
+  public int getDeckSize() {
+    return deck.size();
+  }
+
+  @Override
+  public Card getCardByName(String name) {
+    Integer id = idsByName == null ? null : idsByName.get(name);
+    if (id == null) {
+      throw new IllegalArgumentException("Is not contained int he deck");
+    }
+    return cards[id];
+  }
+
+  @Override
+  public CellType getCellType(int row, int col) {
+    if (row < 0 || row >= numRows || col < 0 || col >= numCols) {
+      throw new IllegalArgumentException("Invalid cell coordinates");
+    }
+    return (cellTypes[row * numCols + col] & CARD_CELL_BIT) != 0
+            ? CellType.CARD_CELL : CellType.HOLE;
+  }
+
+  @Override
+  public int getRows() {
+    return numRows;
+  }
+
+  @Override
+  public int getCols() {
+    return numCols;
+  }
+
+  @Override
+  public boolean isGameStarted() {
+    return isGameStarted;
+  }
+
+  @Override
+  public int getPlayerScore(Player player) {
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    int handSize = getPlayerHand(player).size();
+    return handSize + (player == Player.RED ? redCells : blueCells);
+  }
+
+  @Override
+  public boolean isLegalMove(int row, int col) {
+    if (!isGameStarted) {
+      throw new IllegalStateException("Game has not started");
+    }
+    if (row < 0 || row >= numRows || col < 0 || col >= numCols) {
+      return false;
+    }
+    int cell = row * numCols + col;
+    return (cellTypes[cell] & CARD_CELL_BIT) != 0 && cardIds[cell] == EMPTY;
+  }
+
+  /**
+   * Counts the cards the current player would flip by playing the given card at the given
+   * cell. The cascade runs against the live board: cells it would flip are only marked in the
+   * visited stamps, so nothing on the board changes and nothing is allocated.
+   */
+  @Override
+  public int getPotentialFlips(Card card, int row, int col) {
+    if (card == null) {
+      throw new IllegalArgumentException("Card cannot be null");
+    }
+    if (row < 0 || row >= numRows || col < 0 || col >= numCols) {
+      throw new IllegalArgumentException("Invalid cell coordinates");
+    }
+    if (!isGameStarted) {
+      throw new IllegalStateException("Game has not started");
+    }
+    int start = row * numCols + col;
+    if ((cellTypes[start] & CARD_CELL_BIT) == 0 || cardIds[start] != EMPTY) {
+      throw new IllegalArgumentException("Invalid coordinate.");
+    }
+
+    return potentialFlips(neighbourTable.getCardCell(row, col), card, toOwner(currentPlayer));
+  }
+
+  /**
+   * Calculates the flip count of one card at every legal cell, running one simulated cascade
+   * per empty card cell instead of building the matrix of the whole hand.
+   */
+  @Override
+  public int[] getCardFlips(Player player, Card card) {
+    if (card == null) {
+      throw new IllegalArgumentException("Card cannot be null");
+    }
+    getPlayerHand(player);
+    int[] flips = new int[cellTypes.length];
+    Arrays.fill(flips, -1);
+    byte mover = toOwner(player);
+    for (int cardCell = 0; cardCell < numberOfCardCells; cardCell++) {
+      int cell = cellIndexes[cardCell];
+      if (cardIds[cell] == EMPTY) {
+        flips[cell] = potentialFlips(cardCell, card, mover);
+      }
+    }
+    return flips;
+  }
+
+  /**
+   * Counts the cards the mover would flip by playing the given card at the given empty card
+   * cell index, marking the cascade in the visited stamps only.
+   */
+  private int potentialFlips(int start, Card card, byte mover) {
+    int stamp = nextVisitStamp();
+    int top = 0;
+    for (Direction direction : DIRECTIONS) {
+      int adjCardCell = neighbours[start * 4 + direction.ordinal()];
+      if (adjCardCell == -1) {
+        continue;
+      }
+      int adj = cellIndexes[adjCardCell];
+      if (cardIds[adj] != EMPTY && owners[adj] != mover
+              && card.getAttackValue(direction) > defense(adj, direction)) {
+        visited[adjCardCell] = stamp;
+        workStack[top++] = adjCardCell;
+      }
+    }
+    return top + cascadeFlips(top, mover, stamp);
+  }
+
+  /**
+   * Calculates the flip count of every card in the player's hand at every legal cell in one
+   * pass. Once the cards next to a cell are known, the cascade only depends on which of those
+   * neighbours the placed card beats, so each cell simulates at most one cascade per subset of
+   * beaten neighbours and every card only compares its four attack values.
+   */
+  @Override
+  public int[][] getFlipMatrix(Player player) {
+    List<Card> hand = getPlayerHand(player);
+    byte mover = toOwner(player);
+    int[][] flips = new int[hand.size()][cellTypes.length];
+    for (int[] cardFlips : flips) {
+      Arrays.fill(cardFlips, -1);
+    }
+    byte[] handAttacks = new byte[hand.size() * 4];
+    for (int cardIndex = 0; cardIndex < hand.size(); cardIndex++) {
+      for (Direction direction : DIRECTIONS) {
+        handAttacks[cardIndex * 4 + direction.ordinal()] =
+                (byte) hand.get(cardIndex).getAttackValue(direction);
+      }
+    }
+    int[] opponentCells = new int[DIRECTIONS.length];
+    int[] neighbourDefense = new int[DIRECTIONS.length];
+    int[] subsetFlips = new int[1 << DIRECTIONS.length];
+
+    for (int cardCell = 0; cardCell < numberOfCardCells; cardCell++) {
+      int cell = cellIndexes[cardCell];
+      if (cardIds[cell] != EMPTY) {
+        continue;
+      }
+      int opponents = 0; // Bit per direction holding an opponent's card.
+      for (Direction direction : DIRECTIONS) {
+        int adjCardCell = neighbours[cardCell * 4 + direction.ordinal()];
+        if (adjCardCell == -1) {
+          continue;
+        }
+        int adj = cellIndexes[adjCardCell];
+        if (cardIds[adj] != EMPTY && owners[adj] != mover) {
+          opponents |= 1 << direction.ordinal();
+          opponentCells[direction.ordinal()] = adjCardCell;
+          neighbourDefense[direction.ordinal()] = defense(adj, direction);
+        }
+      }
+
+      Arrays.fill(subsetFlips, -1);
+      for (int cardIndex = 0; cardIndex < hand.size(); cardIndex++) {
+        int beaten = 0;
+        for (int dir = 0; dir < DIRECTIONS.length; dir++) {
+          if ((opponents & (1 << dir)) != 0
+                  && handAttacks[cardIndex * 4 + dir] > neighbourDefense[dir]) {
+            beaten |= 1 << dir;
+          }
+        }
+        if (subsetFlips[beaten] == -1) {
+          int stamp = nextVisitStamp();
+          int top = 0;
+          for (int dir = 0; dir < DIRECTIONS.length; dir++) {
+            if ((beaten & (1 << dir)) != 0) {
+              visited[opponentCells[dir]] = stamp;
+              workStack[top++] = opponentCells[dir];
+            }
+          }
+          subsetFlips[beaten] = top + cascadeFlips(top, mover, stamp);
+        }
+        flips[cardIndex][cell] = subsetFlips[beaten];
+      }
+    }
+    return flips;
+  }
+
+  /**
+   * Continues a simulated cascade from the cells already pushed on the work stack, marking
+   * every further card the mover would flip with the given stamp.
+   *
+   * @param top   the number of cells on the work stack.
+   * @param mover the owner the flipped cards would go to.
+   * @param stamp the stamp of this simulation.
+   * @return the number of cards flipped beyond the ones already on the stack.
+   */
+  private int cascadeFlips(int top, byte mover, int stamp) {
+    int flipped = 0;
+    while (top > 0) {
+      int cardCell = workStack[--top];
+      int attackBase = cardIds[cellIndexes[cardCell]] * 4;
+      for (Direction direction : DIRECTIONS) {
+        int adjCardCell = neighbours[cardCell * 4 + direction.ordinal()];
+        if (adjCardCell == -1 || visited[adjCardCell] == stamp) {
+          continue;
+        }
+        int adj = cellIndexes[adjCardCell];
+        if (cardIds[adj] == EMPTY || owners[adj] == mover) {
+          continue;
+        }
+        if (attacks[attackBase + direction.ordinal()] > defense(adj, direction)) {
+          visited[adjCardCell] = stamp;
+          workStack[top++] = adjCardCell;
+          flipped++;
+        }
+      }
+    }
+    return flipped;
+  }
+
+  /**
+   * Gets the attack value the card in the given cell defends with against an attack coming
+   * from the given direction.
+   */
+  private int defense(int cell, Direction attackDirection) {
+    return attacks[cardIds[cell] * 4 + attackDirection.opposite().ordinal()];
+  }
+
+  @Override
+  public NeighbourTable getNeighbourTable() {
+    return neighbourTable;
+  }
+
+  @Override
+  public List<Position> getLegalMoves() {
+    if (!isGameStarted) {
+      throw new IllegalStateException("Game has not started");
+    }
+    List<Position> legalMoves = new ArrayList<>(emptyCardCells);
+    for (int cell = 0; cell < cellTypes.length; cell++) {
+      if ((cellTypes[cell] & CARD_CELL_BIT) != 0 && cardIds[cell] == EMPTY) {
+        legalMoves.add(new Position(cell / numCols, cell % numCols));
+      }
+    }
+    return legalMoves;
+  }
+
+  /**
+   * Creates a copy of the current game state. Cards are immutable, so the copy shares them
+   * and only the primitive board arrays and the hand lists are duplicated.
+   *
+   * @return A new ReadOnlyTTModel containing a copy of the current game state
+   */
+  @Override
+  public ReadOnlyTTModel getCopy() {
+    FlatGridModel copy = new FlatGridModel(random);
+    copy.numRows = numRows;
+    copy.numCols = numCols;
+    copy.numberOfCardCells = numberOfCardCells;
+    copy.currentPlayer = currentPlayer;
+    copy.gameWinner = gameWinner;
+    copy.isGameStarted = isGameStarted;
+    copy.gameOver = gameOver;
+    copy.deck = new ArrayList<>(deck);
+    copy.redPlayerHand = new Hand(redPlayerHand);
+    copy.bluePlayerHand = new Hand(bluePlayerHand);
+    if (isGameStarted) {
+      copy.cellTypes = cellTypes;
+      copy.neighbourTable = neighbourTable;
+      copy.cellIndexes = cellIndexes;
+      copy.neighbours = neighbours;
+      copy.cards = cards;
+      copy.attacks = attacks;
+      copy.idsByCard = idsByCard;
+      copy.idsByName = idsByName;
+      copy.owners = owners.clone();
+      copy.cardIds = cardIds.clone();
+      copy.redCells = redCells;
+      copy.blueCells = blueCells;
+      copy.emptyCardCells = emptyCardCells;
+      copy.workStack = new int[workStack.length];
+      copy.visited = new int[visited.length];
+    }
+    return copy;
+  }
+
+  /**
+   * Helper that is used in different methods. Will tell if the game is not started.
+   */
+  private void gameNotStarted() {
+    if (!isGameStarted) {
+      throw new IllegalStateException("Game has not started, testing helper");
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package cs3500.threetrios.model;
+
+/**
+ * The outcome of a finished game: the winner and both final scores. A result is computed once
+ * when the last card cell is filled and never changes, so it can be handed out and shared
+ * freely.
+ */
+public final class GameResult {
+
+  private final Player winner;
+
+  private final int redScore;
+
+  private final int blueScore;
+
+  /**
+   * Creates the result of a game from its final scores.
+   * @param redScore the final score of the red player.
+   * @param blueScore the final score of the blue player.
+   */
+  public GameResult(int redScore, int blueScore) {
+    this.redScore = redScore;
+    this.blueScore = blueScore;
+    if (redScore > blueScore) {
+      winner = Player.RED;
+    } else if (blueScore > redScore) {
+      winner = Player.BLUE;
+    } else {
+      winner = Player.NULL_PLAYER;
+    }
+  }
+
+  /**
+   * Gets the winner of the game.
+   * @return the winning player, or NULL_PLAYER if tie
+   */
+  public Player getWinner() {
+    return winner;
+  }
+
+  /**
+   * Gets the final score of a player.
+   * @param player the player, RED or BLUE
+   * @return the player's final score
+   * @throws IllegalArgumentException if player is not RED or BLUE
+   */
+  public int getScore(Player player) {
+    if (player == Player.RED) {
+      return redScore;
+    } else if (player == Player.BLUE) {
+      return blueScore;
+    }
+    throw new IllegalArgumentException("Invalid player: " + player);
+  }
+
+  /**
+   * Gets the score listeners are told at the end of the game: the winner's score, or the
+   * shared score of a tie.
+   * @return the winning score
+   */
+  public int getWinningScore() {
+    return winner == Player.BLUE ? blueScore : redScore;
+  }
+
+  @Override
+  public String toString() {
+    return winner + " " + redScore + "-" + blueScore;
+  }
+}
@@ -0,0 +1,324 @@
+package cs3500.threetrios.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A player's hand: a list of cards in the order they were dealt, indexed for the operations a
+ * game makes on every move. Cards are compared by identity, like Card itself.
+ *
+ * <p>Every card keeps the slot it was dealt to. Removing a card only marks its slot empty, and
+ * a Fenwick tree over the slots counts the cards left before any slot, so membership is a hash
+ * lookup and removing a card, finding the card at an index or the index of a card take
+ * O(log n) instead of shifting the list. Putting a card back at the index it was removed from,
+ * as undoing a move does, refills its old slot. The slots are compacted once most are empty.
+ * </p>
+ */
+final class Hand extends AbstractList<Card> {
+  private Card[] slots;
+  private boolean[] filled;
+  private int[] tree; // Fenwick tree of filled slots, 1-based.
+  private int slotCount;
+  private int size;
+  private final Map<Card, Integer> slotOf;
+
+  /**
+   * Creates an empty hand.
+   */
+  Hand() {
+    this.slots = new Card[8];
+    this.filled = new boolean[8];
+    this.tree = new int[9];
+    this.slotOf = new IdentityHashMap<>();
+  }
+
+  /**
+   * Creates a hand holding the given cards in order.
+   *
+   * @param cards the cards.
+   */
+  Hand(Collection<Card> cards) {
+    this();
+    ensureCapacity(cards.size());
+    for (Card card : cards) {
+      add(card);
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Card get(int index) {
+    checkIndex(index, size);
+    return slots[slotAt(index)];
+  }
+
+  @Override
+  public boolean contains(Object card) {
+    Integer slot = slotOf.get(card);
+    return slot != null && filled[slot];
+  }
+
+  @Override
+  public int indexOf(Object card) {
+    Integer slot = slotOf.get(card);
+    return slot == null || !filled[slot] ? -1 : countBefore(slot);
+  }
+
+  @Override
+  public int lastIndexOf(Object card) {
+    return indexOf(card);
+  }
+
+  @Override
+  public boolean add(Card card) {
+    add(size, card);
+    return true;
+  }
+
+  /**
+   * Inserts a card at an index. A card going back to the index it was removed from refills its
+   * old slot, and a card added at the end takes a new slot; both are O(log n). Any other
+   * insertion rebuilds the slots.
+   *
+   * @throws IllegalArgumentException if the card is null or already in the hand.
+   */
+  @Override
+  public void add(int index, Card card) {
+    checkIndex(index, size + 1);
+    if (card == null) {
+      throw new IllegalArgumentException("Card cannot be null");
+    }
+    Integer slot = slotOf.get(card);
+    if (slot != null && filled[slot]) {
+      throw new IllegalArgumentException("Card is already in the hand");
+    }
+    modCount++;
+    if (slot != null && countBefore(slot) == index) {
+      fill(slot);
+      return;
+    }
+    if (slot != null) {
+      slotOf.remove(card);
+    }
+    if (index == size) {
+      if (slotCount == slots.length) {
+        compact(Math.max(8, slotCount * 2));
+      }
+      slots[slotCount] = card;
+      slotOf.put(card, slotCount);
+      slotCount++;
+      // A new node covers the slots before it in its range as well as its own.
+      int node = slotCount;
+      tree[node] = countBefore(node - 1) - countBefore(node - (node & -node));
+      fill(slotCount - 1);
+      return;
+    }
+    // After compacting, every slot is filled, so the card at the index sits at that slot.
+    compact(Math.max(8, (size + 1) * 2));
+    System.arraycopy(slots, index, slots, index + 1, slotCount - index);
+    slots[index] = card;
+    slotCount++;
+    size = 0;
+    rebuild();
+  }
+
+  @Override
+  public Card remove(int index) {
+    checkIndex(index, size);
+    int slot = slotAt(index);
+    Card card = slots[slot];
+    empty(slot);
+    return card;
+  }
+
+  @Override
+  public boolean remove(Object card) {
+    Integer slot = slotOf.get(card);
+    if (slot == null || !filled[slot]) {
+      return false;
+    }
+    empty(slot);
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    modCount++;
+    Arrays.fill(slots, 0, slotCount, null);
+    Arrays.fill(filled, 0, slotCount, false);
+    Arrays.fill(tree, 0);
+    slotOf.clear();
+    slotCount = 0;
+    size = 0;
+  }
+
+  /**
+   * Iterates the cards in order, skipping empty slots, in O(n) for the whole hand.
+   */
+  @Override
+  public Iterator<Card> iterator() {
+    return new Iterator<Card>() {
+      private int slot = nextFilled(0);
+      private int nextIndex;
+      private int lastSlot = -1;
+      private int expectedModCount = modCount;
+
+      @Override
+      public boolean hasNext() {
+        return slot < slotCount;
+      }
+
+      @Override
+      public Card next() {
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        if (slot >= slotCount) {
+          throw new NoSuchElementException();
+        }
+        lastSlot = slot;
+        slot = nextFilled(slot + 1);
+        nextIndex++;
+        return slots[lastSlot];
+      }
+
+      @Override
+      public void remove() {
+        if (lastSlot == -1) {
+          throw new IllegalStateException();
+        }
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        empty(lastSlot);
+        // Removing may compact the slots, so find the next card again by its index.
+        nextIndex--;
+        slot = nextIndex < size ? slotAt(nextIndex) : slotCount;
+        lastSlot = -1;
+        expectedModCount = modCount;
+      }
+    };
+  }
+
+  private int nextFilled(int slot) {
+    while (slot < slotCount && !filled[slot]) {
+      slot++;
+    }
+    return slot;
+  }
+
+  private void fill(int slot) {
+    filled[slot] = true;
+    size++;
+    for (int node = slot + 1; node <= slotCount; node += node & -node) {
+      tree[node]++;
+    }
+  }
+
+  private void empty(int slot) {
+    modCount++;
+    filled[slot] = false;
+    size--;
+    for (int node = slot + 1; node <= slotCount; node += node & -node) {
+      tree[node]--;
+    }
+    // Removed slots are kept for undo, but not once they outnumber the cards.
+    if (slotCount > 16 && size < slotCount / 4) {
+      compact(Math.max(8, size * 2));
+    }
+  }
+
+  /**
+   * Counts the filled slots before a slot.
+   */
+  private int countBefore(int slot) {
+    int count = 0;
+    for (int node = slot; node > 0; node -= node & -node) {
+      count += tree[node];
+    }
+    return count;
+  }
+
+  /**
+   * Finds the slot of the card at an index by descending the Fenwick tree.
+   */
+  private int slotAt(int index) {
+    if (size == slotCount) {
+      return index;
+    }
+    int node = 0;
+    int remaining = index + 1;
+    for (int step = Integer.highestOneBit(Math.max(1, slotCount)); step > 0; step >>= 1) {
+      int next = node + step;
+      if (next <= slotCount && tree[next] < remaining) {
+        node = next;
+        remaining -= tree[next];
+      }
+    }
+    return node;
+  }
+
+  /**
+   * Drops the empty slots, keeping the cards in order, with room for the given number of slots.
+   */
+  private void compact(int capacity) {
+    Card[] cards = new Card[Math.max(capacity, size)];
+    int count = 0;
+    for (int slot = 0; slot < slotCount; slot++) {
+      if (filled[slot]) {
+        cards[count++] = slots[slot];
+      }
+    }
+    slots = cards;
+    filled = new boolean[cards.length];
+    tree = new int[cards.length + 1];
+    slotCount = count;
+    size = 0;
+    rebuild();
+  }
+
+  /**
+   * Marks every slot up to slotCount filled and rebuilds the tree and slot map in O(n).
+   */
+  private void rebuild() {
+    if (filled.length < slots.length) {
+      filled = new boolean[slots.length];
+      tree = new int[slots.length + 1];
+    }
+    Arrays.fill(tree, 0);
+    slotOf.clear();
+    for (int slot = 0; slot < slotCount; slot++) {
+      filled[slot] = true;
+      slotOf.put(slots[slot], slot);
+      int node = slot + 1;
+      tree[node]++;
+      int parent = node + (node & -node);
+      if (parent <= slotCount) {
+        tree[parent] += tree[node];
+      }
+    }
+    size = slotCount;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity > slots.length) {
+      compact(capacity);
+    }
+  }
+
+  private static void checkIndex(int index, int bound) {
+    if (index < 0 || index >= bound) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (bound - 1));
+    }
+  }
+}
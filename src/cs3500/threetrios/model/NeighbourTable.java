@@ -0,0 +1,123 @@
+package cs3500.threetrios.model;
+
+/**
+ * A read-only view of which card cells of a board neighbour each other. Card cells are
+ * numbered 0 to getCardCellCount() - 1 row by row, and every card cell has one neighbour per
+ * direction: the index of the adjacent card cell, or -1 if that side is the edge of the board
+ * or a hole. The table is built once per board and shared by every game on it, so walking
+ * neighbours through it allocates nothing and needs no bounds or hole checks.
+ */
+public final class NeighbourTable {
+  private final BoardTopology topology;
+  private final int[] cells;
+  private final int[] neighbours;
+
+  /**
+   * Creates the table of a board topology.
+   *
+   * @param topology the board, whose cell and neighbour tables the view shares.
+   */
+  NeighbourTable(BoardTopology topology) {
+    this.topology = topology;
+    this.cells = topology.getCells();
+    this.neighbours = topology.getNeighbours();
+  }
+
+  /**
+   * Builds the table of a model's board from its cell types.
+   *
+   * @param model the model whose grid is read.
+   * @return the table of the model's board.
+   */
+  static NeighbourTable fromModel(ReadOnlyTTModel model) {
+    int rows = model.getRows();
+    int cols = model.getCols();
+    long[] cardCells = new long[BoardTopology.wordsFor(rows, cols)];
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        if (model.getCellType(row, col) == CellType.CARD_CELL) {
+          int cell = row * cols + col;
+          cardCells[cell >>> 6] |= 1L << cell;
+        }
+      }
+    }
+    return new BoardTopology(rows, cols, cardCells).getNeighbourTable();
+  }
+
+  /**
+   * Gets the number of card cells of the board.
+   *
+   * @return the number of card cells.
+   */
+  public int getCardCellCount() {
+    return cells.length;
+  }
+
+  /**
+   * Gets the card cell index of a position.
+   *
+   * @param row the row, which may be outside the board.
+   * @param col the column, which may be outside the board.
+   * @return the card cell index, or -1 if the position is off the board or a hole.
+   */
+  public int getCardCell(int row, int col) {
+    return topology.getCardCellIndex(row, col);
+  }
+
+  /**
+   * Gets the neighbouring card cell of a card cell in a direction.
+   *
+   * @param cardCell  the card cell index.
+   * @param direction the side of the card cell.
+   * @return the card cell index of the neighbour, or -1 for an edge or a hole.
+   * @throws IndexOutOfBoundsException if the card cell index is not on the board.
+   */
+  public int getNeighbour(int cardCell, Direction direction) {
+    return neighbours[cardCell * 4 + direction.ordinal()];
+  }
+
+  /**
+   * Gets which sides of a position border a card cell, as one bit per direction at bit
+   * direction.ordinal(). A card cell reads its sides from the table; any other position, which
+   * only a model whose legal moves disagree with its cell types would ask about, checks its
+   * adjacent positions.
+   *
+   * @param row the row of the position.
+   * @param col the column of the position.
+   * @return the bits of the directions whose adjacent cell is a card cell.
+   */
+  public int getNeighbourMask(int row, int col) {
+    int cardCell = topology.getCardCellIndex(row, col);
+    int mask = 0;
+    for (int direction = 0; direction < 4; direction++) {
+      int neighbour = cardCell == -1
+              ? topology.getCardCellIndex(row + BoardTopology.ROW_STEPS[direction],
+                      col + BoardTopology.COL_STEPS[direction])
+              : neighbours[cardCell * 4 + direction];
+      if (neighbour != -1) {
+        mask |= 1 << direction;
+      }
+    }
+    return mask;
+  }
+
+  /**
+   * Gets the row of a card cell.
+   *
+   * @param cardCell the card cell index.
+   * @return the row of the card cell.
+   */
+  public int getRow(int cardCell) {
+    return cells[cardCell] / topology.getCols();
+  }
+
+  /**
+   * Gets the column of a card cell.
+   *
+   * @param cardCell the card cell index.
+   * @return the column of the card cell.
+   */
+  public int getCol(int cardCell) {
+    return cells[cardCell] % topology.getCols();
+  }
+}
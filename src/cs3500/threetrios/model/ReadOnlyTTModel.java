@@ -1,5 +1,6 @@
 package cs3500.threetrios.model;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -59,10 +60,10 @@ public interface ReadOnlyTTModel {
   int getDeckSize();
 
   /**
-   * Gets a card from the deck by its name.
+   * Gets a card of the card config by its name, whether it is in the deck, a hand or the grid.
    * @param name the name of the card to find
    * @return the card with the specified name
-   * @throws IllegalArgumentException if name is not found in deck
+   * @throws IllegalArgumentException if no card of the config has the name
    */
   Card getCardByName(String name);
 
@@ -122,6 +123,78 @@ public interface ReadOnlyTTModel {
    */
   int getPotentialFlips(Card card, int row, int col);
 
+  /**
+   * Calculates, in one call, how many cards every card in the player's hand would flip if
+   * the player placed it on every cell of the grid. Row i of the matrix belongs to card i of
+   * the hand and column (row * getCols() + col) to that cell; cells that are not legal moves
+   * hold -1. The default implementation asks getPotentialFlips for every pair, which
+   * simulates the move for the current player.
+   * @param player the player whose hand is evaluated
+   * @return the flip counts indexed by hand index, then by cell index
+   * @throws IllegalArgumentException if player is null or invalid
+   * @throws IllegalStateException if game has not started
+   */
+  default int[][] getFlipMatrix(Player player) {
+    List<Card> hand = getPlayerHand(player);
+    int cols = getCols();
+    int[][] flips = new int[hand.size()][getRows() * cols];
+    for (int[] cardFlips : flips) {
+      Arrays.fill(cardFlips, -1);
+    }
+    for (int row = 0; row < getRows(); row++) {
+      for (int col = 0; col < cols; col++) {
+        if (isLegalMove(row, col)) {
+          for (int cardIndex = 0; cardIndex < hand.size(); cardIndex++) {
+            flips[cardIndex][row * cols + col] = getPotentialFlips(hand.get(cardIndex), row, col);
+          }
+        }
+      }
+    }
+    return flips;
+  }
+
+  /**
+   * Calculates how many cards the given card would flip if the player placed it on every cell
+   * of the grid: one row of getFlipMatrix, for callers that only need a single card, such as
+   * hints for the selected card. The card need not be in the player's hand. Index
+   * (row * getCols() + col) belongs to that cell; cells that are not legal moves hold -1. The
+   * default implementation asks getPotentialFlips for every legal cell, which simulates the
+   * move for the current player.
+   * @param player the player placing the card
+   * @param card the card to evaluate
+   * @return the flip counts indexed by cell index
+   * @throws IllegalArgumentException if player is null or invalid, or card is null
+   * @throws IllegalStateException if game has not started
+   */
+  default int[] getCardFlips(Player player, Card card) {
+    if (card == null) {
+      throw new IllegalArgumentException("Card cannot be null");
+    }
+    getPlayerHand(player);
+    int cols = getCols();
+    int[] flips = new int[getRows() * cols];
+    Arrays.fill(flips, -1);
+    for (int row = 0; row < getRows(); row++) {
+      for (int col = 0; col < cols; col++) {
+        if (isLegalMove(row, col)) {
+          flips[row * cols + col] = getPotentialFlips(card, row, col);
+        }
+      }
+    }
+    return flips;
+  }
+
+  /**
+   * Gets the table of neighbouring card cells of the grid, so strategies can walk the sides of
+   * a cell without building positions or checking the edges and holes themselves. The default
+   * implementation builds a new table from getCellType on every call; models on a fixed board
+   * return the one table shared by every game on that board.
+   * @return the neighbour table of the grid
+   */
+  default NeighbourTable getNeighbourTable() {
+    return NeighbourTable.fromModel(this);
+  }
+
   /**
    * Gets all legal moves available to the current player.
    * @return list of valid positions where current player can move
@@ -1,17 +1,13 @@
 package cs3500.threetrios.model;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.Random;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 import cs3500.threetrios.controller.GameStatusListener;
 
@@ -28,11 +24,11 @@ public class ThreeTriosGridModel implements GameGridModel {
 
   private Player currentPlayer;
 
-  private Player gameWinner; // Winner of the game.
+  private GameResult result; // Outcome of the game, null until the game is over.
 
-  private List<Card> redPlayerHand; // Hand (of cards) of the red player.
+  private Hand redPlayerHand; // Hand (of cards) of the red player.
 
-  private List<Card> bluePlayerHand; // Hand (of cards) of the blue player.
+  private Hand bluePlayerHand; // Hand (of cards) of the blue player.
 
   private boolean isGameStarted; // Is the game started?. Either yes or no.
 
@@ -42,10 +38,24 @@ public class ThreeTriosGridModel implements GameGridModel {
    * Origin (0,0), top-left corner of the grid.
    * Row numbers increase downward (0 to numRows-1).
    * Column numbers increase rightward (0 to numCols-1).
+   * The layout is immutable and shared with every other game on the same board; the cards
+   * placed in this game are kept in the arrays below, indexed by card cell index.
    */
-  private List<List<CellType>> grid; // Grid for the cells.
+  private BoardTopology topology; // Layout of the grid.
 
-  private boolean isGameWon; // is game won.
+  private Card[] placedCards = new Card[0]; // Card in each card cell, null when empty.
+
+  private byte[] owners = new byte[0]; // Owner of the card in each card cell.
+
+  private int[] cellIndexes = new int[0]; // The topology's cell index of each card cell.
+
+  private int[] neighbours = new int[0]; // The topology's neighbour table.
+
+  private int redCells; // Number of card cells owned by red.
+
+  private int blueCells; // Number of card cells owned by blue.
+
+  private int emptyCardCells; // Number of card cells without a card.
 
   private Random random = new Random(); // Random object. 
 
@@ -53,12 +63,58 @@ public class ThreeTriosGridModel implements GameGridModel {
 
   private List<Card> deck; // List for the deck. 
 
-  private List<List<Cell>> cellGrid; // Grid of cells. 
-
   private int numberOfCardCells; // Number of card cells available. 
 
   private int numberOfCards; //  Num of cards.
 
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private static final BoardTopology NO_BOARD = new BoardTopology(0, 0, new long[0]);
+
+  private static final byte NO_OWNER = 0;
+
+  private static final byte RED_OWNER = 1;
+
+  private static final byte BLUE_OWNER = 2;
+
+  private int[] flipStack = new int[0]; // Cells flipped by applied moves, oldest first.
+
+  private int flipCount; // Number of entries used in flipStack.
+
+  private int[] moveCells = new int[0]; // Cell index of each applied move.
+
+  private int[] moveHandIndexes = new int[0]; // Hand index of each applied move.
+
+  private Card[] moveCards = new Card[0]; // Card placed by each applied move.
+
+  private int[] moveFlipStarts = new int[0]; // First flipStack entry of each applied move.
+
+  private long[] moveHashes = new long[0]; // State hash before each applied move.
+
+  private int moveCount; // Number of applied moves that can be undone.
+
+  private int[] workStack = new int[0]; // Scratch stack of card cells used by a cascade.
+
+  private int[] visited = new int[0]; // Stamp per card cell already handled by a cascade.
+
+  private int visitStamp; // Stamp of the latest cascade.
+
+  private Map<String, Integer> cardIds = new HashMap<>(); // Card name to Zobrist card id.
+
+  private Card[] cardsById = new Card[0]; // Every card of the config, indexed by card id.
+
+  private long stateHash; // Zobrist hash of the current game state.
+
+  private long configurationKey; // Fingerprint of the board and deck, part of every hash.
+
+  private static final long ZOBRIST_SEED = 0x5DEECE66DL;
+
+  private static final int RED_HAND_LOCATION = 0;
+
+  private static final int BLUE_HAND_LOCATION = 1;
+
+  private static final long BLUE_TO_MOVE_KEY = zobristKey(-1, 0);
+
   /**
    * Constructor for the default settings (must be taken in or else game cannot be played).
    * Initializes all instance variables to their default states.
@@ -66,13 +122,10 @@ public class ThreeTriosGridModel implements GameGridModel {
   public ThreeTriosGridModel() {
     this.gameOver = false;
     this.isGameStarted = false;
-    this.redPlayerHand = new ArrayList<>();
-    this.bluePlayerHand = new ArrayList<>();
-    this.grid = new ArrayList<>();
-    this.cellGrid = new ArrayList<>();
+    this.redPlayerHand = new Hand();
+    this.bluePlayerHand = new Hand();
+    this.topology = NO_BOARD;
     this.currentPlayer = Player.RED;
-    // Whether the game is won or not.
-    this.isGameWon = false;
     this.deck = new ArrayList<>();
     this.numberOfCardCells = 0;
     this.numberOfCards = 0;
@@ -85,6 +138,7 @@ public class ThreeTriosGridModel implements GameGridModel {
    * @param random Random object used, must not be null.
    */
   public ThreeTriosGridModel(Random random) {
+    this();
     if (random == null) {
       throw new IllegalArgumentException("Random cannot be null");
     }
@@ -119,76 +173,34 @@ public class ThreeTriosGridModel implements GameGridModel {
       throw new IllegalStateException("Cannot read grid config when game started");
     }
 
-    InputStream inputStream = ThreeTriosGridModel.class.getClassLoader()
-            .getResourceAsStream(directory + "/" + filename);
-
-    if (inputStream == null) {
-      String filePath = "." + File.separator + directory + File.separator + filename;
-      inputStream = new FileInputStream(filePath);
-    }
-
-    try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-      String line;
-      if ((line = reader.readLine()) != null) {
-        String[] rowCol = line.trim().split("\\s+");
-        if (rowCol.length != 2) {
-          throw new IllegalArgumentException("Invalid grid dimensions line: " + line);
-        }
-        try {
-          numRows = Integer.parseInt(rowCol[0]);
-          numCols = Integer.parseInt(rowCol[1]);
-        } catch (NumberFormatException e) {
-          throw new IllegalArgumentException("Invalid grid dimensions: " + line);
-        }
+    setTopology(ConfigCache.readTopology(directory, filename));
+  }
 
-        grid = new ArrayList<>(numRows);
-
-        for (int row = 0; row < numRows; row++) {
-          if ((line = reader.readLine()) != null) {
-            line = line.trim();
-            if (line.length() != numCols) {
-              throw new IllegalArgumentException("Invalid number of columns in row " + (row + 1));
-            }
-            List<CellType> gridRow = new ArrayList<>(numCols);
-            for (int col = 0; col < numCols; col++) {
-              char c = line.charAt(col);
-              if (c == 'C' || c == 'c') {
-                numberOfCardCells++;
-                gridRow.add(CellType.CARD_CELL);
-              } else if (c == 'X' || c == 'x') {
-                gridRow.add(CellType.HOLE);
-              } else {
-                throw new IllegalArgumentException("Invalid character in grid");
-              }
-            }
-            grid.add(gridRow);
-          } else {
-            throw new IllegalArgumentException("Not enough rows in grid configuration file");
-          }
-        }
-      } else {
-        throw new IllegalArgumentException("Empty grid configuration file");
-      }
-    }
+  /**
+   * Sets the layout of the grid and counts its card cells.
+   *
+   * @param board the shared layout of the grid.
+   */
+  private void setTopology(BoardTopology board) {
+    topology = board;
+    numRows = board.getRows();
+    numCols = board.getCols();
+    numberOfCardCells = board.getCardCellCount();
   }
 
   /**
-   * Initializes the cellGrid based on the amount needed to be accounted for.
-   * Each cell in the logical grid is converted to an actual cell object.
+   * Initializes this game's cards and owners over the layout, with every card cell empty.
+   * Only these arrays belong to the game; the layout and its tables are shared.
    */
-  private void initializeCellGrid() {
-    cellGrid = new ArrayList<>();
-    for (int row = 0; row < numRows; row++) {
-      List<Cell> cellRow = new ArrayList<>();
-      for (int col = 0; col < numCols; col++) {
-        if (grid.get(row).get(col) == CellType.CARD_CELL) {
-          cellRow.add(new CardCell()); // Empty card cell
-        } else {
-          cellRow.add(new HoleCell());
-        }
-      }
-      cellGrid.add(cellRow);
-    }
+  private void initializeOverlay() {
+    placedCards = new Card[numberOfCardCells];
+    owners = new byte[numberOfCardCells];
+    emptyCardCells = numberOfCardCells;
+    redCells = 0;
+    blueCells = 0;
+    result = null;
+    cellIndexes = topology.getCells();
+    neighbours = topology.getNeighbours();
   }
 
   /**
@@ -211,82 +223,22 @@ public class ThreeTriosGridModel implements GameGridModel {
       throw new IllegalStateException("Cannot read card config when game started");
     }
 
-    deck = new ArrayList<>();
-    Set<String> cardNames = new HashSet<>();
-
-    InputStream inputStream = ThreeTriosGridModel.class.getClassLoader()
-            .getResourceAsStream(directory + "/" + filename);
-
-    if (inputStream == null) {
-      String filePath = "." + File.separator + directory + File.separator + filename;
-      inputStream = new FileInputStream(filePath);
-    }
-
-    try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-      String line;
-      while ((line = reader.readLine()) != null) {
-        String[] breakUpLine = line.split("\\s+");
-        if (breakUpLine.length == 5) {
-          try {
-            String name = breakUpLine[0];
-            if (cardNames.contains(name)) {
-              throw new IllegalArgumentException("Duplicate card name found: " + name);
-            }
-            cardNames.add(name);
-
-            AttackValues north = setAttack(breakUpLine[1]);
-            AttackValues south = setAttack(breakUpLine[2]);
-            AttackValues east = setAttack(breakUpLine[3]);
-            AttackValues west = setAttack(breakUpLine[4]);
-
-            Card currentCard = new Card(name, north, south, east, west);
-            numberOfCards++;
-            deck.add(currentCard);
-          } catch (IllegalArgumentException ex) {
-            System.err.println("Invalid card line: " + line);
-            throw new IllegalArgumentException("Invalid file format", ex);
-          }
-        } else {
-          throw new IllegalArgumentException("Invalid card line format: " + line);
-        }
-      }
-    }
+    setDeck(new ArrayList<>(ConfigCache.readCards(directory, filename)));
   }
 
   /**
-   * This helper method helps to set the attack.
-   *
-   * @param value is the specific attack.
-   * @return returns the attack value.
-   */
-  private AttackValues setAttack(String value) {
-    if (value == null) {
-      throw new IllegalArgumentException("string attack value cannot be null");
-    }
-    value = value.toUpperCase();
-    switch (value) {
-      case "A":
-        return AttackValues.A;
-      case "1":
-        return AttackValues.ONE;
-      case "2":
-        return AttackValues.TWO;
-      case "3":
-        return AttackValues.THREE;
-      case "4":
-        return AttackValues.FOUR;
-      case "5":
-        return AttackValues.FIVE;
-      case "6":
-        return AttackValues.SIX;
-      case "7":
-        return AttackValues.SEVEN;
-      case "8":
-        return AttackValues.EIGHT;
-      case "9":
-        return AttackValues.NINE;
-      default:
-        throw new IllegalArgumentException("Invalid value: " + value);
+   * Sets the deck and gives every card an id for the state hash and for looking it up by name.
+   *
+   * @param cards the cards of the deck.
+   */
+  private void setDeck(List<Card> cards) {
+    deck = cards;
+    numberOfCards += deck.size();
+    cardIds = new HashMap<>(deck.size() * 2);
+    cardsById = new Card[deck.size()];
+    for (Card card : deck) {
+      cardsById[cardIds.size()] = card;
+      cardIds.put(card.getName(), cardIds.size());
     }
   }
 
@@ -304,9 +256,36 @@ public class ThreeTriosGridModel implements GameGridModel {
     }
   }
 
+  /**
+   * Starts the game from a grid configuration and a deck held in memory instead of files, so
+   * generated games skip writing and parsing configuration files. The grid lines use the same
+   * format as a grid configuration file, and the cards are dealt exactly as in startGame.
+   *
+   * @param gridLines the lines of a grid configuration, starting with the dimensions line.
+   * @param cards     the deck, with unique card names.
+   * @throws IllegalArgumentException if an argument is null, the grid lines are invalid, two
+   *                                  cards share a name or there are not enough cards.
+   * @throws IllegalStateException    if the game has already started.
+   */
   @Override
   public void createGrid(List<String> gridLines, List<Card> cards) {
-    // Might not need this because when reading in the grid file we already make one
+    if (gridLines == null || cards == null) {
+      throw new IllegalArgumentException("createGrid args cannot be null");
+    }
+    if (isGameStarted) {
+      throw new IllegalStateException("Game has already started");
+    }
+    BoardTopology board = BoardTopology.fromGrid(ConfigReader.parseGrid(gridLines.iterator()));
+    ConfigReader.requireUniqueNames(cards);
+    setTopology(board);
+    ensureEnoughCards(cards.size(), numberOfCardCells);
+    initializeOverlay();
+    setDeck(new ArrayList<>(cards));
+    dealCards(deck);
+    initializeMoveHistory();
+    configurationKey = computeConfigurationKey();
+    stateHash = computeStateHash();
+    isGameStarted = true;
   }
 
   @Override
@@ -317,66 +296,58 @@ public class ThreeTriosGridModel implements GameGridModel {
     if (row < 0 || row >= numRows || col < 0 || col >= numCols) {
       throw new IllegalArgumentException("Invalid cell coordinates");
     }
-    Cell cell = cellGrid.get(row).get(col);
-    if (!cell.canPlaceCard()) {
+    int cardCell = topology.getCardCellIndex(row * numCols + col);
+    if (cardCell == -1 || placedCards[cardCell] != null) {
       throw new IllegalArgumentException("Cannot place a card on this cell");
     }
     List<Card> playerHand = getPlayerHand(currentPlayer);
-    int cardIndex = playerHand.indexOf(card);
-    if (cardIndex == -1) {
+    if (!playerHand.contains(card)) {
       throw new IllegalArgumentException("Card not in current player's hand");
     }
-    cell.placeCard(card, currentPlayer);
-    playerHand.remove(cardIndex);
-    Position position = new Position(row, col);
-    Set<Position> visited = new HashSet<>();
-    battlePhase(position, visited);
+    placeCard(cardCell, card);
+    playerHand.remove(card);
+    // A played move is final, so earlier applied moves can no longer be undone.
+    moveCount = 0;
+    flipCount = 0;
+    hashPlacement(card, cardCell);
+    battlePhase(cardCell);
     currentPlayer = (currentPlayer == Player.RED) ? Player.BLUE : Player.RED;
+    stateHash ^= BLUE_TO_MOVE_KEY;
     for (GameStatusListener listener : modelListeners) {
       listener.notifyTurnChange(currentPlayer);
     }
     if (checkGameOver()) {
       gameOver = true;
-      determineWinner();
-    }
-  }
-
-  private void determineWinner() {
-    int redCards = 0;
-    int blueCards = 0;
-    for (int row = 0; row < numRows; row++) {
-      for (int col = 0; col < numCols; col++) {
-        Cell cell = cellGrid.get(row).get(col);
-        if (cell instanceof CardCell && cell.isOccupied()) {
-          Player owner = cell.getOwner();
-          if (owner == Player.RED) {
-            redCards++;
-          } else if (owner == Player.BLUE) {
-            blueCards++;
-          }
-        }
+      GameResult outcome = determineWinner();
+      for (GameStatusListener listener : modelListeners) {
+        listener.notifyGameOver(outcome.getWinner(), outcome.getWinningScore());
       }
     }
-    redCards += redPlayerHand.size();
-    blueCards += bluePlayerHand.size();
-    if (redCards > blueCards) {
-      gameWinner = Player.RED;
-    } else if (blueCards > redCards) {
-      gameWinner = Player.BLUE;
-    } else {
-      gameWinner = Player.NULL_PLAYER;
+  }
+
+  /**
+   * Determines the winner once the board is full, without notifying the listeners; only a
+   * played move that ends the game does that. The result of the real end of the game is kept,
+   * so asking for the winner again does not count the scores again. A board filled by applied
+   * moves is a hypothetical end that the next undo takes back, so its result is not kept.
+   *
+   * @return the result of the game.
+   */
+  private GameResult determineWinner() {
+    if (result != null) {
+      return result;
     }
-    isGameWon = true;
-    int finalScore = (gameWinner == Player.NULL_PLAYER) ? redCards :
-            (gameWinner == Player.RED ? redCards : blueCards);
-    for (GameStatusListener listener : modelListeners) {
-      listener.notifyGameOver(gameWinner, finalScore);
+    GameResult outcome = new GameResult(redCells + redPlayerHand.size(),
+            blueCells + bluePlayerHand.size());
+    if (moveCount == 0) {
+      result = outcome;
     }
+    return outcome;
   }
 
   /**
-   * This checks if the game is over or not. If the game is not
-   * started it throws an
+   * This checks if the game is over or not, that is if no card cell is left empty. If the game
+   * is not started it throws an
    *
    * @return if the game is over (true or false).
    * @throws IllegalArgumentException if the game has not started yet.
@@ -386,15 +357,7 @@ public class ThreeTriosGridModel implements GameGridModel {
       throw new IllegalStateException("Game has not started yet");
     }
 
-    for (int row = 0; row < numRows; row++) {
-      for (int col = 0; col < numCols; col++) {
-        Cell cell = cellGrid.get(row).get(col);
-        if (cell instanceof CardCell && !cell.isOccupied()) {
-          return false;
-        }
-      }
-    }
-    return true;
+    return emptyCardCells == 0;
   }
 
   /**
@@ -426,52 +389,322 @@ public class ThreeTriosGridModel implements GameGridModel {
 
   /**
    * The battle phase of the game state, will comply with the game path, where one side attacks
-   * the adjacent side at a given time on the grid.
+   * the adjacent side at a given time on the grid. Every flipped card attacks its own
+   * neighbours in turn; the cascade is walked with an explicit stack, so a long combo never
+   * grows the call stack. Every flipped cell is recorded on the flip stack so an applied move
+   * can be undone.
    *
-   * @param position is the specific position the card is in (cardCell).
-   * @param visited  is the memoization of the cards in the game state.
+   * @param start the card cell index of the card that attacks its neighbours.
    */
-  private void battlePhase(Position position, Set<Position> visited) {
-    if (visited.contains(position)) {
-      return;
+  private void battlePhase(int start) {
+    byte currentOwner = owners[start];
+    int flipped = 0;
+    int stamp = nextVisitStamp();
+    int top = 0;
+    workStack[top++] = start;
+    visited[start] = stamp;
+
+    while (top > 0) {
+      int cardCell = workStack[--top];
+      Card currentCard = placedCards[cardCell];
+      for (Direction direction : DIRECTIONS) {
+        // The neighbour table already leaves out the edges and holes.
+        int adjCell = neighbours[cardCell * 4 + direction.ordinal()];
+
+        // Proceed only if the adjacent cell is occupied by the opponent.
+        if (adjCell == -1 || placedCards[adjCell] == null || owners[adjCell] == currentOwner
+                || visited[adjCell] == stamp) {
+          continue;
+        }
+        Card adjCard = placedCards[adjCell];
+        int currentAttack = currentCard.getAttackValue(direction);
+        int adjAttack = adjCard.getAttackValue(direction.opposite());
+
+        // Compare attack values
+        if (currentAttack < adjAttack) {
+          byte adjOwner = owners[adjCell];
+          owners[adjCell] = currentOwner;
+          visited[adjCell] = stamp;
+          recordFlip(adjCell);
+          stateHash ^= cellKey(adjCard, adjCell, adjOwner)
+                  ^ cellKey(adjCard, adjCell, currentOwner);
+
+          // Continue the battle phase from the newly flipped card
+          workStack[top++] = adjCell;
+          flipped++;
+        }
+      }
     }
-    visited.add(position);
+    addOwned(currentOwner, flipped);
+    addOwned(currentOwner == RED_OWNER ? BLUE_OWNER : RED_OWNER, -flipped);
+  }
 
-    Cell currentCell = cellGrid.get(position.getRow()).get(position.getCol());
-    Card currentCard = currentCell.getCard();
-    Player currentOwner = currentCell.getOwner();  // Get owner from cell
+  /**
+   * Puts a card of the current player in an empty card cell.
+   */
+  private void placeCard(int cardCell, Card card) {
+    placedCards[cardCell] = card;
+    owners[cardCell] = toOwner(currentPlayer);
+    emptyCardCells--;
+    addOwned(owners[cardCell], 1);
+  }
 
-    for (Direction direction : Direction.values()) {
-      Position adjPosition = getAdjacentPosition(position, direction);
-      int adjRow = adjPosition.getRow();
-      int adjCol = adjPosition.getCol();
+  /**
+   * Adds to the number of card cells the given owner holds.
+   */
+  private void addOwned(byte owner, int amount) {
+    if (owner == RED_OWNER) {
+      redCells += amount;
+    } else if (owner == BLUE_OWNER) {
+      blueCells += amount;
+    }
+  }
 
-      // Check if the adjacent position is within bounds
-      if (adjRow >= 0 && adjRow < numRows && adjCol >= 0 && adjCol < numCols) {
-        Cell adjCell = cellGrid.get(adjRow).get(adjCol);
+  private static byte toOwner(Player player) {
+    return player == Player.RED ? RED_OWNER : BLUE_OWNER;
+  }
 
-        // Proceed only if the adjacent cell is occupied
-        if (adjCell.isOccupied()) {
-          Card adjCard = adjCell.getCard();
-          Player adjOwner = adjCell.getOwner();  // Get owner from cell
+  private static Player toPlayer(byte owner) {
+    if (owner == RED_OWNER) {
+      return Player.RED;
+    }
+    return owner == BLUE_OWNER ? Player.BLUE : Player.NULL_PLAYER;
+  }
 
-          // Check if the adjacent card belongs to the opponent
-          if (adjOwner != currentOwner) {
-            int currentAttack = currentCard.getAttackValue(direction);
-            int adjAttack = adjCard.getAttackValue(direction.opposite());
+  /**
+   * Pushes a flipped card cell index on the flip stack, growing it when it is full.
+   */
+  private void recordFlip(int cardCell) {
+    if (flipCount == flipStack.length) {
+      flipStack = Arrays.copyOf(flipStack, Math.max(16, flipStack.length * 2));
+    }
+    flipStack[flipCount++] = cardCell;
+  }
 
-            // Compare attack values
-            if (currentAttack < adjAttack) {
-              // Updated to set owner on cell instead of card
-              adjCell.setOwner(currentOwner);
+  /**
+   * Sizes the applied move history and the cascade scratch arrays for the current board. At
+   * most one move per card cell can be applied before the board is full, and a cascade
+   * handles each card cell at most once.
+   */
+  private void initializeMoveHistory() {
+    moveCells = new int[numberOfCardCells];
+    moveHandIndexes = new int[numberOfCardCells];
+    moveCards = new Card[numberOfCardCells];
+    moveFlipStarts = new int[numberOfCardCells];
+    moveHashes = new long[numberOfCardCells];
+    flipStack = new int[Math.max(16, numberOfCardCells * 2)];
+    moveCount = 0;
+    flipCount = 0;
+    workStack = new int[numberOfCardCells];
+    visited = new int[numberOfCardCells];
+    visitStamp = 0;
+  }
 
-              // Continue the battle phase from the newly flipped card
-              battlePhase(adjPosition, visited);
-            }
-          }
-        }
+  /**
+   * Plays the card at the given index of the current player's hand to the given cell, without
+   * notifying listeners, and records the move so {@link #undoMove()} can revert it. The placed
+   * card, its hand index and every cell flipped by the cascade are kept in preallocated arrays,
+   * so a search can apply and undo moves in O(flips) without allocating or copying the model.
+   *
+   * @param handIndex the index of the card in the current player's hand.
+   * @param row       the row of the card cell to play to.
+   * @param col       the column of the card cell to play to.
+   * @return the number of cards flipped by the move.
+   * @throws IllegalStateException    if the game has not started.
+   * @throws IllegalArgumentException if the cell cannot hold a card or the index is invalid.
+   */
+  public int applyMove(int handIndex, int row, int col) {
+    if (!isGameStarted) {
+      throw new IllegalStateException("Game has not started");
+    }
+    if (row < 0 || row >= numRows || col < 0 || col >= numCols) {
+      throw new IllegalArgumentException("Invalid cell coordinates");
+    }
+    int cardCell = topology.getCardCellIndex(row * numCols + col);
+    if (cardCell == -1 || placedCards[cardCell] != null) {
+      throw new IllegalArgumentException("Cannot place a card on this cell");
+    }
+    List<Card> playerHand = getPlayerHand(currentPlayer);
+    if (handIndex < 0 || handIndex >= playerHand.size()) {
+      throw new IllegalArgumentException("Invalid hand index: " + handIndex);
+    }
+    Card card = playerHand.remove(handIndex);
+    placeCard(cardCell, card);
+
+    int flipStart = flipCount;
+    moveCells[moveCount] = cardCell;
+    moveHandIndexes[moveCount] = handIndex;
+    moveCards[moveCount] = card;
+    moveFlipStarts[moveCount] = flipStart;
+    moveHashes[moveCount] = stateHash;
+    moveCount++;
+
+    hashPlacement(card, cardCell);
+    battlePhase(cardCell);
+    currentPlayer = (currentPlayer == Player.RED) ? Player.BLUE : Player.RED;
+    stateHash ^= BLUE_TO_MOVE_KEY;
+    gameOver = checkGameOver();
+    return flipCount - flipStart;
+  }
+
+  /**
+   * Reverts the most recent move made with {@link #applyMove(int, int, int)}: flipped cards go
+   * back to the opponent, the placed card returns to its index in the hand and the turn goes
+   * back to the player who made the move.
+   *
+   * @throws IllegalStateException if there is no applied move to undo.
+   */
+  public void undoMove() {
+    if (moveCount == 0) {
+      throw new IllegalStateException("No applied move to undo");
+    }
+    moveCount--;
+    Player mover = (currentPlayer == Player.RED) ? Player.BLUE : Player.RED;
+    int flipStart = moveFlipStarts[moveCount];
+    byte opponent = toOwner(currentPlayer);
+    for (int flip = flipCount - 1; flip >= flipStart; flip--) {
+      owners[flipStack[flip]] = opponent;
+    }
+    addOwned(opponent, flipCount - flipStart);
+    addOwned(toOwner(mover), flipStart - flipCount - 1);
+    flipCount = flipStart;
+
+    int cardCell = moveCells[moveCount];
+    placedCards[cardCell] = null;
+    owners[cardCell] = NO_OWNER;
+    emptyCardCells++;
+    getPlayerHand(mover).add(moveHandIndexes[moveCount], moveCards[moveCount]);
+    moveCards[moveCount] = null;
+    stateHash = moveHashes[moveCount];
+    currentPlayer = mover;
+    gameOver = false;
+  }
+
+  /**
+   * Gets the number of applied moves that can still be undone.
+   *
+   * @return the number of moves made with applyMove and not yet undone.
+   */
+  public int getAppliedMoveCount() {
+    return moveCount;
+  }
+
+  /**
+   * Gets the number of card cells that do not hold a card yet, which is kept as a counter, so
+   * a search can size its move buffers without listing the legal moves.
+   *
+   * @return the number of empty card cells.
+   * @throws IllegalStateException if the game has not started.
+   */
+  public int getEmptyCardCellCount() {
+    if (!isGameStarted) {
+      throw new IllegalStateException("Game has not started");
+    }
+    return emptyCardCells;
+  }
+
+  /**
+   * Gets the Zobrist hash of the current game state. The hash covers the owner and card of
+   * every occupied cell, the cards left in both hands and the player to move, and is updated
+   * incrementally as cards are played, flipped and undone, so reading it is O(1). The hash
+   * starts from a fingerprint of the board layout and of the deck in config order, so two games
+   * on the same configuration hash equal positions to the same value, while positions of
+   * different boards or decks only collide by chance, and a table filled on one configuration
+   * can be reused on another.
+   *
+   * @return the 64-bit hash of the current state.
+   */
+  public long getStateHash() {
+    return stateHash;
+  }
+
+  /**
+   * Gets the fingerprint of the board and deck the game is played with, which the state hash
+   * starts from, so a strategy can tell when it is handed a game on another configuration.
+   *
+   * @return the 64-bit fingerprint of the configuration.
+   * @throws IllegalStateException if the game has not started.
+   */
+  public long getConfigurationKey() {
+    if (!isGameStarted) {
+      throw new IllegalStateException("Game has not started");
+    }
+    return configurationKey;
+  }
+
+  /**
+   * Computes the Zobrist hash of the current state from scratch.
+   */
+  private long computeStateHash() {
+    long hash = configurationKey ^ (currentPlayer == Player.BLUE ? BLUE_TO_MOVE_KEY : 0);
+    for (Card card : redPlayerHand) {
+      hash ^= zobristKey(cardIds.get(card.getName()), RED_HAND_LOCATION);
+    }
+    for (Card card : bluePlayerHand) {
+      hash ^= zobristKey(cardIds.get(card.getName()), BLUE_HAND_LOCATION);
+    }
+    for (int cardCell = 0; cardCell < numberOfCardCells; cardCell++) {
+      if (placedCards[cardCell] != null) {
+        hash ^= cellKey(placedCards[cardCell], cardCell, owners[cardCell]);
+      }
+    }
+    return hash;
+  }
+
+  /**
+   * Computes the fingerprint of the configuration: the board's dimensions and card cells, and
+   * the name and attack values of every card in card id order, since the position keys only
+   * know cards by id and cells by card cell index.
+   */
+  private long computeConfigurationKey() {
+    long key = mix(ZOBRIST_SEED ^ (((long) numRows << 32) | numCols));
+    for (int word = 0; word < BoardTopology.wordsFor(numRows, numCols); word++) {
+      key = mix(key ^ topology.getCardCellWord(word));
+    }
+    for (Card card : cardsById) {
+      long attacks = 0;
+      for (Direction direction : DIRECTIONS) {
+        attacks = (attacks << 8) | card.getAttackValue(direction);
       }
+      key = mix(key ^ (((long) card.getName().hashCode() << 32) | attacks));
     }
+    return key;
+  }
+
+  /**
+   * Moves the given card of the current player from their hand to the given cell in the hash.
+   */
+  private void hashPlacement(Card card, int cardCell) {
+    int handLocation = currentPlayer == Player.RED ? RED_HAND_LOCATION : BLUE_HAND_LOCATION;
+    stateHash ^= zobristKey(cardIds.get(card.getName()), handLocation)
+            ^ cellKey(card, cardCell, toOwner(currentPlayer));
+  }
+
+  /**
+   * Gets the key of the given card lying in the given card cell with the given owner.
+   */
+  private long cellKey(Card card, int cardCell, byte owner) {
+    int location = 2 + 2 * cardCell + (owner == BLUE_OWNER ? 1 : 0);
+    return zobristKey(cardIds.get(card.getName()), location);
+  }
+
+  /**
+   * Derives the Zobrist key of a card at a location (a hand, or a cell with an owner) by
+   * mixing the pair with the SplitMix64 finalizer instead of storing a table of random keys,
+   * which would need a key for every card in every cell for both owners. The finalizer is a
+   * bijection, so distinct pairs always get distinct keys.
+   */
+  private static long zobristKey(int cardId, int location) {
+    return mix(ZOBRIST_SEED + ((((long) cardId) << 32) | location) * 0x9E3779B97F4A7C15L);
+  }
+
+  /**
+   * Applies the SplitMix64 finalizer.
+   */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
   }
 
   // Do not have to throw any exceptions because we know already ensured there is
@@ -479,7 +712,10 @@ public class ThreeTriosGridModel implements GameGridModel {
 
   /**
    * This deals deck to redPlayerHand and bluePlayerHand until each
-   * have a size of (numberOfCardCells + 1) / 2.
+   * have a size of (numberOfCardCells + 1) / 2. The shuffled deck is dealt from the front,
+   * alternating red then blue, by index, and the undealt rest is copied once, so dealing is
+   * linear in the size of the deck. The hands and the rest of the deck are the same as when
+   * the cards were removed from the front one at a time, so seeded games replay unchanged.
    *
    * @param deck is the deck where players can refer to (one being played with).
    */
@@ -487,9 +723,10 @@ public class ThreeTriosGridModel implements GameGridModel {
     Collections.shuffle(deck, random);
     int fillHandSize = (numberOfCardCells + 1) / 2;
     for (int card = 0; card < fillHandSize; card++) {
-      redPlayerHand.add(deck.remove(0));
-      bluePlayerHand.add(deck.remove(0));
+      redPlayerHand.add(deck.get(2 * card));
+      bluePlayerHand.add(deck.get(2 * card + 1));
     }
+    this.deck = new ArrayList<>(deck.subList(2 * fillHandSize, deck.size()));
   }
 
   // Change it to (Board, List<Card>, int rows, int cols)
@@ -502,7 +739,7 @@ public class ThreeTriosGridModel implements GameGridModel {
     }
     try {
       readGridConfig(directoryBoard, filenameBoard);
-      initializeCellGrid();
+      initializeOverlay();
     } catch (Exception e) {
       throw new IllegalArgumentException("Cannot read Grid.config file", e);
     }
@@ -512,6 +749,9 @@ public class ThreeTriosGridModel implements GameGridModel {
       throw new IllegalArgumentException("Cannot read Card.config file", e);
     }
     dealCards(deck);
+    initializeMoveHistory();
+    configurationKey = computeConfigurationKey();
+    stateHash = computeStateHash();
     isGameStarted = true;
   }
 
@@ -540,12 +780,16 @@ public class ThreeTriosGridModel implements GameGridModel {
     if (row < 0 || row >= numRows || col < 0 || col >= numCols) {
       throw new IllegalArgumentException("Invalid cell coordinates");
     }
-    CellType cellType = grid.get(row).get(col);
-    if (cellType == CellType.CARD_CELL) {
-      return cellGrid.get(row).get(col);
-    } else {
+    int cardCell = topology.getCardCellIndex(row * numCols + col);
+    if (cardCell == -1) {
       return new HoleCell();
     }
+    // A snapshot of the cell, since the cards and owners live in this game's arrays.
+    CardCell cell = new CardCell();
+    if (placedCards[cardCell] != null) {
+      cell.placeCard(placedCards[cardCell], toPlayer(owners[cardCell]));
+    }
+    return cell;
   }
 
   @Override
@@ -583,23 +827,22 @@ public class ThreeTriosGridModel implements GameGridModel {
     if (row < 0 || row >= numRows || col < 0 || col >= numCols) {
       throw new IllegalArgumentException("Invalid cell coordinates");
     }
-    return grid.get(row).get(col);
+    return topology.isCardCell(row * numCols + col) ? CellType.CARD_CELL : CellType.HOLE;
   }
 
   /**
-   * Gets the name of the card.
+   * Gets a card of the card config by its name, wherever it is in the game.
    *
    * @param name is the name of the card.
    * @return the card by the name.
    */
   @Override
   public Card getCardByName(String name) {
-    for (Card card : deck) {
-      if (card.getName().equals(name)) {
-        return card;
-      }
+    Integer id = cardIds.get(name);
+    if (id == null) {
+      throw new IllegalArgumentException("Is not contained int he deck");
     }
-    throw new IllegalArgumentException("Is not contained int he deck");
+    return cardsById[id];
   }
 
   /**
@@ -643,8 +886,23 @@ public class ThreeTriosGridModel implements GameGridModel {
     if (!isGameOver()) {
       throw new IllegalStateException("Game is not over");
     }
-    determineWinner();
-    return gameWinner;
+    return determineWinner().getWinner();
+  }
+
+  /**
+   * Gets the result of the finished game. The result of a game ended by played moves is
+   * computed once and kept; the result of a board filled by applied moves is computed on each
+   * call and never reaches the listeners.
+   *
+   * @return the winner and final scores of the game.
+   * @throws IllegalStateException if game is not over or has not started
+   */
+  public GameResult getResult() {
+    gameNotStarted();
+    if (!isGameOver()) {
+      throw new IllegalStateException("Game is not over");
+    }
+    return determineWinner();
   }
 
   /**
@@ -666,14 +924,11 @@ public class ThreeTriosGridModel implements GameGridModel {
     List<Card> hand = getPlayerHand(player);
     score += hand.size();
 
-    for (int row = 0; row < numRows; row++) {
-      for (int col = 0; col < numCols; col++) {
-        Cell cell = cellGrid.get(row).get(col);
-        if (cell instanceof CardCell && cell.isOccupied()
-                && cell.getOwner() == player) {
-          score++;
-        }
-      }
+    // The owned cells are counted as cards are placed and flipped.
+    if (player == Player.RED) {
+      score += redCells;
+    } else if (player == Player.BLUE) {
+      score += blueCells;
     }
 
     return score;
@@ -693,16 +948,15 @@ public class ThreeTriosGridModel implements GameGridModel {
     if (!isGameStarted) {
       throw new IllegalStateException("Game has not started");
     }
-    if (row < 0 || row >= numRows || col < 0 || col >= numCols) {
-      return false;
-    }
-    Cell cell = cellGrid.get(row).get(col);
-    return cell.canPlaceCard();
+    int cardCell = topology.getCardCellIndex(row, col);
+    return cardCell != -1 && placedCards[cardCell] == null;
   }
 
   /**
    * Calculates how many opponent cards would be flipped if the given card was played at the
-   * specified position.
+   * specified position. The cascade is simulated against the live board: cells it would flip
+   * are only marked in a reusable stamp array, so the board is never copied and the call
+   * allocates nothing.
    * @param card the card to simulate playing
    * @param row  the row to simulate playing at
    * @param col  the column to simulate playing at
@@ -720,36 +974,23 @@ public class ThreeTriosGridModel implements GameGridModel {
       throw new IllegalStateException("Game has not started");
     }
 
-    Cell cell = cellGrid.get(row).get(col);
-    if (!cell.canPlaceCard()) {
+    int cardCell = topology.getCardCellIndex(row * numCols + col);
+    if (cardCell == -1 || placedCards[cardCell] != null) {
       throw new IllegalArgumentException("Invalid coordinate.");
     }
 
-    List<List<Cell>> tempGrid = new ArrayList<>();
-    for (int currentRow = 0; currentRow < numRows; currentRow++) {
-      List<Cell> curRow = new ArrayList<>();
-      for (int currentCol = 0; currentCol < numCols; currentCol++) {
-        Cell originalCell = cellGrid.get(currentRow).get(currentCol);
-        if (originalCell instanceof CardCell) {
-          CardCell newCell = new CardCell();
-          if (originalCell.isOccupied()) {
-            newCell.placeCard(copyCard(originalCell.getCard()), originalCell.getOwner());
-          }
-          curRow.add(newCell);
-        } else {
-          curRow.add(new HoleCell());
-        }
-      }
-      tempGrid.add(curRow);
-    }
-
-    Cell tempCell = tempGrid.get(row).get(col);
-    tempCell.placeCard(copyCard(card), currentPlayer);
-    Position position = new Position(row, col);
-    Set<Position> flippedCards = new HashSet<>();
-    calculatePotentialFlips(position, tempGrid, flippedCards);
+    return calculatePotentialFlips(cardCell, card, toOwner(currentPlayer),
+            nextVisitStamp());
+  }
 
-    return flippedCards.size();
+  /**
+   * Gets the neighbour table of the board, shared by every game on it.
+   *
+   * @return the neighbour table of the grid.
+   */
+  @Override
+  public NeighbourTable getNeighbourTable() {
+    return topology.getNeighbourTable();
   }
 
   /**
@@ -764,60 +1005,176 @@ public class ThreeTriosGridModel implements GameGridModel {
       throw new IllegalStateException("Game has not started");
     }
 
-    List<Position> legalMoves = new ArrayList<>();
+    List<Position> legalMoves = new ArrayList<>(emptyCardCells);
 
-    for (int row = 0; row < numRows; row++) {
-      for (int col = 0; col < numCols; col++) {
-        Cell cell = cellGrid.get(row).get(col);
-        if (cell instanceof CardCell && !cell.isOccupied()) {
-          legalMoves.add(new Position(row, col));
-        }
+    for (int cardCell = 0; cardCell < numberOfCardCells; cardCell++) {
+      if (placedCards[cardCell] == null) {
+        int cell = cellIndexes[cardCell];
+        legalMoves.add(new Position(cell / numCols, cell % numCols));
       }
     }
 
     return legalMoves;
   }
 
-  private void calculatePotentialFlips(Position position, List<List<Cell>> tempGrid,
-                                       Set<Position> flippedCards) {
-    if (!isGameStarted) {
-      throw new IllegalStateException("Game has not started");
+  /**
+   * Calculates the flip count of every card in the player's hand at every legal cell in one
+   * pass. Once the cards next to a cell are known, the cascade only depends on which of those
+   * neighbours the placed card beats, so each cell simulates at most one cascade per subset of
+   * beaten neighbours and every card only compares its four attack values.
+   */
+  @Override
+  public int[][] getFlipMatrix(Player player) {
+    List<Card> hand = getPlayerHand(player);
+    int[][] flips = new int[hand.size()][numRows * numCols];
+    for (int[] cardFlips : flips) {
+      Arrays.fill(cardFlips, -1);
     }
-    if (position == null || tempGrid == null || flippedCards == null) {
-      throw new IllegalArgumentException("Args cannot be null");
-    }
-
-    for (Direction direction : Direction.values()) {
-      Position adjPosition = getAdjacentPosition(position, direction);
-      int adjRow = adjPosition.getRow();
-      int adjCol = adjPosition.getCol();
-
-      if (adjRow >= 0 && adjRow < numRows && adjCol >= 0 && adjCol < numCols) {
-        Cell currentCell = tempGrid.get(position.getRow()).get(position.getCol());
-        Cell adjCell = tempGrid.get(adjRow).get(adjCol);
-
-        if (adjCell.isOccupied()) {
-          Card currentCard = currentCell.getCard();
-          Card adjCard = adjCell.getCard();
-          Player currentOwner = currentCell.getOwner();
-          Player adjOwner = adjCell.getOwner();
-
-          if (adjOwner != currentOwner) {
-            int attackValue = currentCard.getAttackValue(direction);
-            int defenseValue = adjCard.getAttackValue(direction.opposite());
-
-            if (attackValue > defenseValue) {
-              Position adjPos = new Position(adjRow, adjCol);
-              if (!flippedCards.contains(adjPos)) {
-                flippedCards.add(adjPos);
-                adjCell.setOwner(currentOwner);
-                calculatePotentialFlips(adjPos, tempGrid, flippedCards);
-              }
-            }
+    int[] neighbourDefense = new int[DIRECTIONS.length];
+    int[] subsetFlips = new int[1 << DIRECTIONS.length];
+    byte mover = toOwner(player);
+
+    for (int cardCell = 0; cardCell < numberOfCardCells; cardCell++) {
+      if (placedCards[cardCell] != null) {
+        continue;
+      }
+      int opponents = 0; // Bit per direction holding an opponent's card.
+      for (Direction direction : DIRECTIONS) {
+        int adjCell = neighbours[cardCell * 4 + direction.ordinal()];
+        if (adjCell != -1 && placedCards[adjCell] != null && owners[adjCell] != mover) {
+          opponents |= 1 << direction.ordinal();
+          neighbourDefense[direction.ordinal()] =
+                  placedCards[adjCell].getAttackValue(direction.opposite());
+        }
+      }
+
+      Arrays.fill(subsetFlips, -1);
+      for (int cardIndex = 0; cardIndex < hand.size(); cardIndex++) {
+        Card card = hand.get(cardIndex);
+        int beaten = 0;
+        for (Direction direction : DIRECTIONS) {
+          int bit = 1 << direction.ordinal();
+          if ((opponents & bit) != 0
+                  && card.getAttackValue(direction) > neighbourDefense[direction.ordinal()]) {
+            beaten |= bit;
           }
         }
+        if (subsetFlips[beaten] == -1) {
+          subsetFlips[beaten] = calculateCascadeFlips(cardCell, beaten, mover);
+        }
+        flips[cardIndex][cellIndexes[cardCell]] = subsetFlips[beaten];
+      }
+    }
+    return flips;
+  }
+
+  /**
+   * Calculates the flip count of one card at every legal cell, running one simulated cascade
+   * per empty card cell instead of building the matrix of the whole hand.
+   */
+  @Override
+  public int[] getCardFlips(Player player, Card card) {
+    if (card == null) {
+      throw new IllegalArgumentException("Card cannot be null");
+    }
+    getPlayerHand(player);
+    int[] flips = new int[numRows * numCols];
+    Arrays.fill(flips, -1);
+    byte mover = toOwner(player);
+    for (int cardCell = 0; cardCell < numberOfCardCells; cardCell++) {
+      if (placedCards[cardCell] == null) {
+        flips[cellIndexes[cardCell]] = calculatePotentialFlips(cardCell, card, mover,
+                nextVisitStamp());
       }
     }
+    return flips;
+  }
+
+  /**
+   * Counts the cards flipped when the neighbours of the given card cell in the given directions
+   * are beaten, including every card those neighbours flip in turn.
+   */
+  private int calculateCascadeFlips(int cardCell, int beaten, byte mover) {
+    int stamp = nextVisitStamp();
+    int top = 0;
+    for (Direction direction : DIRECTIONS) {
+      if ((beaten & (1 << direction.ordinal())) != 0) {
+        int adjCell = neighbours[cardCell * 4 + direction.ordinal()];
+        visited[adjCell] = stamp;
+        workStack[top++] = adjCell;
+      }
+    }
+    return top + resolveSimulatedCascade(top, mover, stamp);
+  }
+
+  /**
+   * Counts the cards flipped by the attacker placed in the given card cell and by every card it
+   * flips in turn. A card cell marked with the current stamp counts as already flipped to the
+   * mover.
+   *
+   * @param cardCell the card cell index of the attacking card.
+   * @param attacker the attacking card.
+   * @param mover    the owner the flipped cards would go to.
+   * @param stamp    the stamp of this simulation.
+   * @return the number of cards flipped from this position on.
+   */
+  private int calculatePotentialFlips(int cardCell, Card attacker, byte mover, int stamp) {
+    int top = pushBeatenNeighbours(cardCell, attacker, mover, stamp, 0);
+    return top + resolveSimulatedCascade(top, mover, stamp);
+  }
+
+  /**
+   * Lets every card on the work stack attack its neighbours, pushing each card it would flip,
+   * until the stack is empty. Nothing on the board changes.
+   *
+   * @param top   the number of card cells on the work stack.
+   * @param mover the owner the flipped cards would go to.
+   * @param stamp the stamp of this simulation.
+   * @return the number of cards flipped beyond the ones already on the stack.
+   */
+  private int resolveSimulatedCascade(int top, byte mover, int stamp) {
+    int flipped = 0;
+    while (top > 0) {
+      int cardCell = workStack[--top];
+      int newTop = pushBeatenNeighbours(cardCell, placedCards[cardCell], mover, stamp, top);
+      flipped += newTop - top;
+      top = newTop;
+    }
+    return flipped;
+  }
+
+  /**
+   * Marks and pushes every neighbour of the given card cell the attacker would flip.
+   *
+   * @return the new top of the work stack.
+   */
+  private int pushBeatenNeighbours(int cardCell, Card attacker, byte mover, int stamp, int top) {
+    for (Direction direction : DIRECTIONS) {
+      int adjCell = neighbours[cardCell * 4 + direction.ordinal()];
+
+      if (adjCell != -1 && visited[adjCell] != stamp && placedCards[adjCell] != null
+              && owners[adjCell] != mover) {
+        int attackValue = attacker.getAttackValue(direction);
+        int defenseValue = placedCards[adjCell].getAttackValue(direction.opposite());
+
+        if (attackValue > defenseValue) {
+          visited[adjCell] = stamp;
+          workStack[top++] = adjCell;
+        }
+      }
+    }
+    return top;
+  }
+
+  /**
+   * Starts a new cascade generation, clearing the stamps only when the counter wraps.
+   */
+  private int nextVisitStamp() {
+    if (++visitStamp == Integer.MAX_VALUE) {
+      Arrays.fill(visited, 0);
+      visitStamp = 1;
+    }
+    return visitStamp;
   }
 
   /**
@@ -831,57 +1188,51 @@ public class ThreeTriosGridModel implements GameGridModel {
     copy.numRows = this.numRows;
     copy.numCols = this.numCols;
     copy.currentPlayer = this.currentPlayer;
-    copy.gameWinner = this.gameWinner;
+    copy.result = this.result;
     copy.isGameStarted = this.isGameStarted;
-    copy.isGameWon = this.isGameWon;
     copy.gameOver = this.gameOver;
     copy.numberOfCardCells = this.numberOfCardCells;
     copy.numberOfCards = this.numberOfCards;
-    copy.deck = new ArrayList<>();
-
+    copy.initializeMoveHistory();
+    copy.cardIds = this.cardIds;
+    copy.stateHash = this.stateHash;
+    copy.configurationKey = this.configurationKey;
+    // The copy indexes its own cards by name as they are copied.
+    copy.cardsById = new Card[cardsById.length];
+    copy.deck = new ArrayList<>(deck.size());
     for (Card card : this.deck) {
-      copy.deck.add(copyCard(card));
+      copy.deck.add(copy.copyCard(card));
     }
 
-    copy.redPlayerHand = new ArrayList<>();
+    copy.redPlayerHand = new Hand();
     for (Card card : this.redPlayerHand) {
-      copy.redPlayerHand.add(copyCard(card));
+      copy.redPlayerHand.add(copy.copyCard(card));
     }
 
-    copy.bluePlayerHand = new ArrayList<>();
+    copy.bluePlayerHand = new Hand();
     for (Card card : this.bluePlayerHand) {
-      copy.bluePlayerHand.add(copyCard(card));
-    }
-
-    copy.grid = new ArrayList<>();
-    for (List<CellType> row : this.grid) {
-      copy.grid.add(new ArrayList<>(row));
+      copy.bluePlayerHand.add(copy.copyCard(card));
     }
 
-    copy.cellGrid = new ArrayList<>();
-    for (int row = 0; row < numRows; row++) {
-      List<Cell> newRow = new ArrayList<>();
-      for (int col = 0; col < numCols; col++) {
-        Cell originalCell = this.cellGrid.get(row).get(col);
-        if (originalCell instanceof CardCell) {
-          CardCell newCell = new CardCell();
-          if (originalCell.isOccupied()) {
-            Card newCard = copyCard(originalCell.getCard());
-            newCell.placeCard(newCard, originalCell.getOwner());
-          }
-          newRow.add(newCell);
-        } else {
-          newRow.add(new HoleCell());
-        }
-      }
-      copy.cellGrid.add(newRow);
+    // The layout is shared; only the cards and owners of the game are copied.
+    copy.topology = this.topology;
+    copy.cellIndexes = this.cellIndexes;
+    copy.neighbours = this.neighbours;
+    copy.owners = this.owners.clone();
+    copy.redCells = this.redCells;
+    copy.blueCells = this.blueCells;
+    copy.emptyCardCells = this.emptyCardCells;
+    copy.placedCards = new Card[placedCards.length];
+    for (int cardCell = 0; cardCell < placedCards.length; cardCell++) {
+      copy.placedCards[cardCell] = copy.copyCard(placedCards[cardCell]);
     }
 
     return copy;
   }
 
   /**
-   * Helper method to create a deep copy of a card.
+   * Helper method to create a deep copy of a card and record it as this model's card with the
+   * same name.
    * @param original the card to copy
    * @return a new Card with the same properties as the original
    */
@@ -890,12 +1241,17 @@ public class ThreeTriosGridModel implements GameGridModel {
       return null;
     }
 
-    return new Card(
+    Card card = new Card(
             original.getName(),
             original.getNorthAttack(),
             original.getSouthAttack(),
             original.getEastAttack(),
             original.getWestAttack()
     );
+    Integer id = cardIds.get(card.getName());
+    if (id != null) {
+      cardsById[id] = card;
+    }
+    return card;
   }
 }
\ No newline at end of file
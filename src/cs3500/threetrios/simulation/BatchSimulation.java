@@ -0,0 +1,164 @@
+package cs3500.threetrios.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+import cs3500.threetrios.strategy.StrategicThreeTrios;
+
+/**
+ * Plays batches of machine-versus-machine games without any view or controller. Each game
+ * deals from its own seed, derived from the batch seed and the game's number, so a batch gives
+ * the same deals however many threads play it and any single game can be replayed.
+ *
+ * <p>Games are shared out to the worker threads one at a time. Every worker creates its own
+ * pair of strategies once and reuses them for all its games, since strategies may keep
+ * per-search state.</p>
+ */
+public final class BatchSimulation {
+  private final String directoryCards;
+  private final String filenameCards;
+  private final String directoryBoard;
+  private final String filenameBoard;
+
+  /**
+   * Creates a simulation that plays every game with the given card and board configurations.
+   *
+   * @param directoryCards the directory of the card configuration.
+   * @param filenameCards  the card configuration file.
+   * @param directoryBoard the directory of the board configuration.
+   * @param filenameBoard  the board configuration file.
+   * @throws IllegalArgumentException if any argument is null.
+   */
+  public BatchSimulation(String directoryCards, String filenameCards, String directoryBoard,
+                         String filenameBoard) {
+    if (directoryCards == null || filenameCards == null || directoryBoard == null
+            || filenameBoard == null) {
+      throw new IllegalArgumentException("Configuration args cannot be null");
+    }
+    this.directoryCards = directoryCards;
+    this.filenameCards = filenameCards;
+    this.directoryBoard = directoryBoard;
+    this.filenameBoard = filenameBoard;
+  }
+
+  /**
+   * Plays a batch of games.
+   *
+   * @param red     creates the strategy playing red.
+   * @param blue    creates the strategy playing blue.
+   * @param games   the number of games to play.
+   * @param threads the number of threads playing games at once.
+   * @param seed    the seed every game's deal is derived from.
+   * @return the aggregate statistics of the batch.
+   * @throws IllegalArgumentException if a strategy is null or games or threads not positive.
+   * @throws IllegalStateException    if a game fails or the batch is interrupted.
+   */
+  public SimulationResult run(Supplier<StrategicThreeTrios> red,
+                              Supplier<StrategicThreeTrios> blue, long games, int threads,
+                              long seed) {
+    if (red == null || blue == null) {
+      throw new IllegalArgumentException("Strategies cannot be null");
+    }
+    if (games < 1 || threads < 1) {
+      throw new IllegalArgumentException("Games and threads must be positive");
+    }
+    LongAdder redWins = new LongAdder();
+    LongAdder blueWins = new LongAdder();
+    LongAdder draws = new LongAdder();
+    LongAdder redScore = new LongAdder();
+    LongAdder blueScore = new LongAdder();
+    AtomicLong nextGame = new AtomicLong();
+
+    Runnable worker = () -> {
+      StrategicThreeTrios redStrategy = red.get();
+      StrategicThreeTrios blueStrategy = blue.get();
+      long game;
+      while ((game = nextGame.getAndIncrement()) < games) {
+        ThreeTriosGridModel model = playGame(redStrategy, blueStrategy, gameSeed(seed, game));
+        Player winner = model.getWinner();
+        if (winner == Player.RED) {
+          redWins.increment();
+        } else if (winner == Player.BLUE) {
+          blueWins.increment();
+        } else {
+          draws.increment();
+        }
+        redScore.add(model.getPlayerScore(Player.RED));
+        blueScore.add(model.getPlayerScore(Player.BLUE));
+      }
+    };
+
+    long start = System.nanoTime();
+    if (threads == 1) {
+      worker.run();
+    } else {
+      ExecutorService pool = Executors.newFixedThreadPool(threads);
+      try {
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+          workers.add(pool.submit(worker));
+        }
+        for (Future<?> future : workers) {
+          future.get();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while simulating", e);
+      } catch (ExecutionException e) {
+        throw new IllegalStateException("Simulated game failed", e.getCause());
+      } finally {
+        pool.shutdownNow();
+      }
+    }
+    return new SimulationResult(redWins.sum(), blueWins.sum(), draws.sum(), redScore.sum(),
+            blueScore.sum(), System.nanoTime() - start);
+  }
+
+  /**
+   * Plays one game to the end.
+   *
+   * @param red  the strategy playing red.
+   * @param blue the strategy playing blue.
+   * @param seed the seed of the deal.
+   * @return the finished game.
+   * @throws IllegalStateException if a strategy does not make a move on its turn.
+   */
+  public ThreeTriosGridModel playGame(StrategicThreeTrios red, StrategicThreeTrios blue,
+                                      long seed) {
+    ThreeTriosGridModel model = new ThreeTriosGridModel(new Random(seed));
+    model.startGame(directoryCards, filenameCards, directoryBoard, filenameBoard);
+    while (!model.isGameOver()) {
+      Player player = model.getCurrentPlayer();
+      long before = model.getStateHash();
+      (player == Player.RED ? red : blue).execute(model, player);
+      if (model.getStateHash() == before) {
+        throw new IllegalStateException("Strategy made no move for " + player);
+      }
+    }
+    return model;
+  }
+
+  /**
+   * Derives the seed of one game of a batch.
+   *
+   * @param seed the seed of the batch.
+   * @param game the number of the game in the batch, from 0.
+   * @return the seed the game's deck is shuffled with.
+   */
+  public static long gameSeed(long seed, long game) {
+    long z = seed + (game + 1) * 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,43 @@
+package cs3500.threetrios.simulation;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import cs3500.threetrios.model.BinaryConfig;
+
+/**
+ * Headless entry point that compiles a text board or card configuration into the binary
+ * format of {@link BinaryConfig}, which startGame loads without parsing any text.
+ *
+ * <p>Usage: board|cards directory file output</p>
+ */
+public final class CompileMain {
+
+  private static final String USAGE = "Usage: board|cards directory file output";
+
+  private CompileMain() {
+  }
+
+  /**
+   * Compiles the configuration named by the arguments.
+   *
+   * @param args the kind of configuration, its directory and file, then the output file.
+   */
+  public static void main(String[] args) {
+    if (args.length != 4 || !(args[0].equals("board") || args[0].equals("cards"))) {
+      System.out.println(USAGE);
+      return;
+    }
+    try {
+      if (args[0].equals("board")) {
+        BinaryConfig.compileBoard(args[1], args[2], Paths.get(args[3]));
+      } else {
+        BinaryConfig.compileCards(args[1], args[2], Paths.get(args[3]));
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      System.out.println("Cannot compile " + args[2] + ": " + e.getMessage());
+      return;
+    }
+    System.out.printf("Wrote %s%n", args[3]);
+  }
+}
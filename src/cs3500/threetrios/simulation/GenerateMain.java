@@ -0,0 +1,79 @@
+package cs3500.threetrios.simulation;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.threetrios.model.AttackDistribution;
+import cs3500.threetrios.model.ConfigGenerator;
+
+/**
+ * Headless entry point that writes generated board and card configuration files, for stress
+ * testing the model and strategies on inputs far larger than the ones in docs.
+ *
+ * <p>Usage: board rows cols file [--holes density] [--seed N], or
+ * cards count file [--attacks uniform|balanced|weak|strong] [--seed N]</p>
+ */
+public final class GenerateMain {
+
+  private static final String USAGE = "Usage: board rows cols file [--holes density] "
+          + "[--seed N]\n       cards count file [--attacks uniform|balanced|weak|strong] "
+          + "[--seed N]";
+
+  private GenerateMain() {
+  }
+
+  /**
+   * Writes the configuration described by the arguments.
+   *
+   * @param args the kind of configuration, its size and file, then the options.
+   */
+  public static void main(String[] args) {
+    boolean board = args.length > 0 && args[0].equals("board");
+    int positional = board ? 4 : 3;
+    if (args.length < positional || !(board || args[0].equals("cards"))) {
+      System.out.println(USAGE);
+      return;
+    }
+    double holes = 0;
+    AttackDistribution attacks = AttackDistribution.UNIFORM;
+    long seed = System.nanoTime();
+    List<String> lines;
+    try {
+      for (int i = positional; i < args.length; i++) {
+        switch (args[i]) {
+          case "--holes":
+            holes = Double.parseDouble(args[++i]);
+            break;
+          case "--attacks":
+            attacks = AttackDistribution.valueOf(args[++i].toUpperCase());
+            break;
+          case "--seed":
+            seed = Long.parseLong(args[++i]);
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown option: " + args[i]);
+        }
+      }
+      Random random = new Random(seed);
+      lines = board
+              ? ConfigGenerator.generateBoard(Integer.parseInt(args[1]),
+                      Integer.parseInt(args[2]), holes, random)
+              : ConfigGenerator.toCardLines(ConfigGenerator.generateCards(
+                      Integer.parseInt(args[1]), attacks, random));
+    } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+      System.out.println(USAGE);
+      return;
+    }
+
+    String file = args[positional - 1];
+    try {
+      ConfigGenerator.write(Paths.get(file), lines);
+    } catch (IOException e) {
+      System.out.println("Cannot write " + file + ": " + e.getMessage());
+      return;
+    }
+    System.out.printf("Wrote %s (%d lines, seed %d)%n", file, lines.size(), seed);
+  }
+}
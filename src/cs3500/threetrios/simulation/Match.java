@@ -0,0 +1,185 @@
+package cs3500.threetrios.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+import cs3500.threetrios.strategy.StrategicThreeTrios;
+
+/**
+ * A head-to-head match between two strategies. Each deal is played twice, first with the first
+ * strategy as red and then as blue, and the match either plays a fixed number of deals or runs
+ * a {@link SequentialTest} and stops as soon as it reaches a verdict.
+ *
+ * <p>Workers claim deals through an atomic counter, but results are counted strictly in deal
+ * order, so a seeded match reaches the same verdict after the same deals whatever the number
+ * of threads. Once the verdict is reached no new deals are started; the few already being
+ * played by other threads are discarded.</p>
+ */
+public final class Match {
+  private final BatchSimulation setup;
+  private final Supplier<StrategicThreeTrios> first;
+  private final Supplier<StrategicThreeTrios> second;
+
+  /**
+   * Creates a match.
+   *
+   * @param setup  the board and card configuration the match is played on.
+   * @param first  creates the strategy being tested.
+   * @param second creates the strategy it is measured against.
+   * @throws IllegalArgumentException if any argument is null.
+   */
+  public Match(BatchSimulation setup, Supplier<StrategicThreeTrios> first,
+               Supplier<StrategicThreeTrios> second) {
+    if (setup == null || first == null || second == null) {
+      throw new IllegalArgumentException("Match args cannot be null");
+    }
+    this.setup = setup;
+    this.first = first;
+    this.second = second;
+  }
+
+  /**
+   * Plays a fixed number of deals.
+   *
+   * @param deals   the number of deals, each played with both colours.
+   * @param threads the number of threads playing games at once.
+   * @param seed    the seed every deal is derived from.
+   * @return the result of the match.
+   * @throws IllegalArgumentException if deals or threads is not positive.
+   * @throws IllegalStateException    if a game fails or the match is interrupted.
+   */
+  public MatchResult run(int deals, int threads, long seed) {
+    return play(null, deals, threads, seed);
+  }
+
+  /**
+   * Plays deals until the sequential test reaches a verdict or the deal limit is reached.
+   *
+   * @param test     the test deciding when to stop.
+   * @param maxDeals the most deals to play, each played with both colours.
+   * @param threads  the number of threads playing games at once.
+   * @param seed     the seed every deal is derived from.
+   * @return the result of the match, with the verdict and the games saved.
+   * @throws IllegalArgumentException if the test is null or maxDeals or threads is not
+   *                                  positive.
+   * @throws IllegalStateException    if a game fails or the match is interrupted.
+   */
+  public MatchResult run(SequentialTest test, int maxDeals, int threads, long seed) {
+    if (test == null) {
+      throw new IllegalArgumentException("Sequential test cannot be null");
+    }
+    return play(test, maxDeals, threads, seed);
+  }
+
+  private MatchResult play(SequentialTest test, int maxDeals, int threads, long seed) {
+    if (maxDeals < 1 || threads < 1) {
+      throw new IllegalArgumentException("Deals and threads must be positive");
+    }
+    // outcomes[deal] is the first strategy's half-points in the deal's red game times 3 plus
+    // its half-points in the blue game, or -1 while the deal is unfinished.
+    byte[] outcomes = new byte[maxDeals];
+    Arrays.fill(outcomes, (byte) -1);
+    Tally tally = new Tally(test);
+    AtomicLong nextDeal = new AtomicLong();
+
+    Runnable worker = () -> {
+      StrategicThreeTrios firstStrategy = first.get();
+      StrategicThreeTrios secondStrategy = second.get();
+      long deal;
+      while (!tally.finished && (deal = nextDeal.getAndIncrement()) < maxDeals) {
+        long dealSeed = BatchSimulation.gameSeed(seed, deal);
+        int asRed = halfPoints(setup.playGame(firstStrategy, secondStrategy, dealSeed),
+                Player.RED);
+        int asBlue = halfPoints(setup.playGame(secondStrategy, firstStrategy, dealSeed),
+                Player.BLUE);
+        tally.record(outcomes, (int) deal, (byte) (asRed * 3 + asBlue));
+      }
+    };
+
+    long start = System.nanoTime();
+    if (threads == 1) {
+      worker.run();
+    } else {
+      ExecutorService pool = Executors.newFixedThreadPool(threads);
+      try {
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+          workers.add(pool.submit(worker));
+        }
+        for (Future<?> future : workers) {
+          future.get();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while playing the match", e);
+      } catch (ExecutionException e) {
+        throw new IllegalStateException("Match game failed", e.getCause());
+      } finally {
+        pool.shutdownNow();
+      }
+    }
+    long elapsed = System.nanoTime() - start;
+
+    SequentialTest.Verdict verdict = test == null ? SequentialTest.Verdict.INCONCLUSIVE
+            : test.decide(tally.pairs);
+    return new MatchResult(tally.wins, tally.draws, tally.losses, tally.pairs,
+            2L * maxDeals, test, verdict, elapsed);
+  }
+
+  private static int halfPoints(ThreeTriosGridModel model, Player player) {
+    Player winner = model.getWinner();
+    return winner == player ? 2 : (winner == Player.NULL_PLAYER ? 1 : 0);
+  }
+
+  /**
+   * The results counted so far, in deal order. Deals that finish early wait in the outcomes
+   * array until every deal before them has been counted.
+   */
+  private static final class Tally {
+    private final SequentialTest test;
+    private final long[] pairs = new long[5];
+    private long wins;
+    private long draws;
+    private long losses;
+    private int counted;
+    private volatile boolean finished;
+
+    Tally(SequentialTest test) {
+      this.test = test;
+    }
+
+    synchronized void record(byte[] outcomes, int deal, byte outcome) {
+      outcomes[deal] = outcome;
+      while (!finished && counted < outcomes.length && outcomes[counted] != -1) {
+        int asRed = outcomes[counted] / 3;
+        int asBlue = outcomes[counted] % 3;
+        count(asRed);
+        count(asBlue);
+        pairs[asRed + asBlue]++;
+        counted++;
+        if (test != null && test.decide(pairs) != SequentialTest.Verdict.INCONCLUSIVE) {
+          finished = true;
+        }
+      }
+    }
+
+    private void count(int halfPoints) {
+      if (halfPoints == 2) {
+        wins++;
+      } else if (halfPoints == 1) {
+        draws++;
+      } else {
+        losses++;
+      }
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package cs3500.threetrios.simulation;
+
+import cs3500.threetrios.strategy.Strategies;
+
+/**
+ * Headless entry point that plays a head-to-head match between two strategies, each deal with
+ * both colours, and prints the record and Elo estimate of the first. With --sprt the match
+ * stops as soon as the sequential test accepts one of its Elo bounds.
+ *
+ * <p>Usage: strategy opponent [--deals N] [--threads N] [--seed N]
+ * [--sprt elo0 elo1] [--alpha A] [--beta B] [--cards directory file]
+ * [--board directory file]</p>
+ */
+public final class MatchMain {
+
+  private static final String USAGE = "Usage: strategy opponent [--deals N] [--threads N] "
+          + "[--seed N] [--sprt elo0 elo1] [--alpha A] [--beta B] [--cards directory file] "
+          + "[--board directory file]";
+
+  private MatchMain() {
+  }
+
+  /**
+   * Runs the match described by the arguments.
+   *
+   * @param args the strategies followed by the options.
+   */
+  public static void main(String[] args) {
+    if (args.length < 2 || !Strategies.contains(args[0]) || !Strategies.contains(args[1])) {
+      System.out.println(USAGE);
+      System.out.println("Strategies: " + String.join(", ", Strategies.names()));
+      return;
+    }
+    int deals = 10000;
+    int threads = Runtime.getRuntime().availableProcessors();
+    long seed = System.nanoTime();
+    double[] bounds = null;
+    double alpha = 0.05;
+    double beta = 0.05;
+    String[] cards = {"docs", "cardsWorksWithAll.config"};
+    String[] board = {"docs", "board.config"};
+    SequentialTest test = null;
+    try {
+      for (int i = 2; i < args.length; i++) {
+        switch (args[i]) {
+          case "--deals":
+            deals = Integer.parseInt(args[++i]);
+            break;
+          case "--threads":
+            threads = Integer.parseInt(args[++i]);
+            break;
+          case "--seed":
+            seed = Long.parseLong(args[++i]);
+            break;
+          case "--sprt":
+            bounds = new double[] {Double.parseDouble(args[++i]),
+                Double.parseDouble(args[++i])};
+            break;
+          case "--alpha":
+            alpha = Double.parseDouble(args[++i]);
+            break;
+          case "--beta":
+            beta = Double.parseDouble(args[++i]);
+            break;
+          case "--cards":
+            cards = new String[] {args[++i], args[++i]};
+            break;
+          case "--board":
+            board = new String[] {args[++i], args[++i]};
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown option: " + args[i]);
+        }
+      }
+      if (bounds != null) {
+        test = new SequentialTest(bounds[0], bounds[1], alpha, beta);
+      }
+    } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+      System.out.println(USAGE);
+      return;
+    }
+
+    System.out.printf("%s vs %s, up to %d deals on %d threads, seed %d%n",
+            args[0], args[1], deals, threads, seed);
+    Match match = new Match(new BatchSimulation(cards[0], cards[1], board[0], board[1]),
+            Strategies.supplier(args[0], threads), Strategies.supplier(args[1], threads));
+    MatchResult result = test == null ? match.run(deals, threads, seed)
+            : match.run(test, deals, threads, seed);
+    System.out.println(result);
+  }
+}
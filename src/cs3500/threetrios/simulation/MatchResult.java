@@ -0,0 +1,194 @@
+package cs3500.threetrios.simulation;
+
+import java.util.Arrays;
+
+/**
+ * The outcome of a head-to-head match, from the point of view of the first strategy: its
+ * record, the Elo difference it implies and, for a sequential match, the verdict and how many
+ * of the allowed games were never played.
+ */
+public final class MatchResult {
+  private static final double ELO_PER_NATURAL_LOG = 400 / Math.log(10);
+
+  private final long wins;
+  private final long draws;
+  private final long losses;
+  private final long[] pairs;
+  private final long maxGames;
+  private final SequentialTest test;
+  private final SequentialTest.Verdict verdict;
+  private final long elapsedNanos;
+
+  /**
+   * Creates the result of a match.
+   *
+   * @param wins         the games the first strategy won.
+   * @param draws        the games that ended in a draw.
+   * @param losses       the games the first strategy lost.
+   * @param pairs        pairs[k] is the number of deals in which the first strategy scored k
+   *                     half-points over both colours.
+   * @param maxGames     the most games the match was allowed to play.
+   * @param test         the sequential test the match ran, or null for a fixed match.
+   * @param verdict      the verdict of the test.
+   * @param elapsedNanos the wall-clock time the match took.
+   */
+  public MatchResult(long wins, long draws, long losses, long[] pairs, long maxGames,
+                     SequentialTest test, SequentialTest.Verdict verdict, long elapsedNanos) {
+    this.wins = wins;
+    this.draws = draws;
+    this.losses = losses;
+    this.pairs = pairs.clone();
+    this.maxGames = maxGames;
+    this.test = test;
+    this.verdict = verdict;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Gets the number of games the first strategy won.
+   *
+   * @return the wins.
+   */
+  public long getWins() {
+    return wins;
+  }
+
+  /**
+   * Gets the number of drawn games.
+   *
+   * @return the draws.
+   */
+  public long getDraws() {
+    return draws;
+  }
+
+  /**
+   * Gets the number of games the first strategy lost.
+   *
+   * @return the losses.
+   */
+  public long getLosses() {
+    return losses;
+  }
+
+  /**
+   * Gets the number of games counted toward the result.
+   *
+   * @return the number of games.
+   */
+  public long getGames() {
+    return wins + draws + losses;
+  }
+
+  /**
+   * Gets the number of games the match was allowed but did not need to play.
+   *
+   * @return the games saved by stopping early.
+   */
+  public long getGamesSaved() {
+    return maxGames - getGames();
+  }
+
+  /**
+   * Gets the counts of deals by the first strategy's half-points over both colours.
+   *
+   * @return a copy of the five counts, for 0 to 4 half-points.
+   */
+  public long[] getPairCounts() {
+    return pairs.clone();
+  }
+
+  /**
+   * Gets the verdict of the sequential test.
+   *
+   * @return the verdict, always INCONCLUSIVE for a fixed match.
+   */
+  public SequentialTest.Verdict getVerdict() {
+    return verdict;
+  }
+
+  /**
+   * Gets the log-likelihood ratio the sequential test ended on.
+   *
+   * @return the ratio, or 0 for a fixed match.
+   */
+  public double getLogLikelihoodRatio() {
+    return test == null ? 0 : test.logLikelihoodRatio(pairs);
+  }
+
+  /**
+   * Gets the score of the first strategy as a fraction of the points available.
+   *
+   * @return the score, between 0 and 1, or 0.5 if no game was played.
+   */
+  public double getScore() {
+    long games = getGames();
+    return games == 0 ? 0.5 : (wins + draws / 2.0) / games;
+  }
+
+  /**
+   * Estimates how many Elo the first strategy is stronger than the second.
+   *
+   * @return the Elo difference, infinite if one side won every game.
+   */
+  public double getEloDifference() {
+    double score = getScore();
+    return ELO_PER_NATURAL_LOG * Math.log(score / (1 - score));
+  }
+
+  /**
+   * Gets the half-width of the 95% confidence interval of the Elo difference, from the
+   * variance of the pair scores.
+   *
+   * @return the margin of error, infinite if it cannot be estimated yet.
+   */
+  public double getEloError() {
+    long count = 0;
+    double sum = 0;
+    double squares = 0;
+    for (int k = 0; k < pairs.length; k++) {
+      double score = k / 4.0;
+      count += pairs[k];
+      sum += pairs[k] * score;
+      squares += pairs[k] * score * score;
+    }
+    double score = getScore();
+    if (count < 2 || score <= 0 || score >= 1) {
+      return Double.POSITIVE_INFINITY;
+    }
+    double mean = sum / count;
+    double error = Math.sqrt(Math.max(0, squares / count - mean * mean) / count);
+    return 1.96 * ELO_PER_NATURAL_LOG * error / (score * (1 - score));
+  }
+
+  /**
+   * Gets the number of counted games finished per second of wall-clock time.
+   *
+   * @return the throughput, or 0 if no time was measured.
+   */
+  public double getGamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : getGames() * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * Formats the record, the Elo estimate and, for a sequential match, the verdict.
+   *
+   * @return the report.
+   */
+  @Override
+  public String toString() {
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("Games: %d, W/D/L: %d/%d/%d, Score: %.1f%%%n", getGames(), wins,
+            draws, losses, getScore() * 100));
+    report.append(String.format("Elo: %.1f +/- %.1f, Pairs (0-4): %s%n", getEloDifference(),
+            getEloError(), Arrays.toString(pairs)));
+    if (test != null) {
+      report.append(String.format("%s%nLLR: %.3f [%.3f, %.3f], Verdict: %s%n", test,
+              getLogLikelihoodRatio(), test.getLowerBound(), test.getUpperBound(), verdict));
+      report.append(String.format("Games saved: %d of %d%n", getGamesSaved(), maxGames));
+    }
+    report.append(String.format("Time: %.3f s, %.1f games/sec", elapsedNanos / 1e9,
+            getGamesPerSecond()));
+    return report.toString();
+  }
+}
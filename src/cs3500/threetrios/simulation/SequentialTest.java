@@ -0,0 +1,151 @@
+package cs3500.threetrios.simulation;
+
+/**
+ * A sequential probability ratio test between two Elo differences. The null hypothesis is that
+ * the first strategy is elo0 stronger than the second, the alternative that it is elo1
+ * stronger. Evidence is the log-likelihood ratio of the two hypotheses, and the test stops as
+ * soon as it leaves the interval set by the error rates alpha and beta.
+ *
+ * <p>The unit of evidence is a deal played twice with the colours swapped, scored 0 to 4
+ * half-points for the first strategy. Pairing the games this way removes most of the luck of
+ * the deal and of moving first, so the test needs fewer games. The ratio uses the normal
+ * approximation to the distribution of the pair score.</p>
+ */
+public final class SequentialTest {
+
+  /**
+   * The decision a sequential test has reached.
+   */
+  public enum Verdict {
+    /**
+     * The null hypothesis was accepted: the difference is no more than elo0.
+     */
+    H0,
+    /**
+     * The alternative hypothesis was accepted: the difference is at least elo1.
+     */
+    H1,
+    /**
+     * Neither hypothesis has been accepted yet.
+     */
+    INCONCLUSIVE
+  }
+
+  private final double elo0;
+  private final double elo1;
+  private final double alpha;
+  private final double beta;
+  private final double lowerBound;
+  private final double upperBound;
+
+  /**
+   * Creates a test with the given hypotheses and error rates.
+   *
+   * @param elo0  the Elo difference of the null hypothesis.
+   * @param elo1  the Elo difference of the alternative hypothesis.
+   * @param alpha the chance of accepting H1 when H0 is true.
+   * @param beta  the chance of accepting H0 when H1 is true.
+   * @throws IllegalArgumentException if elo0 is not below elo1 or an error rate is not
+   *                                  strictly between 0 and 1.
+   */
+  public SequentialTest(double elo0, double elo1, double alpha, double beta) {
+    if (!(elo0 < elo1)) {
+      throw new IllegalArgumentException("elo0 must be less than elo1");
+    }
+    if (!(alpha > 0 && alpha < 1 && beta > 0 && beta < 1)) {
+      throw new IllegalArgumentException("Error rates must be between 0 and 1");
+    }
+    this.elo0 = elo0;
+    this.elo1 = elo1;
+    this.alpha = alpha;
+    this.beta = beta;
+    this.lowerBound = Math.log(beta / (1 - alpha));
+    this.upperBound = Math.log((1 - beta) / alpha);
+  }
+
+  /**
+   * Gets the log-likelihood ratio below which H0 is accepted.
+   *
+   * @return the lower bound.
+   */
+  public double getLowerBound() {
+    return lowerBound;
+  }
+
+  /**
+   * Gets the log-likelihood ratio above which H1 is accepted.
+   *
+   * @return the upper bound.
+   */
+  public double getUpperBound() {
+    return upperBound;
+  }
+
+  /**
+   * Computes the log-likelihood ratio of H1 against H0.
+   *
+   * @param pairs pairs[k] is the number of colour-swapped pairs in which the first strategy
+   *              scored k half-points, for k from 0 to 4.
+   * @return the log-likelihood ratio, or 0 while the pair scores do not vary.
+   * @throws IllegalArgumentException if the array does not have five counts.
+   */
+  public double logLikelihoodRatio(long[] pairs) {
+    if (pairs == null || pairs.length != 5) {
+      throw new IllegalArgumentException("Pair counts must have five entries");
+    }
+    long count = 0;
+    double sum = 0;
+    double squares = 0;
+    for (int k = 0; k < pairs.length; k++) {
+      double score = k / 4.0;
+      count += pairs[k];
+      sum += pairs[k] * score;
+      squares += pairs[k] * score * score;
+    }
+    if (count == 0) {
+      return 0;
+    }
+    double mean = sum / count;
+    double variance = squares / count - mean * mean;
+    if (variance <= 0) {
+      return 0;
+    }
+    double score0 = expectedScore(elo0);
+    double score1 = expectedScore(elo1);
+    return count * (score1 - score0) * (2 * mean - score0 - score1) / (2 * variance);
+  }
+
+  /**
+   * Decides the test from the pairs played so far.
+   *
+   * @param pairs the pair score counts, as for {@link #logLikelihoodRatio(long[])}.
+   * @return the hypothesis accepted, or INCONCLUSIVE if the ratio is still between the bounds.
+   * @throws IllegalArgumentException if the array does not have five counts.
+   */
+  public Verdict decide(long[] pairs) {
+    double ratio = logLikelihoodRatio(pairs);
+    if (ratio >= upperBound) {
+      return Verdict.H1;
+    }
+    if (ratio <= lowerBound) {
+      return Verdict.H0;
+    }
+    return Verdict.INCONCLUSIVE;
+  }
+
+  /**
+   * Converts an Elo difference to the expected score of the stronger side.
+   *
+   * @param elo the Elo difference.
+   * @return the expected score, between 0 and 1.
+   */
+  static double expectedScore(double elo) {
+    return 1 / (1 + Math.pow(10, -elo / 400));
+  }
+
+  @Override
+  public String toString() {
+    return String.format("SPRT elo0=%.1f elo1=%.1f alpha=%.3f beta=%.3f", elo0, elo1, alpha,
+            beta);
+  }
+}
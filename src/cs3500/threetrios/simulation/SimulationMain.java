@@ -0,0 +1,70 @@
+package cs3500.threetrios.simulation;
+
+import cs3500.threetrios.strategy.Strategies;
+
+/**
+ * Headless entry point that plays a batch of games between two strategies and prints the
+ * aggregate statistics. No view or controller class is loaded, so it runs without a display.
+ *
+ * <p>Usage: red-strategy blue-strategy [--games N] [--threads N] [--seed N]
+ * [--cards directory file] [--board directory file]</p>
+ */
+public final class SimulationMain {
+
+  private static final String USAGE = "Usage: red-strategy blue-strategy [--games N] "
+          + "[--threads N] [--seed N] [--cards directory file] [--board directory file]";
+
+  private SimulationMain() {
+  }
+
+  /**
+   * Runs the simulation described by the arguments.
+   *
+   * @param args the strategies followed by the options.
+   */
+  public static void main(String[] args) {
+    if (args.length < 2 || !Strategies.contains(args[0]) || !Strategies.contains(args[1])) {
+      System.out.println(USAGE);
+      System.out.println("Strategies: " + String.join(", ", Strategies.names()));
+      return;
+    }
+    long games = 1000;
+    int threads = Runtime.getRuntime().availableProcessors();
+    long seed = System.nanoTime();
+    String[] cards = {"docs", "cardsWorksWithAll.config"};
+    String[] board = {"docs", "board.config"};
+    try {
+      for (int i = 2; i < args.length; i++) {
+        switch (args[i]) {
+          case "--games":
+            games = Long.parseLong(args[++i]);
+            break;
+          case "--threads":
+            threads = Integer.parseInt(args[++i]);
+            break;
+          case "--seed":
+            seed = Long.parseLong(args[++i]);
+            break;
+          case "--cards":
+            cards = new String[] {args[++i], args[++i]};
+            break;
+          case "--board":
+            board = new String[] {args[++i], args[++i]};
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown option: " + args[i]);
+        }
+      }
+    } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+      System.out.println(USAGE);
+      return;
+    }
+
+    System.out.printf("%s (red) vs %s (blue), %d games on %d threads, seed %d%n",
+            args[0], args[1], games, threads, seed);
+    BatchSimulation simulation = new BatchSimulation(cards[0], cards[1], board[0], board[1]);
+    SimulationResult result = simulation.run(Strategies.supplier(args[0], threads),
+            Strategies.supplier(args[1], threads), games, threads, seed);
+    System.out.println(result);
+  }
+}
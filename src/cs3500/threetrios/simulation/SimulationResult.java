@@ -0,0 +1,133 @@
+package cs3500.threetrios.simulation;
+
+/**
+ * The aggregate outcome of a batch of simulated games: how often each player won, the total
+ * final scores and how long the batch took.
+ */
+public final class SimulationResult {
+  private final long games;
+  private final long redWins;
+  private final long blueWins;
+  private final long draws;
+  private final long redScore;
+  private final long blueScore;
+  private final long elapsedNanos;
+
+  /**
+   * Creates the result of a batch.
+   *
+   * @param redWins      the games won by red.
+   * @param blueWins     the games won by blue.
+   * @param draws        the games that ended in a draw.
+   * @param redScore     red's final scores summed over every game.
+   * @param blueScore    blue's final scores summed over every game.
+   * @param elapsedNanos the wall-clock time the batch took.
+   */
+  public SimulationResult(long redWins, long blueWins, long draws, long redScore,
+                          long blueScore, long elapsedNanos) {
+    this.games = redWins + blueWins + draws;
+    this.redWins = redWins;
+    this.blueWins = blueWins;
+    this.draws = draws;
+    this.redScore = redScore;
+    this.blueScore = blueScore;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Gets the number of games played.
+   *
+   * @return the number of games.
+   */
+  public long getGames() {
+    return games;
+  }
+
+  /**
+   * Gets the number of games red won.
+   *
+   * @return the red wins.
+   */
+  public long getRedWins() {
+    return redWins;
+  }
+
+  /**
+   * Gets the number of games blue won.
+   *
+   * @return the blue wins.
+   */
+  public long getBlueWins() {
+    return blueWins;
+  }
+
+  /**
+   * Gets the number of games that ended in a draw.
+   *
+   * @return the draws.
+   */
+  public long getDraws() {
+    return draws;
+  }
+
+  /**
+   * Gets red's final scores summed over every game.
+   *
+   * @return the total score.
+   */
+  public long getRedScore() {
+    return redScore;
+  }
+
+  /**
+   * Gets blue's final scores summed over every game.
+   *
+   * @return the total score.
+   */
+  public long getBlueScore() {
+    return blueScore;
+  }
+
+  /**
+   * Gets the wall-clock time the batch took, in nanoseconds.
+   *
+   * @return the elapsed time.
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Gets the number of games finished per second of wall-clock time.
+   *
+   * @return the throughput, or 0 if no time was measured.
+   */
+  public double getGamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * Formats the statistics as a short report, one line per figure.
+   *
+   * @return the report.
+   */
+  @Override
+  public String toString() {
+    return String.format("Games: %d%n"
+                    + "Red wins: %d (%.1f%%)%n"
+                    + "Blue wins: %d (%.1f%%)%n"
+                    + "Draws: %d (%.1f%%)%n"
+                    + "Average score: red %.2f, blue %.2f%n"
+                    + "Time: %.3f s, %.1f games/sec",
+            games, redWins, percent(redWins), blueWins, percent(blueWins), draws, percent(draws),
+            average(redScore), average(blueScore), elapsedNanos / 1e9, getGamesPerSecond());
+  }
+
+  private double percent(long count) {
+    return games == 0 ? 0 : 100.0 * count / games;
+  }
+
+  private double average(long total) {
+    return games == 0 ? 0 : (double) total / games;
+  }
+}
@@ -0,0 +1,150 @@
+package cs3500.threetrios.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+import cs3500.threetrios.strategy.StrategicThreeTrios;
+
+/**
+ * A round-robin tournament between strategies. Every pair of entrants plays the given number
+ * of deals on every setup (a board and card configuration), and every deal is played twice
+ * with the colours swapped, so neither entrant profits from a lucky hand or from moving first.
+ *
+ * <p>Games are shared out to the worker threads one at a time through an atomic counter, and
+ * results go into LongAdder cells, one per ordered pair of entrants, so workers never contend
+ * on a lock. Each worker creates its own instance of every entrant when it first needs it.</p>
+ */
+public final class Tournament {
+  private final List<String> names;
+  private final List<Supplier<StrategicThreeTrios>> entrants;
+  private final List<BatchSimulation> setups;
+
+  /**
+   * Creates a tournament.
+   *
+   * @param entrants the entrants by name, in the order they are listed in the results.
+   * @param setups   the board and card configurations every pairing plays on.
+   * @throws IllegalArgumentException if there are fewer than two entrants or no setup.
+   */
+  public Tournament(Map<String, Supplier<StrategicThreeTrios>> entrants,
+                    List<BatchSimulation> setups) {
+    if (entrants == null || entrants.size() < 2) {
+      throw new IllegalArgumentException("A tournament needs at least two entrants");
+    }
+    if (setups == null || setups.isEmpty()) {
+      throw new IllegalArgumentException("A tournament needs at least one setup");
+    }
+    this.names = new ArrayList<>(entrants.keySet());
+    this.entrants = new ArrayList<>(entrants.values());
+    this.setups = new ArrayList<>(setups);
+  }
+
+  /**
+   * Plays the tournament.
+   *
+   * @param deals   the deals each pairing plays on each setup, each played with both colours.
+   * @param threads the number of threads playing games at once.
+   * @param seed    the seed every deal is derived from.
+   * @return the results and ratings.
+   * @throws IllegalArgumentException if deals or threads is not positive.
+   * @throws IllegalStateException    if a game fails or the tournament is interrupted.
+   */
+  public TournamentResult run(int deals, int threads, long seed) {
+    if (deals < 1 || threads < 1) {
+      throw new IllegalArgumentException("Deals and threads must be positive");
+    }
+    int count = names.size();
+    int pairs = count * (count - 1) / 2;
+    long games = (long) pairs * setups.size() * deals * 2;
+    // points[i * count + j] holds the half-points entrant i scored against entrant j.
+    LongAdder[] points = new LongAdder[count * count];
+    LongAdder[] played = new LongAdder[count * count];
+    for (int i = 0; i < points.length; i++) {
+      points[i] = new LongAdder();
+      played[i] = new LongAdder();
+    }
+    int[] firsts = new int[pairs];
+    int[] seconds = new int[pairs];
+    int pair = 0;
+    for (int i = 0; i < count; i++) {
+      for (int j = i + 1; j < count; j++) {
+        firsts[pair] = i;
+        seconds[pair] = j;
+        pair++;
+      }
+    }
+    AtomicLong nextGame = new AtomicLong();
+
+    Runnable worker = () -> {
+      StrategicThreeTrios[] instances = new StrategicThreeTrios[count];
+      long game;
+      while ((game = nextGame.getAndIncrement()) < games) {
+        boolean swapped = (game & 1) != 0;
+        long deal = game >>> 1; // Both colour orders of a deal are consecutive games.
+        int pairIndex = (int) (deal % pairs);
+        int setup = (int) (deal / pairs % setups.size());
+        int red = swapped ? seconds[pairIndex] : firsts[pairIndex];
+        int blue = swapped ? firsts[pairIndex] : seconds[pairIndex];
+        if (instances[red] == null) {
+          instances[red] = entrants.get(red).get();
+        }
+        if (instances[blue] == null) {
+          instances[blue] = entrants.get(blue).get();
+        }
+        // Every pairing gets the same deals, so no pairing is luckier than another.
+        ThreeTriosGridModel model = setups.get(setup).playGame(instances[red], instances[blue],
+                BatchSimulation.gameSeed(seed, deal / pairs));
+        Player winner = model.getWinner();
+        int redPoints = winner == Player.RED ? 2 : (winner == Player.BLUE ? 0 : 1);
+        points[red * count + blue].add(redPoints);
+        points[blue * count + red].add(2 - redPoints);
+        played[red * count + blue].increment();
+        played[blue * count + red].increment();
+      }
+    };
+
+    long start = System.nanoTime();
+    if (threads == 1) {
+      worker.run();
+    } else {
+      ExecutorService pool = Executors.newFixedThreadPool(threads);
+      try {
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+          workers.add(pool.submit(worker));
+        }
+        for (Future<?> future : workers) {
+          future.get();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while playing the tournament", e);
+      } catch (ExecutionException e) {
+        throw new IllegalStateException("Tournament game failed", e.getCause());
+      } finally {
+        pool.shutdownNow();
+      }
+    }
+    long elapsed = System.nanoTime() - start;
+
+    long[][] halfPoints = new long[count][count];
+    long[][] gamesPlayed = new long[count][count];
+    for (int i = 0; i < count; i++) {
+      for (int j = 0; j < count; j++) {
+        halfPoints[i][j] = points[i * count + j].sum();
+        gamesPlayed[i][j] = played[i * count + j].sum();
+      }
+    }
+    return new TournamentResult(names, halfPoints, gamesPlayed, elapsed);
+  }
+}
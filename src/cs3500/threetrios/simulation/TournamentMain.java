@@ -0,0 +1,106 @@
+package cs3500.threetrios.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import cs3500.threetrios.strategy.StrategicThreeTrios;
+import cs3500.threetrios.strategy.Strategies;
+
+/**
+ * Headless entry point that plays a round-robin tournament between strategies and prints the
+ * standings with Elo ratings. Every card file is played with every board file.
+ *
+ * <p>Usage: strategy strategy [strategy...] [--deals N] [--threads N] [--seed N]
+ * [--dir directory] [--cards file]... [--board file]...</p>
+ */
+public final class TournamentMain {
+
+  private static final String USAGE = "Usage: strategy strategy [strategy...] [--deals N] "
+          + "[--threads N] [--seed N] [--dir directory] [--cards file]... [--board file]...";
+
+  private TournamentMain() {
+  }
+
+  /**
+   * Runs the tournament described by the arguments.
+   *
+   * @param args the strategies followed by the options.
+   */
+  public static void main(String[] args) {
+    List<String> names = new ArrayList<>();
+    int deals = 100;
+    int threads = Runtime.getRuntime().availableProcessors();
+    long seed = System.nanoTime();
+    String directory = "docs";
+    List<String> cards = new ArrayList<>();
+    List<String> boards = new ArrayList<>();
+    try {
+      for (int i = 0; i < args.length; i++) {
+        switch (args[i]) {
+          case "--deals":
+            deals = Integer.parseInt(args[++i]);
+            break;
+          case "--threads":
+            threads = Integer.parseInt(args[++i]);
+            break;
+          case "--seed":
+            seed = Long.parseLong(args[++i]);
+            break;
+          case "--dir":
+            directory = args[++i];
+            break;
+          case "--cards":
+            cards.add(args[++i]);
+            break;
+          case "--board":
+            boards.add(args[++i]);
+            break;
+          default:
+            if (!Strategies.contains(args[i])) {
+              throw new IllegalArgumentException("Unknown strategy: " + args[i]);
+            }
+            if (!names.contains(args[i].toLowerCase())) {
+              names.add(args[i].toLowerCase());
+            }
+            break;
+        }
+      }
+    } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+      System.out.println(USAGE);
+      System.out.println("Strategies: " + String.join(", ", Strategies.names()));
+      return;
+    }
+    if (names.size() < 2 || threads < 1) {
+      System.out.println(USAGE);
+      System.out.println("Strategies: " + String.join(", ", Strategies.names()));
+      return;
+    }
+    if (cards.isEmpty()) {
+      cards.add("cardsWorksWithAll.config");
+    }
+    if (boards.isEmpty()) {
+      boards.addAll(Arrays.asList("board.config", "boardWithNoHoles.config",
+              "boardWithHoleAllCCCanReach.config"));
+    }
+
+    // Entrants are created once the thread count is known, so parallel searches share the cores.
+    Map<String, Supplier<StrategicThreeTrios>> entrants = new LinkedHashMap<>();
+    for (String name : names) {
+      entrants.put(name, Strategies.supplier(name, threads));
+    }
+    List<BatchSimulation> setups = new ArrayList<>();
+    for (String cardFile : cards) {
+      for (String boardFile : boards) {
+        setups.add(new BatchSimulation(directory, cardFile, directory, boardFile));
+      }
+    }
+    System.out.printf("%d entrants, %d deals on %d setups, %d threads, seed %d%n",
+            entrants.size(), deals, setups.size(), threads, seed);
+    TournamentResult result = new Tournament(entrants, setups).run(deals, threads, seed);
+    System.out.println(result);
+  }
+}
@@ -0,0 +1,225 @@
+package cs3500.threetrios.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The results of a round-robin tournament and the Elo ratings they imply.
+ *
+ * <p>Ratings are the maximum likelihood Bradley-Terry strengths of the entrants, with a draw
+ * counted as half a win, put on the Elo scale and centred on 1500. Every pairing is given one
+ * extra drawn game so an entrant that won or lost everything still gets a finite rating. The
+ * confidence interval is the 95% normal interval from the standard error of each rating.</p>
+ */
+public final class TournamentResult {
+
+  private static final double ELO_PER_NATURAL_LOG = 400 / Math.log(10);
+
+  private static final double Z_95 = 1.96;
+
+  private static final int MAX_ITERATIONS = 10_000;
+
+  private final List<String> names;
+  private final long[][] halfPoints;
+  private final long[][] games;
+  private final long elapsedNanos;
+  private final double[] ratings;
+  private final double[] errors;
+
+  /**
+   * Creates the result of a tournament and computes the ratings.
+   *
+   * @param names        the entrants.
+   * @param halfPoints   halfPoints[i][j] is the half-points entrant i scored against entrant j.
+   * @param games        games[i][j] is the number of games entrant i played against entrant j.
+   * @param elapsedNanos the wall-clock time the tournament took.
+   */
+  public TournamentResult(List<String> names, long[][] halfPoints, long[][] games,
+                          long elapsedNanos) {
+    this.names = Collections.unmodifiableList(new ArrayList<>(names));
+    this.halfPoints = halfPoints;
+    this.games = games;
+    this.elapsedNanos = elapsedNanos;
+    this.ratings = new double[names.size()];
+    this.errors = new double[names.size()];
+    computeRatings();
+  }
+
+  /**
+   * Fits the Bradley-Terry strengths with the minorization-maximization update and converts
+   * them and their standard errors to Elo.
+   */
+  private void computeRatings() {
+    int count = names.size();
+    double[] wins = new double[count];
+    double[][] played = new double[count][count];
+    for (int i = 0; i < count; i++) {
+      for (int j = 0; j < count; j++) {
+        if (i != j) {
+          wins[i] += halfPoints[i][j] / 2.0 + 0.5;
+          played[i][j] = games[i][j] + 1;
+        }
+      }
+    }
+
+    double[] strength = new double[count];
+    Arrays.fill(strength, 1);
+    for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+      double change = 0;
+      double logSum = 0;
+      double[] next = new double[count];
+      for (int i = 0; i < count; i++) {
+        double denominator = 0;
+        for (int j = 0; j < count; j++) {
+          if (i != j) {
+            denominator += played[i][j] / (strength[i] + strength[j]);
+          }
+        }
+        next[i] = wins[i] / denominator;
+        logSum += Math.log(next[i]);
+      }
+      double scale = Math.exp(logSum / count);
+      for (int i = 0; i < count; i++) {
+        next[i] /= scale;
+        change = Math.max(change, Math.abs(Math.log(next[i] / strength[i])));
+      }
+      strength = next;
+      if (change < 1e-10) {
+        break;
+      }
+    }
+
+    for (int i = 0; i < count; i++) {
+      double information = 0;
+      for (int j = 0; j < count; j++) {
+        if (i != j) {
+          double p = strength[i] / (strength[i] + strength[j]);
+          information += played[i][j] * p * (1 - p);
+        }
+      }
+      ratings[i] = 1500 + ELO_PER_NATURAL_LOG * Math.log(strength[i]);
+      errors[i] = Z_95 * ELO_PER_NATURAL_LOG / Math.sqrt(information);
+    }
+  }
+
+  /**
+   * Gets the entrants, in the order they were entered.
+   *
+   * @return the entrant names.
+   */
+  public List<String> getNames() {
+    return names;
+  }
+
+  /**
+   * Gets the Elo rating of an entrant.
+   *
+   * @param name the entrant.
+   * @return the rating.
+   * @throws IllegalArgumentException if there is no such entrant.
+   */
+  public double getRating(String name) {
+    return ratings[indexOf(name)];
+  }
+
+  /**
+   * Gets the half-width of the 95% confidence interval of an entrant's rating.
+   *
+   * @param name the entrant.
+   * @return the rating's margin of error.
+   * @throws IllegalArgumentException if there is no such entrant.
+   */
+  public double getRatingError(String name) {
+    return errors[indexOf(name)];
+  }
+
+  /**
+   * Gets the points one entrant scored against another, a draw counting half.
+   *
+   * @param name     the entrant.
+   * @param opponent the opponent.
+   * @return the points.
+   * @throws IllegalArgumentException if there is no such entrant.
+   */
+  public double getPoints(String name, String opponent) {
+    return halfPoints[indexOf(name)][indexOf(opponent)] / 2.0;
+  }
+
+  /**
+   * Gets the number of games one entrant played against another.
+   *
+   * @param name     the entrant.
+   * @param opponent the opponent.
+   * @return the number of games.
+   * @throws IllegalArgumentException if there is no such entrant.
+   */
+  public long getGames(String name, String opponent) {
+    return games[indexOf(name)][indexOf(opponent)];
+  }
+
+  /**
+   * Gets the number of games played in the whole tournament.
+   *
+   * @return the number of games.
+   */
+  public long getTotalGames() {
+    long total = 0;
+    for (long[] row : games) {
+      for (long played : row) {
+        total += played;
+      }
+    }
+    return total / 2;
+  }
+
+  /**
+   * Gets the number of games finished per second of wall-clock time.
+   *
+   * @return the throughput, or 0 if no time was measured.
+   */
+  public double getGamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : getTotalGames() * 1e9 / elapsedNanos;
+  }
+
+  private int indexOf(String name) {
+    int index = names.indexOf(name);
+    if (index == -1) {
+      throw new IllegalArgumentException("Unknown entrant: " + name);
+    }
+    return index;
+  }
+
+  /**
+   * Formats the standings, best rating first, followed by the throughput.
+   *
+   * @return the report.
+   */
+  @Override
+  public String toString() {
+    List<Integer> order = new ArrayList<>();
+    for (int i = 0; i < names.size(); i++) {
+      order.add(i);
+    }
+    order.sort((a, b) -> Double.compare(ratings[b], ratings[a]));
+
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("%-4s %-20s %7s %7s %10s %8s%n",
+            "Rank", "Entrant", "Elo", "+/-95%", "Points", "Games"));
+    int rank = 1;
+    for (int i : order) {
+      double points = 0;
+      long played = 0;
+      for (int j = 0; j < names.size(); j++) {
+        points += halfPoints[i][j] / 2.0;
+        played += games[i][j];
+      }
+      report.append(String.format("%-4d %-20s %7.0f %7.0f %10.1f %8d%n",
+              rank++, names.get(i), ratings[i], errors[i], points, played));
+    }
+    report.append(String.format("Games: %d, Time: %.3f s, %.1f games/sec",
+            getTotalGames(), elapsedNanos / 1e9, getGamesPerSecond()));
+    return report.toString();
+  }
+}
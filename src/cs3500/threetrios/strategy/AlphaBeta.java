@@ -0,0 +1,475 @@
+package cs3500.threetrios.strategy;
+
+import java.util.List;
+import java.util.Objects;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.NeighbourTable;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.Position;
+import cs3500.threetrios.model.ReadOnlyTTModel;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+
+/**
+ * A strategy that looks ahead with an alpha-beta minimax search instead of judging one move at
+ * a time. The search deepens iteratively until it reaches the end of the game, the configured
+ * depth or the time limit, tries the best move of the previous iteration and then the moves
+ * that flip the most cards first, and shares evaluated positions through a transposition
+ * table. A position is scored as the player to move's score minus the opponent's score.
+ *
+ * <p>The search plays moves on a single copy of the model with applyMove/undoMove, so it needs
+ * a ThreeTriosGridModel; for any other model it falls back to MaxCardFlip. An instance keeps
+ * per-search state and must not be used by two threads at once, but several instances may
+ * share one transposition table. An instance with a table of its own allocates it on its first
+ * search, so instances that never search cost nothing; instances created with {@link #shared()}
+ * all use one table.</p>
+ */
+public class AlphaBeta implements StrategicThreeTrios {
+
+  private static final int DEFAULT_TABLE_ENTRIES = 1 << 20;
+
+  private static final int DEFAULT_TIME_LIMIT_MILLIS = 1000;
+
+  private static final int CHECK_CLOCK_MASK = 0x3FF; // Check the clock every 1024 nodes.
+
+  private static final int INFINITY = Integer.MAX_VALUE / 2;
+
+  private final int maxDepth;
+
+  private final long timeLimitNanos;
+
+  private final int tableEntries;
+
+  private TranspositionTable table; // Null until the first search when not shared.
+
+  private final TranspositionTable.Entry entry = new TranspositionTable.Entry();
+
+  private final StrategicThreeTrios fallback = new MaxCardFlip();
+
+  private ThreeTriosGridModel board; // Copy of the model being searched.
+
+  private int[][] moveHands = new int[0][]; // Hand index of each move, per ply.
+
+  private int[][] moveCells = new int[0][]; // Cell index of each move, per ply.
+
+  private int[][] moveKeys = new int[0][]; // Ordering key of each move, per ply.
+
+  private long deadline;
+
+  private long nodes;
+
+  private boolean aborted;
+
+  private int rootHand; // Best move of the root found by the current iteration.
+
+  private int rootCell;
+
+  private int rootScore;
+
+  private long lastHash; // Position of the last decision, reused by optimalPosition.
+
+  private int lastHand = -1;
+
+  private int lastCell = -1;
+
+  private int lastScore;
+
+  /**
+   * Creates a search that plays to the end of the game, stopping after one second.
+   */
+  public AlphaBeta() {
+    this(Integer.MAX_VALUE, DEFAULT_TIME_LIMIT_MILLIS);
+  }
+
+  /**
+   * Creates a search with the given depth and time limit and its own transposition table,
+   * which is allocated on the first search.
+   *
+   * @param maxDepth        the most plies to look ahead, at least 1.
+   * @param timeLimitMillis the time one decision may take, at least 1 millisecond.
+   * @throws IllegalArgumentException if a limit is not positive.
+   */
+  public AlphaBeta(int maxDepth, long timeLimitMillis) {
+    checkLimits(maxDepth, timeLimitMillis);
+    this.maxDepth = maxDepth;
+    this.timeLimitNanos = timeLimitMillis * 1_000_000L;
+    this.tableEntries = DEFAULT_TABLE_ENTRIES;
+  }
+
+  /**
+   * Creates a search with the given depth and time limit that shares the given table.
+   *
+   * @param maxDepth        the most plies to look ahead, at least 1.
+   * @param timeLimitMillis the time one decision may take, at least 1 millisecond.
+   * @param table           the transposition table to store positions in.
+   * @throws IllegalArgumentException if a limit is not positive or the table is null.
+   */
+  public AlphaBeta(int maxDepth, long timeLimitMillis, TranspositionTable table) {
+    checkLimits(maxDepth, timeLimitMillis);
+    if (table == null) {
+      throw new IllegalArgumentException("Transposition table cannot be null");
+    }
+    this.maxDepth = maxDepth;
+    this.timeLimitNanos = timeLimitMillis * 1_000_000L;
+    this.tableEntries = table.capacity();
+    this.table = table;
+  }
+
+  /**
+   * Creates a search with the default limits that shares one transposition table with every
+   * other search created by this method, so workers playing many games at once hold a single
+   * table between them instead of one each. The table is allocated on the first call. Games on
+   * different boards and decks may share it, since the state hash covers the configuration.
+   *
+   * @return a new search on the shared table.
+   */
+  public static AlphaBeta shared() {
+    return new AlphaBeta(Integer.MAX_VALUE, DEFAULT_TIME_LIMIT_MILLIS, SharedTable.TABLE);
+  }
+
+  private static void checkLimits(int maxDepth, long timeLimitMillis) {
+    if (maxDepth < 1 || timeLimitMillis < 1) {
+      throw new IllegalArgumentException("Depth and time limit must be positive");
+    }
+  }
+
+  /**
+   * Holds the table of {@link #shared()}, which the class loader creates on first use.
+   */
+  private static final class SharedTable {
+    private static final TranspositionTable TABLE =
+            new TranspositionTable(DEFAULT_TABLE_ENTRIES);
+  }
+
+  @Override
+  public Card optimalCard(ReadOnlyTTModel model, Player player) {
+    Objects.requireNonNull(model);
+    Objects.requireNonNull(player);
+    if (model.isGameOver()) {
+      throw new IllegalStateException("Cannot get optimal card, game over");
+    }
+    if (!(model instanceof ThreeTriosGridModel)) {
+      return fallback.optimalCard(model, player);
+    }
+    List<Card> hand = model.getPlayerHand(player);
+    if (hand.isEmpty()) {
+      return null;
+    }
+    decide((ThreeTriosGridModel) model, -1);
+    return lastHand == -1 ? hand.get(0) : hand.get(lastHand);
+  }
+
+  @Override
+  public Position optimalPosition(ReadOnlyTTModel model, Card card, Player player) {
+    Objects.requireNonNull(model);
+    Objects.requireNonNull(card);
+    Objects.requireNonNull(player);
+    if (model.isGameOver()) {
+      throw new IllegalStateException("Game not started, cannot call optimalPos.");
+    }
+    if (!(model instanceof ThreeTriosGridModel)) {
+      return fallback.optimalPosition(model, card, player);
+    }
+    ThreeTriosGridModel gridModel = (ThreeTriosGridModel) model;
+    int handIndex = model.getPlayerHand(player).indexOf(card);
+    if (handIndex == -1) {
+      return fallback.optimalPosition(model, card, player);
+    }
+    if (gridModel.getStateHash() != lastHash || handIndex != lastHand || lastCell == -1) {
+      decide(gridModel, handIndex);
+    }
+    if (lastCell == -1) {
+      return null;
+    }
+    return new Position(lastCell / model.getCols(), lastCell % model.getCols());
+  }
+
+  /**
+   * Searches once for both the card and the position, scored by the search's score margin for
+   * the player to move.
+   */
+  @Override
+  public ScoredMove optimalMove(ReadOnlyTTModel model, Player player) {
+    Objects.requireNonNull(model);
+    Objects.requireNonNull(player);
+    if (!(model instanceof ThreeTriosGridModel)) {
+      return fallback.optimalMove(model, player);
+    }
+    if (model.isGameOver()) {
+      throw new IllegalStateException("Cannot get optimal card, game over");
+    }
+    List<Card> hand = model.getPlayerHand(player);
+    if (hand.isEmpty()) {
+      return null;
+    }
+    decide((ThreeTriosGridModel) model, -1);
+    if (lastHand == -1 || lastCell == -1) {
+      return null;
+    }
+    Position position = new Position(lastCell / model.getCols(), lastCell % model.getCols());
+    return new ScoredMove(hand.get(lastHand), position, lastScore);
+  }
+
+  @Override
+  public void execute(ThreeTriosGridModel model, Player player) {
+    ScoredMove move = optimalMove(model, player);
+    if (move != null) {
+      model.playCardToCardCell(move.getCard(), move.getPosition().getRow(),
+              move.getPosition().getCol());
+    }
+  }
+
+  /**
+   * Searches the position and remembers the best move in lastHand and lastCell and its score
+   * in lastScore.
+   *
+   * @param model     the position to search.
+   * @param onlyHand  the hand index the root move must use, or -1 for any card.
+   */
+  private void decide(ThreeTriosGridModel model, int onlyHand) {
+    if (table == null) {
+      table = new TranspositionTable(tableEntries);
+    }
+    board = (ThreeTriosGridModel) model.getCopy();
+    deadline = System.nanoTime() + timeLimitNanos;
+    nodes = 0;
+    aborted = false;
+    table.newSearch();
+    int emptyCells = board.getEmptyCardCellCount();
+    ensurePlies(Math.min(maxDepth, emptyCells) + 1);
+
+    int bestHand = -1;
+    int bestCell = -1;
+    int bestScore = 0;
+    for (int depth = 1; depth <= Math.min(maxDepth, emptyCells); depth++) {
+      rootHand = -1;
+      rootCell = -1;
+      searchRoot(depth, onlyHand);
+      if (aborted) {
+        if (bestHand == -1) {
+          bestHand = rootHand;
+          bestCell = rootCell;
+          bestScore = rootScore;
+        }
+        break;
+      }
+      bestHand = rootHand;
+      bestCell = rootCell;
+      bestScore = rootScore;
+    }
+    board = null;
+    lastHash = model.getStateHash();
+    lastHand = bestHand == -1 ? onlyHand : bestHand;
+    lastCell = bestCell;
+    lastScore = bestScore;
+  }
+
+  /**
+   * Searches every root move to the given depth, recording the best one in rootHand and
+   * rootCell as soon as it is known so an aborted iteration still leaves a move.
+   */
+  private void searchRoot(int depth, int onlyHand) {
+    int count = generateMoves(0, depth, onlyHand);
+    int alpha = -INFINITY;
+    for (int i = 0; i < count; i++) {
+      int hand = moveHands[0][i];
+      int cell = moveCells[0][i];
+      board.applyMove(hand, cell / board.getCols(), cell % board.getCols());
+      int value = -search(1, depth - 1, -INFINITY, -alpha);
+      board.undoMove();
+      if (aborted) {
+        return;
+      }
+      if (value > alpha || rootHand == -1) {
+        alpha = value;
+        rootHand = hand;
+        rootCell = cell;
+        rootScore = value;
+      }
+    }
+    if (onlyHand == -1) {
+      table.store(board.getStateHash(), depth, alpha, TranspositionTable.Bound.EXACT,
+              rootHand, rootCell);
+    }
+  }
+
+  /**
+   * Negamax alpha-beta search.
+   *
+   * @param ply   the distance from the root.
+   * @param depth the plies left to search.
+   * @param alpha the score the player to move is already guaranteed.
+   * @param beta  the score the opponent is already guaranteed, negated.
+   * @return the score of the position for the player to move.
+   */
+  private int search(int ply, int depth, int alpha, int beta) {
+    if ((++nodes & CHECK_CLOCK_MASK) == 0 && System.nanoTime() > deadline) {
+      aborted = true;
+    }
+    if (aborted) {
+      return 0;
+    }
+    if (depth == 0 || board.isGameOver()) {
+      return evaluate();
+    }
+
+    long hash = board.getStateHash();
+    int alphaOrig = alpha;
+    if (table.probe(hash, entry) && entry.getDepth() >= depth) {
+      int score = entry.getScore();
+      if (entry.getBound() == TranspositionTable.Bound.EXACT) {
+        return score;
+      } else if (entry.getBound() == TranspositionTable.Bound.LOWER) {
+        alpha = Math.max(alpha, score);
+      } else {
+        beta = Math.min(beta, score);
+      }
+      if (alpha >= beta) {
+        return score;
+      }
+    }
+
+    int count = generateMoves(ply, depth, -1);
+    int best = -INFINITY;
+    int bestHand = -1;
+    int bestCell = -1;
+    for (int i = 0; i < count; i++) {
+      int hand = moveHands[ply][i];
+      int cell = moveCells[ply][i];
+      board.applyMove(hand, cell / board.getCols(), cell % board.getCols());
+      int value = -search(ply + 1, depth - 1, -beta, -alpha);
+      board.undoMove();
+      if (aborted) {
+        return 0;
+      }
+      if (value > best) {
+        best = value;
+        bestHand = hand;
+        bestCell = cell;
+      }
+      alpha = Math.max(alpha, value);
+      if (alpha >= beta) {
+        break;
+      }
+    }
+
+    TranspositionTable.Bound bound;
+    if (best <= alphaOrig) {
+      bound = TranspositionTable.Bound.UPPER;
+    } else if (best >= beta) {
+      bound = TranspositionTable.Bound.LOWER;
+    } else {
+      bound = TranspositionTable.Bound.EXACT;
+    }
+    table.store(hash, depth, best, bound, bestHand, bestCell);
+    return best;
+  }
+
+  /**
+   * Scores the board for the player to move.
+   */
+  private int evaluate() {
+    Player toMove = board.getCurrentPlayer();
+    Player opponent = toMove == Player.RED ? Player.BLUE : Player.RED;
+    return board.getPlayerScore(toMove) - board.getPlayerScore(opponent);
+  }
+
+  /**
+   * Fills the move buffers of the given ply with every (hand index, empty cell) pair, ordered
+   * with the transposition table's best move first and then by the number of cards each move
+   * flips. Ordering is skipped one ply above the leaves, where it cannot produce cutoffs. Only
+   * the card cells of the neighbour table are walked, in row-major order, and the buffers hold
+   * one move per card per empty card cell.
+   *
+   * @return the number of moves generated.
+   */
+  private int generateMoves(int ply, int depth, int onlyHand) {
+    int cols = board.getCols();
+    NeighbourTable cardCells = board.getNeighbourTable();
+    int handSize = board.getPlayerHand(board.getCurrentPlayer()).size();
+    int firstHand = onlyHand == -1 ? 0 : onlyHand;
+    int lastHandExclusive = onlyHand == -1 ? handSize : onlyHand + 1;
+    int needed = Math.multiplyExact(lastHandExclusive - firstHand,
+            board.getEmptyCardCellCount());
+    if (moveHands[ply].length < needed) {
+      moveHands[ply] = new int[needed];
+      moveCells[ply] = new int[needed];
+      moveKeys[ply] = new int[needed];
+    }
+
+    boolean order = depth > 1;
+    boolean hasTableMove = order && table.probe(board.getStateHash(), entry);
+    int count = 0;
+    for (int cardCell = 0; cardCell < cardCells.getCardCellCount(); cardCell++) {
+      int row = cardCells.getRow(cardCell);
+      int col = cardCells.getCol(cardCell);
+      if (!board.isLegalMove(row, col)) {
+        continue;
+      }
+      int cell = row * cols + col;
+      for (int hand = firstHand; hand < lastHandExclusive; hand++) {
+        int key = 0;
+        if (order) {
+          key = board.applyMove(hand, row, col);
+          board.undoMove();
+          if (hasTableMove && hand == entry.getHandIndex() && cell == entry.getCellIndex()) {
+            key = INFINITY;
+          }
+        }
+        moveHands[ply][count] = hand;
+        moveCells[ply][count] = cell;
+        moveKeys[ply][count] = key;
+        count++;
+      }
+    }
+    if (order) {
+      sortMoves(ply, count);
+    }
+    return count;
+  }
+
+  /**
+   * Sorts the moves of a ply by descending key with an insertion sort, which keeps moves with
+   * equal keys uppermost-leftmost first and allocates nothing.
+   */
+  private void sortMoves(int ply, int count) {
+    int[] hands = moveHands[ply];
+    int[] cells = moveCells[ply];
+    int[] keys = moveKeys[ply];
+    for (int i = 1; i < count; i++) {
+      int hand = hands[i];
+      int cell = cells[i];
+      int key = keys[i];
+      int j = i - 1;
+      while (j >= 0 && keys[j] < key) {
+        hands[j + 1] = hands[j];
+        cells[j + 1] = cells[j];
+        keys[j + 1] = keys[j];
+        j--;
+      }
+      hands[j + 1] = hand;
+      cells[j + 1] = cell;
+      keys[j + 1] = key;
+    }
+  }
+
+  /**
+   * Makes sure there are move buffers for the given number of plies.
+   */
+  private void ensurePlies(int plies) {
+    if (moveHands.length >= plies) {
+      return;
+    }
+    int[][] hands = new int[plies][];
+    int[][] cells = new int[plies][];
+    int[][] keys = new int[plies][];
+    for (int ply = 0; ply < plies; ply++) {
+      hands[ply] = ply < moveHands.length ? moveHands[ply] : new int[0];
+      cells[ply] = ply < moveCells.length ? moveCells[ply] : new int[0];
+      keys[ply] = ply < moveKeys.length ? moveKeys[ply] : new int[0];
+    }
+    moveHands = hands;
+    moveCells = cells;
+    moveKeys = keys;
+  }
+}
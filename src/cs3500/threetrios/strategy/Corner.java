@@ -5,8 +5,8 @@ import java.util.List;
 import java.util.Objects;
 
 import cs3500.threetrios.model.Card;
-import cs3500.threetrios.model.CellType;
 import cs3500.threetrios.model.Direction;
+import cs3500.threetrios.model.NeighbourTable;
 import cs3500.threetrios.model.Player;
 import cs3500.threetrios.model.Position;
 import cs3500.threetrios.model.ReadOnlyTTModel;
@@ -18,6 +18,9 @@ import cs3500.threetrios.model.ThreeTriosGridModel;
  */
 
 public class Corner implements StrategicThreeTrios {
+  // The order exposed directions are listed in, which breaks ties between equal cards.
+  private static final Direction[] EXPOSURE_ORDER =
+          {Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST};
 
   @Override
   public Position optimalPosition(ReadOnlyTTModel model, Card card, Player player) {
@@ -81,9 +84,10 @@ public class Corner implements StrategicThreeTrios {
    */
   private Position optimalCorner(ReadOnlyTTModel model) {
     Position optimalCorner = null;
+    NeighbourTable table = model.getNeighbourTable();
     for (int row = 0; row < model.getRows(); row++) {
       for (int col = 0; col < model.getCols(); col++) {
-        if (isCorner(model, row, col)) {
+        if (isCorner(model, table, row, col)) {
           Position currentPos = new Position(row, col);
           if (optimalCorner == null || row < optimalCorner.getRow() ||
                   (row == optimalCorner.getRow() && col < optimalCorner.getCol())) {
@@ -97,68 +101,33 @@ public class Corner implements StrategicThreeTrios {
   }
 
   /**
-   * A corner is any position where exactly 2 sides are exposed for attack.
+   * A corner is any position where exactly 2 sides are exposed for attack, that is where two
+   * sides face a hole or the edge rather than another card cell.
    */
-  private boolean isCorner(ReadOnlyTTModel model, int row, int col) {
+  private boolean isCorner(ReadOnlyTTModel model, NeighbourTable table, int row, int col) {
     Objects.requireNonNull(model);
     if (!model.isLegalMove(row, col)) {
       return false;
     }
 
-    int exposedSides = 0;
-
-    // North
-    if (isHoleOrEdge(model, row - 1, col)) {
-      exposedSides++;
-    }
-    // South
-    if (isHoleOrEdge(model, row + 1, col)) {
-      exposedSides++;
-    }
-    // West
-    if (isHoleOrEdge(model, row, col - 1)) {
-      exposedSides++;
-    }
-    // East
-    if (isHoleOrEdge(model, row, col + 1)) {
-      exposedSides++;
-    }
+    int exposedSides = 4 - Integer.bitCount(table.getNeighbourMask(row, col));
 
     // Corner defined as having only two exposed attack values.
     return exposedSides == 2;
   }
 
-  /**
-   * Checks if a position is either off the grid (edge) or a hole.
-   */
-  private boolean isHoleOrEdge(ReadOnlyTTModel model, int row, int col) {
-    // Check if position is off grid (edge)
-    if (row < 0 || row >= model.getRows() || col < 0 || col >= model.getCols()) {
-      return true;
-    }
-    // Check if position is a hole
-    return model.getCellType(row, col) == CellType.HOLE;
-  }
-
   /**
    * Gets the list of directions that are exposed for a position.
    */
   private List<Direction> getExposedDirections(ReadOnlyTTModel model, Position position) {
     List<Direction> exposedDirections = new ArrayList<>();
-    int row = position.getRow();
-    int col = position.getCol();
+    int neighbours = model.getNeighbourTable()
+            .getNeighbourMask(position.getRow(), position.getCol());
 
-    if (isHoleOrEdge(model, row - 1, col)) {
-      exposedDirections.add(Direction.NORTH);
-    }
-    if (isHoleOrEdge(model, row + 1, col)) {
-      exposedDirections.add(Direction.SOUTH);
-    }
-    if (isHoleOrEdge(model, row, col - 1)) {
-      exposedDirections.add(Direction.WEST);
-    }
-    if (isHoleOrEdge(model, row, col + 1)) {
-      exposedDirections.add(Direction.EAST);
+    for (Direction direction : EXPOSURE_ORDER) {
+      if ((neighbours & (1 << direction.ordinal())) == 0) {
+        exposedDirections.add(direction);
+      }
     }
 
     return exposedDirections;
@@ -0,0 +1,392 @@
+package cs3500.threetrios.strategy;
+
+import java.util.List;
+import java.util.Objects;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.NeighbourTable;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.Position;
+import cs3500.threetrios.model.ReadOnlyTTModel;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+
+/**
+ * Plays the end of the game perfectly. While more than the configured number of card cells
+ * are empty, every decision is left to the wrapped strategy. Once few enough are left, the
+ * solver searches the rest of the game tree and plays the move with the best final score
+ * margin, so a won endgame is never thrown away and a lost one is lost by as little as
+ * possible. If the search needs more nodes than its budget, the wrapped strategy decides.
+ *
+ * <p>The solver is a negamax alpha-beta search over one copy of the model, played with
+ * applyMove/undoMove. Each decision copies the model once; the search itself allocates
+ * nothing, since solved positions go into a transposition table and the move buffers, one move
+ * per card per empty card cell at each ply, are only grown between searches. The table is
+ * allocated by the first solve, so a solver that never reaches an endgame costs nothing, and
+ * cleared when a game on another board or deck is solved. Moves are
+ * generated from the card cells of the board's neighbour table, so holes are never visited. An
+ * instance must not be used by two threads at once.</p>
+ */
+public class EndgameSolver implements StrategicThreeTrios {
+
+  private static final long DEFAULT_NODE_BUDGET = 5_000_000L;
+
+  private static final int DEFAULT_TABLE_ENTRIES = 1 << 18;
+
+  private static final int INFINITY = Integer.MAX_VALUE / 2;
+
+  private final StrategicThreeTrios strategy;
+
+  private final int maxEmptyCells;
+
+  private final long nodeBudget;
+
+  private TranspositionTable table; // Allocated by the first solve.
+
+  private long tableConfiguration; // Configuration key of the positions in the table.
+
+  private final TranspositionTable.Entry entry = new TranspositionTable.Entry();
+
+  private ThreeTriosGridModel board; // Copy of the model being solved.
+
+  private int[][] moveHands = new int[0][]; // Hand index of each move, per ply.
+
+  private int[][] moveCells = new int[0][]; // Cell index of each move, per ply.
+
+  private long nodes;
+
+  private boolean aborted;
+
+  private long lastHash; // Position of the last decision.
+
+  private int lastOnlyHand = -2; // Hand the last decision was restricted to, -1 for none.
+
+  private boolean lastSolved;
+
+  private int lastHand = -1;
+
+  private int lastCell = -1;
+
+  private int lastScore;
+
+  /**
+   * Wraps a strategy, solving exactly once at most the given number of card cells are empty.
+   *
+   * @param strategy      the strategy that plays until the endgame.
+   * @param maxEmptyCells the most empty card cells a position may have to be solved.
+   */
+  public EndgameSolver(StrategicThreeTrios strategy, int maxEmptyCells) {
+    this(strategy, maxEmptyCells, DEFAULT_NODE_BUDGET);
+  }
+
+  /**
+   * Wraps a strategy, solving exactly once at most the given number of card cells are empty
+   * and giving up on any search that visits more than the given number of positions.
+   *
+   * @param strategy      the strategy that plays until the endgame.
+   * @param maxEmptyCells the most empty card cells a position may have to be solved.
+   * @param nodeBudget    the most positions one search may visit, at least 1.
+   * @throws IllegalArgumentException if strategy is null or a limit is not positive.
+   */
+  public EndgameSolver(StrategicThreeTrios strategy, int maxEmptyCells, long nodeBudget) {
+    if (strategy == null) {
+      throw new IllegalArgumentException("Strategy cannot be null");
+    }
+    if (maxEmptyCells < 1 || nodeBudget < 1) {
+      throw new IllegalArgumentException("Empty cells and node budget must be positive");
+    }
+    this.strategy = strategy;
+    this.maxEmptyCells = maxEmptyCells;
+    this.nodeBudget = nodeBudget;
+  }
+
+  /**
+   * Checks whether the solver would search the given position itself.
+   *
+   * @param model the current game state.
+   * @return true if the game is on and few enough card cells are empty, false otherwise.
+   */
+  public boolean isEndgame(ReadOnlyTTModel model) {
+    Objects.requireNonNull(model);
+    return model instanceof ThreeTriosGridModel && !model.isGameOver()
+            && ((ThreeTriosGridModel) model).getEmptyCardCellCount() <= maxEmptyCells;
+  }
+
+  /**
+   * Solves the given endgame.
+   *
+   * @param model the current game state.
+   * @return the final score of the player to move minus the opponent's with perfect play, so
+   *         a positive value is a proven win, zero a draw and a negative value a loss.
+   * @throws IllegalArgumentException if the position is not an endgame of this solver.
+   * @throws IllegalStateException    if the search exceeds the node budget.
+   */
+  public int solve(ReadOnlyTTModel model) {
+    if (!isEndgame(model)) {
+      throw new IllegalArgumentException("Position is not an endgame this solver can solve");
+    }
+    if (!decide((ThreeTriosGridModel) model, -1)) {
+      throw new IllegalStateException("Node budget exceeded");
+    }
+    return lastScore;
+  }
+
+  @Override
+  public Card optimalCard(ReadOnlyTTModel model, Player player) {
+    Objects.requireNonNull(model);
+    Objects.requireNonNull(player);
+    if (!isEndgame(model) || !decide((ThreeTriosGridModel) model, -1)) {
+      return strategy.optimalCard(model, player);
+    }
+    List<Card> hand = model.getPlayerHand(player);
+    return hand.get(lastHand);
+  }
+
+  @Override
+  public Position optimalPosition(ReadOnlyTTModel model, Card card, Player player) {
+    Objects.requireNonNull(model);
+    Objects.requireNonNull(card);
+    Objects.requireNonNull(player);
+    int handIndex = isEndgame(model) ? model.getPlayerHand(player).indexOf(card) : -1;
+    if (handIndex == -1) {
+      return strategy.optimalPosition(model, card, player);
+    }
+    boolean solved;
+    if (((ThreeTriosGridModel) model).getStateHash() == lastHash
+            && (lastOnlyHand == -1 || lastOnlyHand == handIndex)
+            && (!lastSolved || lastHand == handIndex)) {
+      solved = lastSolved;
+    } else {
+      solved = decide((ThreeTriosGridModel) model, handIndex);
+    }
+    if (!solved) {
+      return strategy.optimalPosition(model, card, player);
+    }
+    return new Position(lastCell / model.getCols(), lastCell % model.getCols());
+  }
+
+  /**
+   * Solves once for both the card and the position, scored by the proven final score margin.
+   * Before the endgame, or when the node budget runs out, the wrapped strategy's move is used.
+   */
+  @Override
+  public ScoredMove optimalMove(ReadOnlyTTModel model, Player player) {
+    Objects.requireNonNull(model);
+    Objects.requireNonNull(player);
+    if (!isEndgame(model) || !decide((ThreeTriosGridModel) model, -1)) {
+      return strategy.optimalMove(model, player);
+    }
+    Card card = model.getPlayerHand(player).get(lastHand);
+    Position position = new Position(lastCell / model.getCols(), lastCell % model.getCols());
+    return new ScoredMove(card, position, lastScore);
+  }
+
+  @Override
+  public void execute(ThreeTriosGridModel model, Player player) {
+    if (!isEndgame(model)) {
+      strategy.execute(model, player);
+      return;
+    }
+    ScoredMove move = optimalMove(model, player);
+    if (move != null) {
+      model.playCardToCardCell(move.getCard(), move.getPosition().getRow(),
+              move.getPosition().getCol());
+    }
+  }
+
+  /**
+   * Solves the position and remembers the outcome and best move.
+   *
+   * @param model    the position to solve.
+   * @param onlyHand the hand index the root move must use, or -1 for any card.
+   * @return true if the position was solved within the node budget, false otherwise.
+   */
+  private boolean decide(ThreeTriosGridModel model, int onlyHand) {
+    if (table == null) {
+      table = new TranspositionTable(DEFAULT_TABLE_ENTRIES);
+    } else if (model.getConfigurationKey() != tableConfiguration) {
+      table.clear();
+    }
+    tableConfiguration = model.getConfigurationKey();
+    board = (ThreeTriosGridModel) model.getCopy();
+    int emptyCells = board.getEmptyCardCellCount();
+    ensureBuffers(emptyCells, Math.max(board.getPlayerHand(Player.RED).size(),
+            board.getPlayerHand(Player.BLUE).size()));
+    nodes = 0;
+    aborted = false;
+    table.newSearch();
+
+    int count = generateMoves(0, onlyHand);
+    int best = -INFINITY;
+    int bestHand = -1;
+    int bestCell = -1;
+    for (int i = 0; i < count && !aborted; i++) {
+      int hand = moveHands[0][i];
+      int cell = moveCells[0][i];
+      board.applyMove(hand, cell / board.getCols(), cell % board.getCols());
+      int value = -search(1, emptyCells - 1, -INFINITY, -best);
+      board.undoMove();
+      if (!aborted && value > best) {
+        best = value;
+        bestHand = hand;
+        bestCell = cell;
+      }
+    }
+    board = null;
+
+    lastHash = model.getStateHash();
+    lastOnlyHand = onlyHand;
+    lastSolved = !aborted && bestHand != -1;
+    lastHand = bestHand;
+    lastCell = bestCell;
+    lastScore = best;
+    return lastSolved;
+  }
+
+  /**
+   * Negamax alpha-beta search to the end of the game.
+   *
+   * @param ply    the distance from the root.
+   * @param empty  the number of empty card cells left.
+   * @param alpha  the score the player to move is already guaranteed.
+   * @param beta   the score the opponent is already guaranteed, negated.
+   * @return the final score margin of the position for the player to move.
+   */
+  private int search(int ply, int empty, int alpha, int beta) {
+    if (++nodes > nodeBudget) {
+      aborted = true;
+    }
+    if (aborted) {
+      return 0;
+    }
+    if (empty == 0) {
+      Player toMove = board.getCurrentPlayer();
+      Player opponent = toMove == Player.RED ? Player.BLUE : Player.RED;
+      return board.getPlayerScore(toMove) - board.getPlayerScore(opponent);
+    }
+
+    long hash = board.getStateHash();
+    int alphaOrig = alpha;
+    boolean hit = table.probe(hash, entry);
+    if (hit && entry.getDepth() >= empty) {
+      int score = entry.getScore();
+      if (entry.getBound() == TranspositionTable.Bound.EXACT) {
+        return score;
+      } else if (entry.getBound() == TranspositionTable.Bound.LOWER) {
+        alpha = Math.max(alpha, score);
+      } else {
+        beta = Math.min(beta, score);
+      }
+      if (alpha >= beta) {
+        return score;
+      }
+    }
+
+    int count = generateMoves(ply, -1);
+    if (hit) {
+      moveToFront(ply, count, entry.getHandIndex(), entry.getCellIndex());
+    }
+    int best = -INFINITY;
+    int bestHand = -1;
+    int bestCell = -1;
+    for (int i = 0; i < count; i++) {
+      int hand = moveHands[ply][i];
+      int cell = moveCells[ply][i];
+      board.applyMove(hand, cell / board.getCols(), cell % board.getCols());
+      int value = -search(ply + 1, empty - 1, -beta, -alpha);
+      board.undoMove();
+      if (aborted) {
+        return 0;
+      }
+      if (value > best) {
+        best = value;
+        bestHand = hand;
+        bestCell = cell;
+      }
+      alpha = Math.max(alpha, value);
+      if (alpha >= beta) {
+        break;
+      }
+    }
+
+    TranspositionTable.Bound bound;
+    if (best <= alphaOrig) {
+      bound = TranspositionTable.Bound.UPPER;
+    } else if (best >= beta) {
+      bound = TranspositionTable.Bound.LOWER;
+    } else {
+      bound = TranspositionTable.Bound.EXACT;
+    }
+    table.store(hash, empty, best, bound, bestHand, bestCell);
+    return best;
+  }
+
+  /**
+   * Fills the move buffers of the given ply with every (hand index, empty cell) pair,
+   * uppermost-leftmost cell first, walking only the card cells of the board.
+   *
+   * @return the number of moves generated.
+   */
+  private int generateMoves(int ply, int onlyHand) {
+    int cols = board.getCols();
+    NeighbourTable cardCells = board.getNeighbourTable();
+    int handSize = board.getPlayerHand(board.getCurrentPlayer()).size();
+    int firstHand = onlyHand == -1 ? 0 : onlyHand;
+    int lastHandExclusive = onlyHand == -1 ? handSize : onlyHand + 1;
+    int count = 0;
+    for (int cardCell = 0; cardCell < cardCells.getCardCellCount(); cardCell++) {
+      int row = cardCells.getRow(cardCell);
+      int col = cardCells.getCol(cardCell);
+      if (board.isLegalMove(row, col)) {
+        int cell = row * cols + col;
+        for (int hand = firstHand; hand < lastHandExclusive; hand++) {
+          moveHands[ply][count] = hand;
+          moveCells[ply][count] = cell;
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Moves the given move, if generated, to the front of the ply's moves.
+   */
+  private void moveToFront(int ply, int count, int hand, int cell) {
+    for (int i = 0; i < count; i++) {
+      if (moveHands[ply][i] == hand && moveCells[ply][i] == cell) {
+        moveHands[ply][i] = moveHands[ply][0];
+        moveCells[ply][i] = moveCells[ply][0];
+        moveHands[ply][0] = hand;
+        moveCells[ply][0] = cell;
+        return;
+      }
+    }
+  }
+
+  /**
+   * Makes sure every ply has room for every move of the biggest hand: a card cell fills up at
+   * each ply, so ply p of a search with the given number of empty card cells needs room for
+   * (emptyCells - p) * handSize moves. Buffers that are already big enough are kept.
+   *
+   * @throws ArithmeticException if a ply would need more than Integer.MAX_VALUE moves.
+   */
+  private void ensureBuffers(int emptyCells, int handSize) {
+    if (moveHands.length < emptyCells + 1) {
+      int[][] hands = new int[emptyCells + 1][];
+      int[][] cells = new int[emptyCells + 1][];
+      for (int ply = 0; ply <= emptyCells; ply++) {
+        hands[ply] = ply < moveHands.length ? moveHands[ply] : new int[0];
+        cells[ply] = ply < moveCells.length ? moveCells[ply] : new int[0];
+      }
+      moveHands = hands;
+      moveCells = cells;
+    }
+    for (int ply = 0; ply < emptyCells; ply++) {
+      int needed = Math.multiplyExact(emptyCells - ply, Math.max(1, handSize));
+      if (moveHands[ply].length < needed) {
+        moveHands[ply] = new int[needed];
+        moveCells[ply] = new int[needed];
+      }
+    }
+  }
+}
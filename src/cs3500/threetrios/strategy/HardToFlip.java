@@ -2,8 +2,8 @@ package cs3500.threetrios.strategy;
 
 import java.util.Objects;
 import cs3500.threetrios.model.Card;
-import cs3500.threetrios.model.CellType;
 import cs3500.threetrios.model.Direction;
+import cs3500.threetrios.model.NeighbourTable;
 import cs3500.threetrios.model.Player;
 import cs3500.threetrios.model.Position;
 import cs3500.threetrios.model.ReadOnlyTTModel;
@@ -70,6 +70,7 @@ public class HardToFlip implements StrategicThreeTrios {
 
     Position bestPosition = null;
     int leastExposed = Integer.MAX_VALUE;
+    NeighbourTable table = model.getNeighbourTable();
 
     // Try each position
     for (int row = 0; row < model.getRows(); row++) {
@@ -78,7 +79,7 @@ public class HardToFlip implements StrategicThreeTrios {
           continue;
         }
 
-        int exposedSides = countExposedSides(model, row, col);
+        int exposedSides = countExposedSides(table, row, col);
 
         // Update if position has fewer exposed sides or is uppermost-leftmost
         if (exposedSides < leastExposed ||
@@ -104,35 +105,11 @@ public class HardToFlip implements StrategicThreeTrios {
   }
 
   /**
-   * Counts how many sides of a position are exposed to potential attacks.
+   * Counts how many sides of a position are exposed to potential attacks, that is how many
+   * sides border another card cell.
    */
-  private int countExposedSides(ReadOnlyTTModel model, int row, int col) {
-    int exposed = 0;
-
-    // Check each direction
-    if (isValidCardCell(model, row - 1, col)) {
-      exposed++; // North
-    }
-    if (isValidCardCell(model, row + 1, col)) {
-      exposed++; // South
-    }
-    if (isValidCardCell(model, row, col - 1)) {
-      exposed++; // West
-    }
-    if (isValidCardCell(model, row, col + 1)) {
-      exposed++; // East
-    }
-
-    return exposed;
-  }
-
-  /**
-   * Checks if a position is a valid card cell.
-   */
-  private boolean isValidCardCell(ReadOnlyTTModel model, int row, int col) {
-    return row >= 0 && row < model.getRows() &&
-            col >= 0 && col < model.getCols() &&
-            model.getCellType(row, col) == CellType.CARD_CELL;
+  private int countExposedSides(NeighbourTable table, int row, int col) {
+    return Integer.bitCount(table.getNeighbourMask(row, col));
   }
 
   /**
@@ -19,6 +19,20 @@ public class MaxCardFlip implements StrategicThreeTrios {
 
   @Override
   public Card optimalCard(ReadOnlyTTModel model, Player player) {
+    ScoredMove move = optimalMove(model, player);
+    if (move != null) {
+      return move.getCard();
+    }
+    List<Card> hand = model.getPlayerHand(player);
+    return hand.isEmpty() ? null : hand.get(0);
+  }
+
+  /**
+   * Finds the card and position with the most flips from a single flip matrix, scored by the
+   * number of flips.
+   */
+  @Override
+  public ScoredMove optimalMove(ReadOnlyTTModel model, Player player) {
     Objects.requireNonNull(model);
     Objects.requireNonNull(player);
 
@@ -31,30 +45,29 @@ public class MaxCardFlip implements StrategicThreeTrios {
       return null;
     }
 
-    Card bestCard = hand.get(0);
-    Position bestPosition = null;
+    int[][] flips = model.getFlipMatrix(player);
+    int bestCardIndex = 0;
+    int bestCell = -1;
     int maxFlips = -1;
 
-    // Try each position and card combination to find highest flips
-    for (int row = 0; row < model.getRows(); row++) {
-      for (int col = 0; col < model.getCols(); col++) {
-        if (!model.isLegalMove(row, col)) {
-          continue;
-        }
-
-        for (Card card : hand) {
-          int flips = model.getPotentialFlips(card, row, col);
-          if (flips > maxFlips ||
-                  (flips == maxFlips && isBetterPosition(row, col, bestPosition))) {
-            maxFlips = flips;
-            bestCard = card;
-            bestPosition = new Position(row, col);
-          }
+    // Try each position and card combination to find highest flips. Cells are visited
+    // uppermost-leftmost first, so a tie never replaces the earlier position.
+    int cells = model.getRows() * model.getCols();
+    for (int cell = 0; cell < cells; cell++) {
+      for (int cardIndex = 0; cardIndex < flips.length; cardIndex++) {
+        if (flips[cardIndex][cell] > maxFlips) {
+          maxFlips = flips[cardIndex][cell];
+          bestCardIndex = cardIndex;
+          bestCell = cell;
         }
       }
     }
 
-    return bestCard;
+    if (bestCell == -1) {
+      return null;
+    }
+    Position position = new Position(bestCell / model.getCols(), bestCell % model.getCols());
+    return new ScoredMove(hand.get(bestCardIndex), position, maxFlips);
   }
 
   @Override
@@ -69,17 +82,13 @@ public class MaxCardFlip implements StrategicThreeTrios {
 
     Position bestPosition = null;
     int maxFlips = -1;
+    int[] cardFlips = model.getCardFlips(player, card);
 
-    // Check all positions for most flips
+    // Check all positions for most flips; cells that are not legal moves hold -1
     for (int row = 0; row < model.getRows(); row++) {
       for (int col = 0; col < model.getCols(); col++) {
-        if (!model.isLegalMove(row, col)) {
-          continue;
-        }
-
-        int flips = model.getPotentialFlips(card, row, col);
-        if (flips > maxFlips ||
-                (flips == maxFlips && isBetterPosition(row, col, bestPosition))) {
+        int flips = cardFlips[row * model.getCols() + col];
+        if (flips > maxFlips) {
           maxFlips = flips;
           bestPosition = new Position(row, col);
         }
@@ -100,23 +109,12 @@ public class MaxCardFlip implements StrategicThreeTrios {
     return bestPosition;
   }
 
-  /**
-   * Helper to determine if a position is better (uppermost-leftmost) than the current best.
-   */
-  private boolean isBetterPosition(int row, int col, Position current) {
-    return current == null ||
-            row < current.getRow() ||
-            (row == current.getRow() && col < current.getCol());
-  }
-
   @Override
   public void execute(ThreeTriosGridModel model, Player player) {
-    Card card = optimalCard(model, player);
-    if (card != null) {
-      Position pos = optimalPosition(model, card, player);
-      if (pos != null) {
-        model.playCardToCardCell(card, pos.getRow(), pos.getCol());
-      }
+    ScoredMove move = optimalMove(model, player);
+    if (move != null) {
+      model.playCardToCardCell(move.getCard(), move.getPosition().getRow(),
+              move.getPosition().getCol());
     }
   }
 }
\ No newline at end of file
@@ -0,0 +1,368 @@
+package cs3500.threetrios.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.Position;
+import cs3500.threetrios.model.ReadOnlyTTModel;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+
+/**
+ * A strategy that picks moves with a Monte Carlo tree search. Every worker thread repeatedly
+ * walks down one shared search tree by UCT, plays the rest of the game out with random moves
+ * and adds the result to every node on its path. The move explored most often is played.
+ *
+ * <p>Node statistics are single atomic longs, so workers never lock while walking or updating
+ * the tree. A worker counts its visit on each node on the way down and only adds the reward
+ * once the playout is done, so until then the node looks like a loss (a virtual loss) and the
+ * other workers are steered to different lines. Playouts run on a PlayoutBoard that each
+ * worker refills from the start position, never on a copy of the model.</p>
+ *
+ * <p>An instance must not be asked for two moves at once, but the search itself uses the
+ * configured number of threads (the calling thread included). The helper threads come from one
+ * daemon pool shared by every instance and sized to the cores, so instances searching at once
+ * never start more threads than the machine has and never need closing. A helper still queued
+ * behind other searches when its own search ends is dropped instead of waited for.</p>
+ */
+public class MonteCarlo implements StrategicThreeTrios {
+
+  private static final long VISIT = 1L << 32; // Visits are kept in the high half of the stats.
+
+  private static final long REWARD_MASK = 0xFFFFFFFFL; // Half-points in the low half.
+
+  private static final double EXPLORATION = Math.sqrt(2);
+
+  private static final int EXPAND_VISITS = 2; // Visits a leaf needs before it is expanded.
+
+  private static final int DEFAULT_PLAYOUTS = 100_000;
+
+  private static final long DEFAULT_TIME_LIMIT_MILLIS = 1000;
+
+  private final int threads;
+
+  private final int playouts;
+
+  private final long timeLimitNanos;
+
+  private final SplittableRandom seeds;
+
+  private long lastHash; // Position of the last decision, reused by optimalPosition.
+
+  private int lastHand = -1;
+
+  private int lastCell = -1;
+
+  private int lastScore; // Percentage of points won by the chosen move's playouts.
+
+  /**
+   * Creates a search using every available core, up to 100000 playouts and one second a move.
+   */
+  public MonteCarlo() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a search with the given number of threads, up to 100000 playouts and one second a
+   * move.
+   *
+   * @param threads the number of threads searching, at least 1.
+   * @throws IllegalArgumentException if threads is not positive.
+   */
+  public MonteCarlo(int threads) {
+    this(threads, DEFAULT_PLAYOUTS, DEFAULT_TIME_LIMIT_MILLIS);
+  }
+
+  /**
+   * Creates a search with the given number of threads, playout budget and time limit.
+   *
+   * @param threads         the number of threads searching, at least 1.
+   * @param playouts        the most playouts per move, at least 1.
+   * @param timeLimitMillis the time one decision may take, at least 1 millisecond.
+   */
+  public MonteCarlo(int threads, int playouts, long timeLimitMillis) {
+    this(threads, playouts, timeLimitMillis, System.nanoTime());
+  }
+
+  /**
+   * Creates a search with the given limits whose playouts are drawn from the given seed. With
+   * a single thread and a budget that runs out before the time limit, the search always plays
+   * the same moves.
+   *
+   * @param threads         the number of threads searching, at least 1.
+   * @param playouts        the most playouts per move, at least 1.
+   * @param timeLimitMillis the time one decision may take, at least 1 millisecond.
+   * @param seed            the seed of the random playouts.
+   * @throws IllegalArgumentException if a limit is not positive.
+   */
+  public MonteCarlo(int threads, int playouts, long timeLimitMillis, long seed) {
+    if (threads < 1 || playouts < 1 || timeLimitMillis < 1) {
+      throw new IllegalArgumentException("Threads, playouts and time limit must be positive");
+    }
+    this.threads = threads;
+    this.playouts = playouts;
+    this.timeLimitNanos = timeLimitMillis * 1_000_000L;
+    this.seeds = new SplittableRandom(seed);
+  }
+
+  @Override
+  public Card optimalCard(ReadOnlyTTModel model, Player player) {
+    Objects.requireNonNull(model);
+    Objects.requireNonNull(player);
+    if (model.isGameOver()) {
+      throw new IllegalStateException("Cannot get optimal card, game over");
+    }
+    List<Card> hand = model.getPlayerHand(player);
+    if (hand.isEmpty()) {
+      return null;
+    }
+    decide(model, -1);
+    return lastHand == -1 ? hand.get(0) : hand.get(lastHand);
+  }
+
+  @Override
+  public Position optimalPosition(ReadOnlyTTModel model, Card card, Player player) {
+    Objects.requireNonNull(model);
+    Objects.requireNonNull(card);
+    Objects.requireNonNull(player);
+    if (model.isGameOver()) {
+      throw new IllegalStateException("Game not started, cannot call optimalPos.");
+    }
+    int handIndex = model.getPlayerHand(player).indexOf(card);
+    if (handIndex == -1) {
+      return new MaxCardFlip().optimalPosition(model, card, player);
+    }
+    if (TranspositionTable.hashOf(model) != lastHash || handIndex != lastHand
+            || lastCell == -1) {
+      decide(model, handIndex);
+    }
+    if (lastCell == -1) {
+      return null;
+    }
+    return new Position(lastCell / model.getCols(), lastCell % model.getCols());
+  }
+
+  /**
+   * Searches once for both the card and the position, scored by the percentage of points the
+   * move won in its playouts (a draw counts half).
+   */
+  @Override
+  public ScoredMove optimalMove(ReadOnlyTTModel model, Player player) {
+    Objects.requireNonNull(model);
+    Objects.requireNonNull(player);
+    if (model.isGameOver()) {
+      throw new IllegalStateException("Cannot get optimal card, game over");
+    }
+    List<Card> hand = model.getPlayerHand(player);
+    if (hand.isEmpty()) {
+      return null;
+    }
+    decide(model, -1);
+    if (lastHand == -1 || lastCell == -1) {
+      return null;
+    }
+    Position position = new Position(lastCell / model.getCols(), lastCell % model.getCols());
+    return new ScoredMove(hand.get(lastHand), position, lastScore);
+  }
+
+  @Override
+  public void execute(ThreeTriosGridModel model, Player player) {
+    ScoredMove move = optimalMove(model, player);
+    if (move != null) {
+      model.playCardToCardCell(move.getCard(), move.getPosition().getRow(),
+              move.getPosition().getCol());
+    }
+  }
+
+  /**
+   * Searches the position and remembers the most visited root move in lastHand and lastCell.
+   *
+   * @param model    the position to search.
+   * @param onlyHand the hand index the root move must use, or -1 for any card.
+   */
+  private void decide(ReadOnlyTTModel model, int onlyHand) {
+    PlayoutBoard start = new PlayoutBoard(model);
+    Node root = new Node(-1, -1);
+    Node[] moves = root.expand(start, onlyHand);
+    Search search = new Search(start, root, System.nanoTime() + timeLimitNanos);
+
+    List<AtomicBoolean> claims = new ArrayList<>();
+    List<Future<?>> helpers = new ArrayList<>();
+    for (int i = 1; i < threads; i++) {
+      SplittableRandom random = seeds.split();
+      AtomicBoolean claimed = new AtomicBoolean();
+      claims.add(claimed);
+      helpers.add(HelperPool.POOL.submit(() -> {
+        if (claimed.compareAndSet(false, true)) {
+          search.run(random);
+        }
+      }));
+    }
+    search.run(seeds.split());
+    try {
+      for (int i = 0; i < helpers.size(); i++) {
+        // A helper that has not started by now would find the budget spent, so drop it.
+        if (claims.get(i).compareAndSet(false, true)) {
+          helpers.get(i).cancel(false);
+        } else {
+          helpers.get(i).get();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while searching", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Search failed", e.getCause());
+    }
+
+    Node best = null;
+    long bestVisits = -1;
+    for (Node move : moves) {
+      long visits = move.stats.get() >>> 32;
+      if (visits > bestVisits) {
+        best = move;
+        bestVisits = visits;
+      }
+    }
+    lastHash = TranspositionTable.hashOf(model);
+    lastHand = best == null ? onlyHand : best.handIndex;
+    lastCell = best == null ? -1 : best.cell;
+    lastScore = bestVisits <= 0 ? 0 : (int) ((best.stats.get() & REWARD_MASK) * 50 / bestVisits);
+  }
+
+  /**
+   * Holds the helper threads shared by every search, one fewer than the cores since each
+   * search also runs on its calling thread. The class loader creates the pool on the first
+   * parallel search, and its daemon threads end with the program.
+   */
+  private static final class HelperPool {
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1), runnable -> {
+              Thread thread = new Thread(runnable, "monte-carlo-search");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * One search of one position, run by every worker at once.
+   */
+  private final class Search {
+    private final PlayoutBoard start;
+    private final Node root;
+    private final long deadline;
+    private final AtomicInteger started = new AtomicInteger();
+
+    private Search(PlayoutBoard start, Node root, long deadline) {
+      this.start = start;
+      this.root = root;
+      this.deadline = deadline;
+    }
+
+    /**
+     * Runs playouts until the budget or the time is used up.
+     */
+    private void run(SplittableRandom random) {
+      PlayoutBoard board = new PlayoutBoard(start);
+      Node[] path = new Node[start.cellCount() + 1];
+      boolean rootRed = start.isRedToMove();
+      while (started.getAndIncrement() < playouts && System.nanoTime() < deadline) {
+        board.copyFrom(start);
+        Node node = root;
+        node.stats.addAndGet(VISIT);
+        path[0] = node;
+        int length = 1;
+        while (!board.isGameOver()) {
+          Node[] children = node.children;
+          if (children == null) {
+            if ((node.stats.get() >>> 32) < EXPAND_VISITS) {
+              break;
+            }
+            children = node.expand(board, -1);
+          }
+          node = select(node, children);
+          node.stats.addAndGet(VISIT);
+          path[length++] = node;
+          board.play(node.handIndex, node.cell);
+        }
+        board.playOut(random);
+
+        int redResult = board.redResult();
+        for (int depth = 1; depth < length; depth++) {
+          boolean redMoved = (depth % 2 == 1) == rootRed;
+          path[depth].stats.addAndGet(redMoved ? redResult : 2 - redResult);
+        }
+      }
+    }
+  }
+
+  /**
+   * Picks the child with the best UCT value, taking unvisited children first in order.
+   */
+  private static Node select(Node parent, Node[] children) {
+    double logVisits = Math.log(parent.stats.get() >>> 32);
+    Node best = children[0];
+    double bestValue = Double.NEGATIVE_INFINITY;
+    for (Node child : children) {
+      long stats = child.stats.get();
+      long visits = stats >>> 32;
+      if (visits == 0) {
+        return child;
+      }
+      double value = (stats & REWARD_MASK) / (2.0 * visits)
+              + EXPLORATION * Math.sqrt(logVisits / visits);
+      if (value > bestValue) {
+        best = child;
+        bestValue = value;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * A node of the search tree, reached by playing the card at handIndex into cell. Its stats
+   * pack the visit count and the half-points won by the player who made that move.
+   */
+  private static final class Node {
+    private final int handIndex;
+    private final int cell;
+    private final AtomicLong stats = new AtomicLong();
+    private volatile Node[] children;
+
+    private Node(int handIndex, int cell) {
+      this.handIndex = handIndex;
+      this.cell = cell;
+    }
+
+    /**
+     * Creates the children for every move on the board, uppermost-leftmost cell first, unless
+     * another worker already did.
+     */
+    private synchronized Node[] expand(PlayoutBoard board, int onlyHand) {
+      if (children == null) {
+        int firstHand = onlyHand == -1 ? 0 : onlyHand;
+        int lastHand = onlyHand == -1 ? board.handSize() : onlyHand + 1;
+        List<Node> moves = new ArrayList<>();
+        for (int cell = 0; cell < board.cellCount(); cell++) {
+          if (board.isEmpty(cell)) {
+            for (int hand = firstHand; hand < lastHand; hand++) {
+              moves.add(new Node(hand, cell));
+            }
+          }
+        }
+        children = moves.toArray(new Node[0]);
+      }
+      return children;
+    }
+  }
+}
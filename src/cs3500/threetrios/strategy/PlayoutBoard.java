@@ -0,0 +1,271 @@
+package cs3500.threetrios.strategy;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Cell;
+import cs3500.threetrios.model.CellType;
+import cs3500.threetrios.model.Direction;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ReadOnlyTTModel;
+
+/**
+ * A minimal board for playouts. It holds only what is needed to play a game out with the
+ * model's rules: the owner and card id of every cell, the card ids in both hands and the empty
+ * card cells, all in primitive arrays. A playout copies the start board into a scratch board
+ * with copyFrom and plays on that, so no model copy or list is created per playout.
+ */
+final class PlayoutBoard {
+
+  private static final int EMPTY = -1; // Card id of a cell without a card; also "no cell".
+
+  private static final byte RED_OWNER = 1;
+
+  private static final byte BLUE_OWNER = 2;
+
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private final int[] neighbours; // neighbours[cell * 4 + dir], EMPTY for edges and holes.
+
+  private final byte[] attacks; // attacks[id * 4 + dir] for card id.
+
+  private final byte[] owners; // 0 for empty cells, else RED_OWNER or BLUE_OWNER.
+
+  private final int[] cardIds;
+
+  private final int[] redHand;
+
+  private final int[] blueHand;
+
+  private final int[] emptyCells; // Empty card cells, in no particular order.
+
+  private final int[] emptySlot; // Position of each empty cell in emptyCells.
+
+  private final int[] workStack;
+
+  private int redHandSize;
+
+  private int blueHandSize;
+
+  private int emptyCount;
+
+  private int redCells;
+
+  private int blueCells;
+
+  private byte toMove;
+
+  /**
+   * Creates an empty board of the same shape and cards as the given one, for use with
+   * copyFrom. The immutable tables are shared.
+   */
+  PlayoutBoard(PlayoutBoard template) {
+    this.neighbours = template.neighbours;
+    this.attacks = template.attacks;
+    this.owners = new byte[template.owners.length];
+    this.cardIds = new int[template.cardIds.length];
+    this.redHand = new int[template.redHand.length];
+    this.blueHand = new int[template.blueHand.length];
+    this.emptyCells = new int[template.emptyCells.length];
+    this.emptySlot = new int[template.emptySlot.length];
+    this.workStack = new int[template.workStack.length];
+  }
+
+  /**
+   * Builds a board holding the current state of the given model. Hand indexes of the board
+   * match the model's hands, so a move found on the board can be played on the model.
+   *
+   * @param model the game state to copy.
+   */
+  PlayoutBoard(ReadOnlyTTModel model) {
+    int numRows = model.getRows();
+    int numCols = model.getCols();
+    int size = numRows * numCols;
+    List<Card> redCards = model.getPlayerHand(Player.RED);
+    List<Card> blueCards = model.getPlayerHand(Player.BLUE);
+    Map<Card, Integer> ids = new IdentityHashMap<>();
+    List<Card> cards = new ArrayList<>();
+
+    this.owners = new byte[size];
+    this.cardIds = new int[size];
+    this.emptyCells = new int[size];
+    this.emptySlot = new int[size];
+    this.workStack = new int[size];
+    boolean[] cardCell = new boolean[size];
+    for (int cell = 0; cell < size; cell++) {
+      int row = cell / numCols;
+      int col = cell % numCols;
+      cardIds[cell] = EMPTY;
+      emptySlot[cell] = EMPTY;
+      if (model.getCellType(row, col) != CellType.CARD_CELL) {
+        continue;
+      }
+      cardCell[cell] = true;
+      Cell modelCell = model.getCell(row, col);
+      if (modelCell.isOccupied()) {
+        cardIds[cell] = idOf(modelCell.getCard(), ids, cards);
+        owners[cell] = modelCell.getOwner() == Player.RED ? RED_OWNER : BLUE_OWNER;
+        if (owners[cell] == RED_OWNER) {
+          redCells++;
+        } else {
+          blueCells++;
+        }
+      } else {
+        emptySlot[cell] = emptyCount;
+        emptyCells[emptyCount++] = cell;
+      }
+    }
+
+    this.redHand = new int[redCards.size()];
+    this.blueHand = new int[blueCards.size()];
+    for (Card card : redCards) {
+      redHand[redHandSize++] = idOf(card, ids, cards);
+    }
+    for (Card card : blueCards) {
+      blueHand[blueHandSize++] = idOf(card, ids, cards);
+    }
+    this.toMove = model.getCurrentPlayer() == Player.RED ? RED_OWNER : BLUE_OWNER;
+
+    this.attacks = new byte[cards.size() * 4];
+    for (int id = 0; id < cards.size(); id++) {
+      for (Direction direction : DIRECTIONS) {
+        attacks[id * 4 + direction.ordinal()] = (byte) cards.get(id).getAttackValue(direction);
+      }
+    }
+    this.neighbours = new int[size * 4];
+    int[] rowOffsets = {-1, 1, 0, 0};
+    int[] colOffsets = {0, 0, 1, -1};
+    for (int cell = 0; cell < size; cell++) {
+      for (Direction direction : DIRECTIONS) {
+        int row = cell / numCols + rowOffsets[direction.ordinal()];
+        int col = cell % numCols + colOffsets[direction.ordinal()];
+        int adj = row * numCols + col;
+        boolean onBoard = row >= 0 && row < numRows && col >= 0 && col < numCols;
+        neighbours[cell * 4 + direction.ordinal()] = onBoard && cardCell[adj] ? adj : EMPTY;
+      }
+    }
+  }
+
+  private static int idOf(Card card, Map<Card, Integer> ids, List<Card> cards) {
+    Integer id = ids.get(card);
+    if (id == null) {
+      id = cards.size();
+      ids.put(card, id);
+      cards.add(card);
+    }
+    return id;
+  }
+
+  /**
+   * Overwrites this board with the state of another board built from the same model.
+   */
+  void copyFrom(PlayoutBoard other) {
+    System.arraycopy(other.owners, 0, owners, 0, owners.length);
+    System.arraycopy(other.cardIds, 0, cardIds, 0, cardIds.length);
+    System.arraycopy(other.redHand, 0, redHand, 0, other.redHandSize);
+    System.arraycopy(other.blueHand, 0, blueHand, 0, other.blueHandSize);
+    System.arraycopy(other.emptyCells, 0, emptyCells, 0, other.emptyCount);
+    System.arraycopy(other.emptySlot, 0, emptySlot, 0, emptySlot.length);
+    redHandSize = other.redHandSize;
+    blueHandSize = other.blueHandSize;
+    emptyCount = other.emptyCount;
+    redCells = other.redCells;
+    blueCells = other.blueCells;
+    toMove = other.toMove;
+  }
+
+  boolean isGameOver() {
+    return emptyCount == 0;
+  }
+
+  boolean isRedToMove() {
+    return toMove == RED_OWNER;
+  }
+
+  int handSize() {
+    return toMove == RED_OWNER ? redHandSize : blueHandSize;
+  }
+
+  boolean isEmpty(int cell) {
+    return emptySlot[cell] != EMPTY;
+  }
+
+  int cellCount() {
+    return cardIds.length;
+  }
+
+  /**
+   * Gets the final result for red: 2 for a win, 1 for a draw and 0 for a loss.
+   */
+  int redResult() {
+    int red = redCells + redHandSize;
+    int blue = blueCells + blueHandSize;
+    return red > blue ? 2 : (red == blue ? 1 : 0);
+  }
+
+  /**
+   * Plays the card at the given hand index of the player to move into the given empty cell,
+   * resolves the battle with the same rules as ThreeTriosGridModel and passes the turn.
+   */
+  void play(int handIndex, int cell) {
+    byte mover = toMove;
+    int[] hand = mover == RED_OWNER ? redHand : blueHand;
+    int card = hand[handIndex];
+    if (mover == RED_OWNER) {
+      hand[handIndex] = hand[--redHandSize];
+      redCells++;
+    } else {
+      hand[handIndex] = hand[--blueHandSize];
+      blueCells++;
+    }
+    int slot = emptySlot[cell];
+    int last = emptyCells[--emptyCount];
+    emptyCells[slot] = last;
+    emptySlot[last] = slot;
+    emptySlot[cell] = EMPTY;
+    cardIds[cell] = card;
+    owners[cell] = mover;
+
+    int top = 0;
+    int flipped = 0;
+    workStack[top++] = cell;
+    while (top > 0) {
+      int current = workStack[--top];
+      int attackBase = cardIds[current] * 4;
+      for (int dir = 0; dir < 4; dir++) {
+        int adj = neighbours[current * 4 + dir];
+        if (adj == EMPTY || cardIds[adj] == EMPTY || owners[adj] == mover) {
+          continue;
+        }
+        int defense = attacks[cardIds[adj] * 4 + DIRECTIONS[dir].opposite().ordinal()];
+        if (attacks[attackBase + dir] < defense) {
+          owners[adj] = mover;
+          workStack[top++] = adj;
+          flipped++;
+        }
+      }
+    }
+    if (mover == RED_OWNER) {
+      redCells += flipped;
+      blueCells -= flipped;
+      toMove = BLUE_OWNER;
+    } else {
+      blueCells += flipped;
+      redCells -= flipped;
+      toMove = RED_OWNER;
+    }
+  }
+
+  /**
+   * Plays random moves until the board is full.
+   */
+  void playOut(SplittableRandom random) {
+    while (emptyCount > 0) {
+      play(random.nextInt(handSize()), emptyCells[random.nextInt(emptyCount)]);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package cs3500.threetrios.strategy;
+
+import java.util.Objects;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Position;
+
+/**
+ * A move chosen by a strategy: the card to play, where to play it and how the strategy scored
+ * it. What the score means depends on the strategy (flips for MaxCardFlip, the final score
+ * margin for the search strategies), but a higher score is always better.
+ */
+public final class ScoredMove {
+  private final Card card;
+  private final Position position;
+  private final int score;
+
+  /**
+   * Creates a scored move.
+   * @param card the card to play.
+   * @param position where to play the card.
+   * @param score the strategy's score of the move.
+   * @throws IllegalArgumentException if card or position is null.
+   */
+  public ScoredMove(Card card, Position position, int score) {
+    if (card == null || position == null) {
+      throw new IllegalArgumentException("Card and position cannot be null");
+    }
+    this.card = card;
+    this.position = position;
+    this.score = score;
+  }
+
+  /**
+   * Gets the card to play.
+   * @return the card.
+   */
+  public Card getCard() {
+    return card;
+  }
+
+  /**
+   * Gets where to play the card.
+   * @return the position.
+   */
+  public Position getPosition() {
+    return position;
+  }
+
+  /**
+   * Gets the strategy's score of the move, higher is better.
+   * @return the score.
+   */
+  public int getScore() {
+    return score;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof ScoredMove)) {
+      return false;
+    }
+    ScoredMove other = (ScoredMove) obj;
+    return card.equals(other.card) && position.equals(other.position) && score == other.score;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(card, position, score);
+  }
+}
@@ -32,6 +32,27 @@ public interface StrategicThreeTrios {
    */
   Card optimalCard(ReadOnlyTTModel model, Player player);
 
+  /**
+   * Determines the card and the position for the next move in one go, so the strategy only
+   * has to evaluate the game state once. By default this asks optimalCard and then
+   * optimalPosition and scores the move 0.
+   * @param model The current game state.
+   * @param player current turn.
+   * @return The move to play, or null if there is no card or no position to play.
+   * @throws IllegalArgumentException if any arguments is null.
+   */
+  default ScoredMove optimalMove(ReadOnlyTTModel model, Player player) {
+    Card card = optimalCard(model, player);
+    if (card == null) {
+      return null;
+    }
+    Position pos = optimalPosition(model, card, player);
+    if (pos == null) {
+      return null;
+    }
+    return new ScoredMove(card, pos, 0);
+  }
+
   /**
    * This executes the move on the model and plays a card to
    * the card cell grid based on the strategy.
@@ -0,0 +1,96 @@
+package cs3500.threetrios.strategy;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * The strategies that can be picked by name on the command line, shared by the game and the
+ * headless simulation so both accept the same names. Every strategy is created from the number
+ * of threads one of its searches may use, which only the parallel ones look at.
+ */
+public final class Strategies {
+
+  private static final Map<String, IntFunction<StrategicThreeTrios>> STRATEGIES =
+          new LinkedHashMap<>();
+
+  static {
+    STRATEGIES.put("strategy1", threads -> new Corner());
+    STRATEGIES.put("strategy2", threads -> new MaxCardFlip());
+    STRATEGIES.put("strategy3", threads -> new HardToFlip());
+    STRATEGIES.put("strategy4", threads -> AlphaBeta.shared());
+    STRATEGIES.put("strategy5", MonteCarlo::new);
+  }
+
+  private Strategies() {
+  }
+
+  /**
+   * Gets the names of every strategy, in the order they were added.
+   *
+   * @return the strategy names.
+   */
+  public static Set<String> names() {
+    return Collections.unmodifiableSet(STRATEGIES.keySet());
+  }
+
+  /**
+   * Checks whether there is a strategy with the given name, ignoring case.
+   *
+   * @param name the name to look up.
+   * @return true if the name is known, false otherwise.
+   */
+  public static boolean contains(String name) {
+    return name != null && STRATEGIES.containsKey(name.toLowerCase());
+  }
+
+  /**
+   * Creates a new instance of the strategy with the given name, ignoring case.
+   *
+   * @param name the name of the strategy.
+   * @return a new strategy.
+   * @throws IllegalArgumentException if there is no strategy with that name.
+   */
+  public static StrategicThreeTrios create(String name) {
+    return supplier(name).get();
+  }
+
+  /**
+   * Gets a supplier of new instances of the strategy with the given name, ignoring case, that
+   * may search on every core.
+   *
+   * @param name the name of the strategy.
+   * @return the supplier.
+   * @throws IllegalArgumentException if there is no strategy with that name.
+   */
+  public static Supplier<StrategicThreeTrios> supplier(String name) {
+    return supplier(name, 1);
+  }
+
+  /**
+   * Gets a supplier of new instances of the strategy with the given name, ignoring case, for a
+   * runner playing the given number of games at once. A parallel search gets an equal share of
+   * the cores, at least one thread, so the runner's workers together do not search on more
+   * threads than there are cores.
+   *
+   * @param name    the name of the strategy.
+   * @param workers the number of games played at once, at least 1.
+   * @return the supplier.
+   * @throws IllegalArgumentException if there is no strategy with that name or workers is not
+   *                                  positive.
+   */
+  public static Supplier<StrategicThreeTrios> supplier(String name, int workers) {
+    if (!contains(name)) {
+      throw new IllegalArgumentException("Unknown strategy: " + name);
+    }
+    if (workers < 1) {
+      throw new IllegalArgumentException("Workers must be positive");
+    }
+    IntFunction<StrategicThreeTrios> strategy = STRATEGIES.get(name.toLowerCase());
+    int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / workers);
+    return () -> strategy.apply(threads);
+  }
+}
@@ -0,0 +1,264 @@
+package cs3500.threetrios.strategy;
+
+import java.util.List;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Cell;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ReadOnlyTTModel;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+
+/**
+ * A fixed-size transposition table that search strategies can share to remember evaluated
+ * positions and the best move found in them. Three Trios positions transpose heavily because
+ * the order cards were placed in rarely matters, so a search that finds a position in the
+ * table can reuse its score instead of searching it again.
+ *
+ * <p>Entries live in three parallel long arrays, grouped in buckets of two slots: the first
+ * slot keeps the deepest entry of the current search, the second always takes the newest
+ * entry. The table takes no locks. Every slot stores its key XOR-ed with its data and move,
+ * so an entry torn by two threads writing at once simply fails the key check on probe and
+ * counts as a miss.</p>
+ */
+public final class TranspositionTable {
+
+  /**
+   * How the stored score bounds the true score of the position.
+   */
+  public enum Bound {
+    EXACT, // The score is the exact value of the position.
+    LOWER, // The true value is at least the score (the search failed high).
+    UPPER  // The true value is at most the score (the search failed low).
+  }
+
+  private static final Bound[] BOUNDS = Bound.values();
+
+  private static final long VALID_BIT = 1L << 63; // Set in the data of every stored entry.
+
+  private static final int MAX_DEPTH = 0x3FF;
+
+  private static final int MAX_AGE = 0xFF;
+
+  private final long[] keys; // Hash XOR data XOR move of each slot.
+
+  private final long[] data; // Packed score, depth, bound and age of each slot.
+
+  private final long[] moves; // Packed hand index and cell index of each slot.
+
+  private final int bucketMask;
+
+  private volatile int age; // Age of the current search, wraps at MAX_AGE.
+
+  /**
+   * Creates a table holding about the given number of entries, rounded down to a power of two.
+   *
+   * @param entries the number of entries, at least 2.
+   * @throws IllegalArgumentException if entries is less than 2.
+   */
+  public TranspositionTable(int entries) {
+    if (entries < 2) {
+      throw new IllegalArgumentException("A transposition table needs at least 2 entries");
+    }
+    int size = Integer.highestOneBit(entries);
+    this.keys = new long[size];
+    this.data = new long[size];
+    this.moves = new long[size];
+    this.bucketMask = size / 2 - 1;
+  }
+
+  /**
+   * Starts a new search. Entries stored by earlier searches are preferred for replacement.
+   */
+  public void newSearch() {
+    age = (age + 1) & MAX_AGE;
+  }
+
+  /**
+   * Empties the table.
+   */
+  public void clear() {
+    for (int slot = 0; slot < keys.length; slot++) {
+      keys[slot] = 0;
+      data[slot] = 0;
+      moves[slot] = 0;
+    }
+  }
+
+  /**
+   * Gets the number of entries the table can hold.
+   *
+   * @return the capacity of the table.
+   */
+  public int capacity() {
+    return keys.length;
+  }
+
+  /**
+   * Looks up the position with the given hash.
+   *
+   * @param hash  the state hash of the position.
+   * @param entry the holder the stored entry is copied into on a hit.
+   * @return true if the position was found, false otherwise.
+   */
+  public boolean probe(long hash, Entry entry) {
+    int slot = bucket(hash);
+    for (int i = 0; i < 2; i++, slot++) {
+      long slotData = data[slot];
+      long slotMove = moves[slot];
+      if ((slotData & VALID_BIT) != 0 && (keys[slot] ^ slotData ^ slotMove) == hash) {
+        entry.score = (int) slotData;
+        entry.depth = (int) (slotData >>> 32) & MAX_DEPTH;
+        entry.bound = BOUNDS[(int) (slotData >>> 42) & 0x3];
+        entry.handIndex = (int) (slotMove >>> 32);
+        entry.cellIndex = (int) slotMove;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Stores the result of searching the position with the given hash. The deeper-search slot of
+   * the bucket is replaced when it holds the same position, an entry from an older search or
+   * an entry searched no deeper than this one; otherwise the entry goes to the newest slot.
+   *
+   * @param hash      the state hash of the position.
+   * @param depth     the depth the position was searched to, clamped to 1023.
+   * @param score     the score of the position for the player to move.
+   * @param bound     how the score bounds the true value.
+   * @param handIndex the hand index of the best move, or -1 if there is none.
+   * @param cellIndex the cell index (row * cols + col) of the best move, or -1.
+   */
+  public void store(long hash, int depth, int score, Bound bound, int handIndex,
+                    int cellIndex) {
+    if (bound == null) {
+      throw new IllegalArgumentException("Bound cannot be null");
+    }
+    int currentAge = age;
+    int clampedDepth = Math.max(0, Math.min(depth, MAX_DEPTH));
+    long newData = VALID_BIT
+            | ((long) currentAge << 44)
+            | ((long) bound.ordinal() << 42)
+            | ((long) clampedDepth << 32)
+            | (score & 0xFFFFFFFFL);
+    long newMove = ((long) handIndex << 32) | (cellIndex & 0xFFFFFFFFL);
+
+    int slot = bucket(hash);
+    long oldData = data[slot];
+    boolean samePosition = (keys[slot] ^ oldData ^ moves[slot]) == hash;
+    int oldDepth = (int) (oldData >>> 32) & MAX_DEPTH;
+    int oldAge = (int) (oldData >>> 44) & MAX_AGE;
+    if ((oldData & VALID_BIT) != 0 && !samePosition && oldAge == currentAge
+            && oldDepth > clampedDepth) {
+      slot++;
+    }
+    data[slot] = newData;
+    moves[slot] = newMove;
+    keys[slot] = hash ^ newData ^ newMove;
+  }
+
+  private int bucket(long hash) {
+    return (int) ((hash ^ (hash >>> 32)) & bucketMask) * 2;
+  }
+
+  /**
+   * Computes the state hash the table is keyed by. A ThreeTriosGridModel already keeps its
+   * Zobrist hash up to date, so its hash is read directly; for any other model the hash is
+   * built from the owner and card of every cell, both hands and the player to move.
+   *
+   * @param model the game state to hash.
+   * @return the 64-bit hash of the state.
+   */
+  public static long hashOf(ReadOnlyTTModel model) {
+    if (model instanceof ThreeTriosGridModel) {
+      return ((ThreeTriosGridModel) model).getStateHash();
+    }
+    long hash = model.getCurrentPlayer() == Player.BLUE ? mix(-1) : 0;
+    hash ^= hashHand(model.getPlayerHand(Player.RED), 0);
+    hash ^= hashHand(model.getPlayerHand(Player.BLUE), 1);
+    int cols = model.getCols();
+    for (int row = 0; row < model.getRows(); row++) {
+      for (int col = 0; col < cols; col++) {
+        Cell cell = model.getCell(row, col);
+        if (cell.isOccupied()) {
+          long location = 2 + 2L * (row * cols + col) + (cell.getOwner() == Player.BLUE ? 1 : 0);
+          hash ^= mix(((long) cell.getCard().getName().hashCode() << 32) ^ location);
+        }
+      }
+    }
+    return hash;
+  }
+
+  private static long hashHand(List<Card> hand, long location) {
+    long hash = 0;
+    for (Card card : hand) {
+      hash ^= mix(((long) card.getName().hashCode() << 32) ^ location);
+    }
+    return hash;
+  }
+
+  /**
+   * SplitMix64 finalizer, spreading a feature of the state over all 64 bits.
+   */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * A reusable holder for an entry read from the table, so probing allocates nothing.
+   */
+  public static final class Entry {
+    private int score;
+    private int depth;
+    private Bound bound;
+    private int handIndex;
+    private int cellIndex;
+
+    /**
+     * Gets the stored score, from the point of view of the player to move.
+     *
+     * @return the score.
+     */
+    public int getScore() {
+      return score;
+    }
+
+    /**
+     * Gets the depth the position was searched to.
+     *
+     * @return the depth.
+     */
+    public int getDepth() {
+      return depth;
+    }
+
+    /**
+     * Gets how the score bounds the true value of the position.
+     *
+     * @return the bound.
+     */
+    public Bound getBound() {
+      return bound;
+    }
+
+    /**
+     * Gets the hand index of the best move found, or -1 if there is none.
+     *
+     * @return the hand index.
+     */
+    public int getHandIndex() {
+      return handIndex;
+    }
+
+    /**
+     * Gets the cell index (row * cols + col) of the best move found, or -1.
+     *
+     * @return the cell index.
+     */
+    public int getCellIndex() {
+      return cellIndex;
+    }
+  }
+}
@@ -51,14 +51,15 @@ public class HintPanel extends JPanel {
     int cellWidth = getWidth() / model.getCols();
     int cellHeight = getHeight() / model.getRows();
 
+    // Flip counts of the selected card come from one query; other cells hold -1
+    int[] cardFlips = model.getCardFlips(model.getCurrentPlayer(), selectedCard);
+
     // Only draw hint numbers where legal moves exist
     for (int row = 0; row < model.getRows(); row++) {
       for (int col = 0; col < model.getCols(); col++) {
-        if (model.isLegalMove(row, col)) {
-          int flips = model.getPotentialFlips(selectedCard, row, col);
-          if (flips > 0) {
-            drawHintNumber(g2d, row, col, flips, cellWidth, cellHeight);
-          }
+        int flips = cardFlips[row * model.getCols() + col];
+        if (flips > 0) {
+          drawHintNumber(g2d, row, col, flips, cellWidth, cellHeight);
         }
       }
     }
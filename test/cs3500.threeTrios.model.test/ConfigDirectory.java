@@ -0,0 +1,99 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import cs3500.threetrios.model.ConfigGenerator;
+import cs3500.threetrios.model.GameGridModel;
+
+/**
+ * A scratch directory of configuration files for a test. It is created under the working
+ * directory, since the model only reads configuration files by relative path, and closing it
+ * deletes the directory with everything written into it, so tests use it in a
+ * try-with-resources block.
+ */
+public class ConfigDirectory implements AutoCloseable {
+  private final Path path;
+
+  /**
+   * Creates an empty directory under the working directory.
+   * @param prefix the prefix of the directory name.
+   * @throws IOException if the directory cannot be created.
+   */
+  public ConfigDirectory(String prefix) throws IOException {
+    this.path = Files.createTempDirectory(Paths.get(""), prefix);
+  }
+
+  /**
+   * Gets the path of a file in the directory.
+   * @param file the name of the file.
+   * @return the path of the file.
+   */
+  public Path resolve(String file) {
+    return path.resolve(file);
+  }
+
+  /**
+   * Writes a configuration file as lines of text.
+   * @param file the name of the file.
+   * @param lines the lines of the configuration.
+   * @throws IOException if the file cannot be written.
+   */
+  public void write(String file, List<String> lines) throws IOException {
+    ConfigGenerator.write(path.resolve(file), lines);
+  }
+
+  /**
+   * Writes a file with the given bytes.
+   * @param file the name of the file.
+   * @param bytes the contents of the file.
+   * @throws IOException if the file cannot be written.
+   */
+  public void write(String file, byte[] bytes) throws IOException {
+    Files.write(path.resolve(file), bytes);
+  }
+
+  /**
+   * Starts a game on a deck and a board in this directory.
+   * @param model the model to start.
+   * @param cards the name of the card configuration.
+   * @param board the name of the board configuration.
+   * @return the started model.
+   */
+  public <T extends GameGridModel> T start(T model, String cards, String board) {
+    model.startGame(toString(), cards, toString(), board);
+    return model;
+  }
+
+  /**
+   * Gets the directory as the relative path startGame expects.
+   * @return the relative path of the directory.
+   */
+  @Override
+  public String toString() {
+    return path.toString();
+  }
+
+  /**
+   * Deletes the directory and everything in it.
+   * @throws IOException if something cannot be deleted.
+   */
+  @Override
+  public void close() throws IOException {
+    try (Stream<Path> files = Files.walk(path)) {
+      files.sorted(Comparator.reverseOrder()).forEach(file -> {
+        try {
+          Files.delete(file);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+}
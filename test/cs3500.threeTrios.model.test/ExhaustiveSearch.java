@@ -0,0 +1,81 @@
+import java.util.Random;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.Position;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+
+/**
+ * The brute-force oracle the search strategy tests check their moves against: the exact
+ * minimax value of a position, found by applying and undoing every move to the end of the
+ * game, and the small game those tests start from.
+ */
+public final class ExhaustiveSearch {
+
+  private ExhaustiveSearch() {
+  }
+
+  /**
+   * Starts a game with the shipped deck on one of the shipped boards.
+   * @param board the name of the board configuration in docs.
+   * @return the started game, with red to move.
+   */
+  public static ThreeTriosGridModel start(String board) {
+    ThreeTriosGridModel model = new ThreeTriosGridModel();
+    model.startGame("docs", "docs/cardsWorksWithAll.config", "docs", "docs/" + board);
+    return model;
+  }
+
+  /**
+   * Starts a game with the shipped deck on one of the shipped boards, dealt by the given
+   * random.
+   * @param board the name of the board configuration in docs.
+   * @param random the random the deck is shuffled with.
+   * @return the started game, with red to move.
+   */
+  public static ThreeTriosGridModel start(String board, Random random) {
+    ThreeTriosGridModel model = new ThreeTriosGridModel(random);
+    model.startGame("docs", "docs/cardsWorksWithAll.config", "docs", "docs/" + board);
+    return model;
+  }
+
+  /**
+   * Finds the exact minimax score difference of the position for the player to move, leaving
+   * the game as it was.
+   * @param game the game to search, with no strategy running on it.
+   * @return the player to move's score minus the opponent's under best play by both.
+   */
+  public static int negamax(ThreeTriosGridModel game) {
+    Player toMove = game.getCurrentPlayer();
+    if (game.isGameOver()) {
+      Player other = toMove == Player.RED ? Player.BLUE : Player.RED;
+      return game.getPlayerScore(toMove) - game.getPlayerScore(other);
+    }
+    int best = Integer.MIN_VALUE;
+    for (int hand = 0; hand < game.getPlayerHand(toMove).size(); hand++) {
+      for (Position move : game.getLegalMoves()) {
+        game.applyMove(hand, move.getRow(), move.getCol());
+        best = Math.max(best, -negamax(game));
+        game.undoMove();
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Finds the exact minimax value of playing the given card at the given position, for the
+   * player to move, leaving the game as it was. A move is optimal exactly when its value
+   * equals negamax of the game.
+   * @param game the game to search.
+   * @param card a card in the hand of the player to move.
+   * @param position a legal position.
+   * @return the mover's score difference under best play after the move.
+   */
+  public static int valueOf(ThreeTriosGridModel game, Card card, Position position) {
+    game.applyMove(game.getPlayerHand(game.getCurrentPlayer()).indexOf(card),
+            position.getRow(), position.getCol());
+    int value = -negamax(game);
+    game.undoMove();
+    return value;
+  }
+}
@@ -0,0 +1,47 @@
+import java.util.List;
+import java.util.Random;
+
+import cs3500.threetrios.model.AttackDistribution;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.ConfigGenerator;
+import cs3500.threetrios.model.Position;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+
+/**
+ * Seeded random games for tests that check the model against itself or against a reference
+ * over many positions: small generated boards with a uniform deck, played with random moves.
+ */
+public final class RandomGames {
+
+  private RandomGames() {
+  }
+
+  /**
+   * Starts a game on a random board of two to five rows and columns.
+   * @param random the source of the board, the deck and the deal.
+   * @return the started game.
+   */
+  public static ThreeTriosGridModel start(Random random) {
+    int rows = 2 + random.nextInt(4);
+    int cols = 2 + random.nextInt(4);
+    List<String> board = ConfigGenerator.generateBoard(rows, cols, 0.2, random);
+    List<Card> cards = ConfigGenerator.generateCards(rows * cols + 1,
+            AttackDistribution.UNIFORM, random);
+    ThreeTriosGridModel model = new ThreeTriosGridModel(new Random(random.nextLong()));
+    model.createGrid(board, cards);
+    return model;
+  }
+
+  /**
+   * Plays a random card of the current player to a random empty cell.
+   * @param model the game to play in, which must not be over.
+   * @param random the source of the move.
+   */
+  public static void playMove(ThreeTriosGridModel model, Random random) {
+    List<Position> moves = model.getLegalMoves();
+    Position move = moves.get(random.nextInt(moves.size()));
+    List<Card> hand = model.getPlayerHand(model.getCurrentPlayer());
+    model.playCardToCardCell(hand.get(random.nextInt(hand.size())), move.getRow(),
+            move.getCol());
+  }
+}
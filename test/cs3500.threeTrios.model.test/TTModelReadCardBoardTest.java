@@ -2,16 +2,24 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
+import cs3500.threetrios.controller.GameStatusListener;
+import cs3500.threetrios.model.AttackDistribution;
 import cs3500.threetrios.model.Card;
 import cs3500.threetrios.model.CardCell;
 import cs3500.threetrios.model.Cell;
 import cs3500.threetrios.model.CellType;
+import cs3500.threetrios.model.ConfigGenerator;
 import cs3500.threetrios.model.Direction;
+import cs3500.threetrios.model.GameResult;
 import cs3500.threetrios.model.HoleCell;
 import cs3500.threetrios.model.Player;
 import cs3500.threetrios.model.Position;
+import cs3500.threetrios.model.ReadOnlyTTModel;
 import cs3500.threetrios.model.ThreeTriosGridModel;
 
 /**
@@ -451,6 +459,178 @@ public class TTModelReadCardBoardTest {
                     model.getCurrentPlayer());
   }
 
+  @Test
+  public void testSeededDealMatchesDealingFromTheFront() {
+    List<String> board = ConfigGenerator.generateBoard(5, 5, 0.2, new Random(1));
+    List<Card> cards = ConfigGenerator.generateCards(40, AttackDistribution.UNIFORM,
+            new Random(1));
+    ThreeTriosGridModel seeded = new ThreeTriosGridModel(new Random(9));
+    seeded.createGrid(board, cards);
+
+    List<Card> deck = new ArrayList<>(cards);
+    Collections.shuffle(deck, new Random(9));
+    List<Card> red = new ArrayList<>();
+    List<Card> blue = new ArrayList<>();
+    int handSize = (seeded.getLegalMoves().size() + 1) / 2;
+    for (int card = 0; card < handSize; card++) {
+      red.add(deck.remove(0));
+      blue.add(deck.remove(0));
+    }
+    Assert.assertEquals(red.toString(), seeded.getPlayerHand(Player.RED).toString());
+    Assert.assertEquals(blue.toString(), seeded.getPlayerHand(Player.BLUE).toString());
+    Assert.assertEquals(deck.toString(), seeded.getDeck().toString());
+  }
+
+  @Test
+  public void testDealFromHugeDeck() {
+    List<String> board = ConfigGenerator.generateBoard(3, 3, 0, new Random(2));
+    List<Card> cards = ConfigGenerator.generateCards(1_000_000, AttackDistribution.UNIFORM,
+            new Random(2));
+    model.createGrid(board, cards);
+    Assert.assertEquals(5, model.getPlayerHand(Player.RED).size());
+    Assert.assertEquals(5, model.getPlayerHand(Player.BLUE).size());
+    Assert.assertEquals(1_000_000 - 10, model.getDeckSize());
+  }
+
+  @Test
+  public void testGetCardByNameFindsDealtCards() {
+    List<String> board = ConfigGenerator.generateBoard(5, 5, 0, new Random(3));
+    model.createGrid(board, ConfigGenerator.generateCards(30, AttackDistribution.UNIFORM,
+            new Random(3)));
+    Card dealt = model.getPlayerHand(Player.BLUE).get(4);
+    Assert.assertSame(dealt, model.getCardByName(dealt.getName()));
+    model.playCardToCardCell(model.getPlayerHand(Player.RED).get(0), 2, 2);
+    Card played = model.getCell(2, 2).getCard();
+    Assert.assertSame(played, model.getCardByName(played.getName()));
+
+    ReadOnlyTTModel copy = model.getCopy();
+    Card copied = copy.getCardByName(dealt.getName());
+    Assert.assertNotSame(dealt, copied);
+    Assert.assertSame(copy.getPlayerHand(Player.BLUE).get(4), copied);
+    Assert.assertSame(copy.getCell(2, 2).getCard(), copy.getCardByName(played.getName()));
+  }
+
+  @Test
+  public void testLargeHandKeepsOrderThroughPlaysAndUndo() {
+    List<String> board = ConfigGenerator.generateBoard(21, 21, 0, new Random(4));
+    model.createGrid(board, ConfigGenerator.generateCards(500, AttackDistribution.UNIFORM,
+            new Random(4)));
+    List<Card> red = new ArrayList<>(model.getPlayerHand(Player.RED));
+    List<Card> blue = new ArrayList<>(model.getPlayerHand(Player.BLUE));
+    List<Card> redBefore = new ArrayList<>(red);
+    List<Card> blueBefore = new ArrayList<>(blue);
+    Random random = new Random(4);
+    List<Position> moves = model.getLegalMoves();
+    for (int move = 0; move < 150; move++) {
+      List<Card> hand = move % 2 == 0 ? red : blue;
+      int handIndex = random.nextInt(hand.size());
+      hand.remove(handIndex);
+      Position cell = moves.get(move);
+      model.applyMove(handIndex, cell.getRow(), cell.getCol());
+      Assert.assertEquals(red, model.getPlayerHand(Player.RED));
+      Assert.assertEquals(blue, model.getPlayerHand(Player.BLUE));
+    }
+    Card middle = blue.get(blue.size() / 2);
+    Assert.assertEquals(blue.size() / 2, model.getPlayerHand(Player.BLUE).indexOf(middle));
+
+    while (model.getAppliedMoveCount() > 0) {
+      model.undoMove();
+    }
+    Assert.assertEquals(redBefore, model.getPlayerHand(Player.RED));
+    Assert.assertEquals(blueBefore, model.getPlayerHand(Player.BLUE));
+
+    Card played = redBefore.get(100);
+    model.playCardToCardCell(played, 0, 0);
+    Assert.assertFalse(model.getPlayerHand(Player.RED).contains(played));
+    Assert.assertSame(redBefore.get(101), model.getPlayerHand(Player.RED).get(100));
+    Assert.assertThrows("Card already played", IllegalArgumentException.class, () ->
+            model.playCardToCardCell(played, 0, 1));
+  }
+
+  @Test
+  public void testScoresMatchBoardThroughPlaysAndUndo() {
+    List<String> board = ConfigGenerator.generateBoard(7, 7, 0.2, new Random(6));
+    model.createGrid(board, ConfigGenerator.generateCards(60, AttackDistribution.UNIFORM,
+            new Random(6)));
+    Random random = new Random(6);
+    while (!model.isGameOver()) {
+      List<Position> moves = model.getLegalMoves();
+      Position cell = moves.get(random.nextInt(moves.size()));
+      int handSize = model.getPlayerHand(model.getCurrentPlayer()).size();
+      model.applyMove(random.nextInt(handSize), cell.getRow(), cell.getCol());
+      assertScoresMatchBoard(moves.size() - 1);
+    }
+    while (model.getAppliedMoveCount() > 10) {
+      model.undoMove();
+      assertScoresMatchBoard(model.getLegalMoves().size());
+    }
+    Assert.assertFalse(model.isGameOver());
+  }
+
+  @Test
+  public void testWinnerIsComputedAndAnnouncedOnce() {
+    List<String> board = ConfigGenerator.generateBoard(5, 5, 0, new Random(8));
+    model.createGrid(board, ConfigGenerator.generateCards(30, AttackDistribution.UNIFORM,
+            new Random(8)));
+    List<Player> announced = new ArrayList<>();
+    model.addModelStatusListener(new GameStatusListener() {
+      @Override
+      public void notifyTurnChange(Player currentPlayer) {
+        // Only the end of the game is counted.
+      }
+
+      @Override
+      public void notifyGameOver(Player winner, int score) {
+        announced.add(winner);
+      }
+
+      @Override
+      public void notifyInvalidMove(String message) {
+        // Only the end of the game is counted.
+      }
+    });
+    while (!model.isGameOver()) {
+      Position cell = model.getLegalMoves().get(0);
+      model.playCardToCardCell(model.getPlayerHand(model.getCurrentPlayer()).get(0),
+              cell.getRow(), cell.getCol());
+    }
+
+    GameResult result = model.getResult();
+    Assert.assertEquals(1, announced.size());
+    Assert.assertEquals(announced.get(0), model.getWinner());
+    Assert.assertEquals(announced.get(0), model.getWinner());
+    Assert.assertSame(result, model.getResult());
+    Assert.assertEquals(1, announced.size());
+    Assert.assertEquals(model.getPlayerScore(Player.RED), result.getScore(Player.RED));
+    Assert.assertEquals(model.getPlayerScore(Player.BLUE), result.getScore(Player.BLUE));
+    Assert.assertEquals(result.getWinner(), model.getCopy().getWinner());
+  }
+
+  /**
+   * Checks the scores and legal moves of the model against a count of the grid's cells.
+   */
+  private void assertScoresMatchBoard(int emptyCells) {
+    int red = model.getPlayerHand(Player.RED).size();
+    int blue = model.getPlayerHand(Player.BLUE).size();
+    int empty = 0;
+    for (int row = 0; row < model.getRows(); row++) {
+      for (int col = 0; col < model.getCols(); col++) {
+        Cell cell = model.getCell(row, col);
+        if (model.getCellType(row, col) == CellType.CARD_CELL && !cell.isOccupied()) {
+          empty++;
+        } else if (cell.isOccupied() && cell.getOwner() == Player.RED) {
+          red++;
+        } else if (cell.isOccupied()) {
+          blue++;
+        }
+      }
+    }
+    Assert.assertEquals(red, model.getPlayerScore(Player.RED));
+    Assert.assertEquals(blue, model.getPlayerScore(Player.BLUE));
+    Assert.assertEquals(emptyCells, empty);
+    Assert.assertEquals(empty == 0, model.isGameOver());
+  }
+
   @Test
   public void testInvalidCardConfig() {
     Assert.assertThrows("Not enough cards to start game",
@@ -0,0 +1,137 @@
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.threetrios.model.AttackValues;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.Position;
+import cs3500.threetrios.model.ReadOnlyTTModel;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+import cs3500.threetrios.strategy.AlphaBeta;
+import cs3500.threetrios.strategy.MaxCardFlip;
+import cs3500.threetrios.strategy.ScoredMove;
+import cs3500.threetrios.strategy.StrategicThreeTrios;
+import cs3500.threetrios.strategy.mocks.MockDefaultFlipModel;
+
+/**
+ * Tests for the AlphaBeta strategy. Verifies that a full-depth search picks a move with the
+ * best minimax value, also when the shared table was filled on another board, that searching
+ * leaves the model untouched, and that the strategy falls back to MaxCardFlip for models it
+ * cannot search.
+ */
+public class TestAlphaBetaStrategy {
+  private ThreeTriosGridModel model;
+  private StrategicThreeTrios strategy;
+
+  @Before
+  public void setUp() {
+    model = ExhaustiveSearch.start("board.config");
+    strategy = new AlphaBeta();
+  }
+
+  @Test
+  public void testChoosesMoveWithBestMinimaxValue() {
+    Player red = model.getCurrentPlayer();
+    Card card = strategy.optimalCard(model, red);
+    Position pos = strategy.optimalPosition(model, card, red);
+    Assert.assertEquals(ExhaustiveSearch.negamax(model),
+            ExhaustiveSearch.valueOf(model, card, pos));
+  }
+
+  @Test
+  public void testSharedSearchesChooseMovesWithBestMinimaxValue() {
+    StrategicThreeTrios first = AlphaBeta.shared();
+    StrategicThreeTrios second = AlphaBeta.shared();
+    Player red = model.getCurrentPlayer();
+    for (StrategicThreeTrios search : new StrategicThreeTrios[] {first, second, first}) {
+      Card card = search.optimalCard(model, red);
+      Position pos = search.optimalPosition(model, card, red);
+      Assert.assertEquals(ExhaustiveSearch.negamax(model),
+              ExhaustiveSearch.valueOf(model, card, pos));
+    }
+  }
+
+  @Test
+  public void testSharedTableKeepsBoardsApart() {
+    StrategicThreeTrios shared = AlphaBeta.shared();
+    for (int seed = 0; seed < 50; seed++) {
+      ThreeTriosGridModel warm = ExhaustiveSearch.start("board.config", new Random(seed));
+      shared.optimalMove(warm, warm.getCurrentPlayer());
+      ThreeTriosGridModel other = ExhaustiveSearch.start("boardNotReachCC.config",
+              new Random(seed));
+      ScoredMove move = shared.optimalMove(other, other.getCurrentPlayer());
+      Assert.assertEquals("seed " + seed, ExhaustiveSearch.negamax(other), move.getScore());
+      Assert.assertEquals("seed " + seed, ExhaustiveSearch.negamax(other),
+              ExhaustiveSearch.valueOf(other, move.getCard(), move.getPosition()));
+    }
+  }
+
+  @Test
+  public void testSearchLeavesModelUnchanged() {
+    long hash = model.getStateHash();
+    Card card = strategy.optimalCard(model, Player.RED);
+    strategy.optimalPosition(model, card, Player.RED);
+    Assert.assertEquals(hash, model.getStateHash());
+    Assert.assertEquals(0, model.getAppliedMoveCount());
+    Assert.assertEquals(3, model.getPlayerHand(Player.RED).size());
+  }
+
+  @Test
+  public void testPositionIsLegalForAnyCard() {
+    for (Card card : model.getPlayerHand(Player.RED)) {
+      Position pos = strategy.optimalPosition(model, card, Player.RED);
+      Assert.assertTrue(model.isLegalMove(pos.getRow(), pos.getCol()));
+    }
+  }
+
+  @Test
+  public void testPlaysFullGameAgainstItself() {
+    ThreeTriosGridModel game = ExhaustiveSearch.start("boardWithNoHoles.config");
+    StrategicThreeTrios limited = new AlphaBeta(4, 200);
+    while (!game.isGameOver()) {
+      limited.execute(game, game.getCurrentPlayer());
+    }
+    Assert.assertTrue(game.isGameOver());
+  }
+
+  @Test
+  public void testFallsBackToMaxCardFlipForOtherModels() {
+    Card weak = new Card("Card1", AttackValues.ONE, AttackValues.ONE,
+            AttackValues.ONE, AttackValues.ONE);
+    Card strong = new Card("Card3", AttackValues.FIVE, AttackValues.FIVE,
+            AttackValues.FIVE, AttackValues.FIVE);
+    List<Card> hand = Arrays.asList(weak, strong);
+    ReadOnlyTTModel mock = new MockDefaultFlipModel(hand, strong);
+    StrategicThreeTrios maxFlip = new MaxCardFlip();
+    Assert.assertEquals(maxFlip.optimalCard(mock, Player.RED),
+            strategy.optimalCard(mock, Player.RED));
+    Position expected = maxFlip.optimalPosition(mock, strong, Player.RED);
+    Position actual = strategy.optimalPosition(mock, strong, Player.RED);
+    Assert.assertEquals(expected.getRow(), actual.getRow());
+    Assert.assertEquals(expected.getCol(), actual.getCol());
+  }
+
+  @Test
+  public void testInvalidLimits() {
+    Assert.assertThrows("depth must be positive", IllegalArgumentException.class, () ->
+            new AlphaBeta(0, 100));
+    Assert.assertThrows("time must be positive", IllegalArgumentException.class, () ->
+            new AlphaBeta(3, 0));
+    Assert.assertThrows("table cannot be null", IllegalArgumentException.class, () ->
+            new AlphaBeta(3, 100, null));
+  }
+
+  @Test
+  public void testGameOverThrows() {
+    while (!model.isGameOver()) {
+      strategy.execute(model, model.getCurrentPlayer());
+    }
+    Assert.assertThrows("game over", IllegalStateException.class, () ->
+            strategy.optimalCard(model, Player.RED));
+  }
+}
@@ -0,0 +1,176 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.threetrios.controller.GameStatusListener;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.CellType;
+import cs3500.threetrios.model.GameResult;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.Position;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+
+/**
+ * Tests for applying and undoing moves on the grid model. Verifies that an applied move plays
+ * exactly like playCardToCardCell, and that undoing it, or a whole line of moves, restores the
+ * owners, hands, hash and turn it started from, including after cascades flipping several
+ * cards. A board filled by applied moves reports its result without telling the listeners,
+ * which only hear about the real end of the game.
+ */
+public class TestApplyUndo {
+
+  @Test
+  public void testUndoRestoresEveryMoveOfRandomGames() {
+    Random random = new Random(31);
+    int mostFlips = 0;
+    for (int game = 0; game < 30; game++) {
+      ThreeTriosGridModel model = RandomGames.start(random);
+      while (!model.isGameOver()) {
+        String before = snapshot(model);
+        List<Card> hand = model.getPlayerHand(model.getCurrentPlayer());
+        for (Position move : model.getLegalMoves()) {
+          for (int card = 0; card < hand.size(); card++) {
+            mostFlips = Math.max(mostFlips, model.applyMove(card, move.getRow(), move.getCol()));
+            model.undoMove();
+            Assert.assertEquals(before, snapshot(model));
+          }
+        }
+        RandomGames.playMove(model, random);
+      }
+    }
+    Assert.assertTrue("no cascade flipped several cards", mostFlips >= 3);
+  }
+
+  @Test
+  public void testUndoingALineRestoresEachPosition() {
+    Random random = new Random(32);
+    for (int game = 0; game < 30; game++) {
+      ThreeTriosGridModel model = RandomGames.start(random);
+      List<String> line = new ArrayList<>();
+      while (!model.isGameOver()) {
+        line.add(snapshot(model));
+        List<Position> moves = model.getLegalMoves();
+        Position move = moves.get(random.nextInt(moves.size()));
+        model.applyMove(random.nextInt(model.getPlayerHand(model.getCurrentPlayer()).size()),
+                move.getRow(), move.getCol());
+      }
+      Assert.assertEquals(line.size(), model.getAppliedMoveCount());
+      for (int move = line.size() - 1; move >= 0; move--) {
+        model.undoMove();
+        Assert.assertEquals(line.get(move), snapshot(model));
+        Assert.assertFalse(model.isGameOver());
+      }
+      Assert.assertEquals(0, model.getAppliedMoveCount());
+    }
+  }
+
+  @Test
+  public void testAppliedMovePlaysLikeAPlayedCard() {
+    Random random = new Random(33);
+    for (int game = 0; game < 30; game++) {
+      ThreeTriosGridModel model = RandomGames.start(random);
+      while (!model.isGameOver()) {
+        List<Position> moves = model.getLegalMoves();
+        Position move = moves.get(random.nextInt(moves.size()));
+        Player player = model.getCurrentPlayer();
+        int card = random.nextInt(model.getPlayerHand(player).size());
+        ThreeTriosGridModel played = (ThreeTriosGridModel) model.getCopy();
+        played.playCardToCardCell(played.getPlayerHand(player).get(card), move.getRow(),
+                move.getCol());
+        int redBefore = model.getPlayerScore(Player.RED);
+        int flips = model.applyMove(card, move.getRow(), move.getCol());
+
+        Assert.assertEquals(snapshot(played), snapshot(model));
+        int gained = model.getPlayerScore(Player.RED) - redBefore;
+        Assert.assertEquals(player == Player.RED ? flips : -flips, gained);
+      }
+    }
+  }
+
+  @Test
+  public void testUndoWithoutAppliedMoveThrows() {
+    ThreeTriosGridModel model = RandomGames.start(new Random(34));
+    Position move = model.getLegalMoves().get(0);
+    model.playCardToCardCell(model.getPlayerHand(Player.RED).get(0), move.getRow(),
+            move.getCol());
+    Assert.assertThrows(IllegalStateException.class, model::undoMove);
+    Assert.assertThrows(IllegalArgumentException.class, () ->
+            model.applyMove(-1, move.getRow(), move.getCol()));
+  }
+
+  @Test
+  public void testAppliedEndDoesNotNotifyListeners() {
+    Random random = new Random(35);
+    for (int game = 0; game < 20; game++) {
+      ThreeTriosGridModel model = RandomGames.start(random);
+      List<Player> winners = new ArrayList<>();
+      model.addModelStatusListener(new GameStatusListener() {
+        @Override
+        public void notifyTurnChange(Player currentPlayer) {
+          // Only the end of the game is counted.
+        }
+
+        @Override
+        public void notifyGameOver(Player winner, int score) {
+          winners.add(winner);
+        }
+
+        @Override
+        public void notifyInvalidMove(String message) {
+          // Only the end of the game is counted.
+        }
+      });
+      while (model.getLegalMoves().size() > 1) {
+        RandomGames.playMove(model, random);
+      }
+      Position last = model.getLegalMoves().get(0);
+      List<Card> hand = model.getPlayerHand(model.getCurrentPlayer());
+      for (int card = 0; card < hand.size(); card++) {
+        model.applyMove(card, last.getRow(), last.getCol());
+        GameResult applied = model.getResult();
+        Assert.assertEquals(model.getPlayerScore(Player.RED), applied.getScore(Player.RED));
+        Assert.assertEquals(model.getPlayerScore(Player.BLUE), applied.getScore(Player.BLUE));
+        Assert.assertEquals(applied.getWinner(), model.getWinner());
+        model.undoMove();
+      }
+      Assert.assertTrue(winners.isEmpty());
+
+      model.playCardToCardCell(hand.get(random.nextInt(hand.size())), last.getRow(),
+              last.getCol());
+      Assert.assertEquals(List.of(model.getWinner()), winners);
+      Assert.assertSame(model.getResult(), model.getResult());
+      Assert.assertEquals(model.getPlayerScore(Player.RED),
+              model.getResult().getScore(Player.RED));
+      Assert.assertEquals(1, winners.size());
+    }
+  }
+
+  /**
+   * Describes everything a move changes: the owner and card of every cell, both hands in
+   * order, both scores, the player to move and the state hash.
+   */
+  private static String snapshot(ThreeTriosGridModel model) {
+    StringBuilder state = new StringBuilder();
+    for (int row = 0; row < model.getRows(); row++) {
+      for (int col = 0; col < model.getCols(); col++) {
+        if (model.getCellType(row, col) == CellType.CARD_CELL
+                && model.getCell(row, col).isOccupied()) {
+          state.append(model.getCell(row, col).getCard().getName()).append('/')
+                  .append(model.getCell(row, col).getOwner());
+        }
+        state.append(',');
+      }
+      state.append('\n');
+    }
+    state.append(model.getPlayerHand(Player.RED)).append('\n')
+            .append(model.getPlayerHand(Player.BLUE)).append('\n')
+            .append(model.getPlayerScore(Player.RED)).append('-')
+            .append(model.getPlayerScore(Player.BLUE)).append('\n')
+            .append(model.isGameOver() ? "over" : model.getCurrentPlayer()).append('\n')
+            .append(model.getStateHash());
+    return state.toString();
+  }
+}
@@ -0,0 +1,88 @@
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+import cs3500.threetrios.simulation.BatchSimulation;
+import cs3500.threetrios.simulation.SimulationResult;
+import cs3500.threetrios.strategy.Corner;
+import cs3500.threetrios.strategy.MaxCardFlip;
+import cs3500.threetrios.strategy.MonteCarlo;
+import cs3500.threetrios.strategy.Strategies;
+
+/**
+ * Tests for the headless batch simulation and the strategy registry it shares with the game.
+ * Verifies that every game is counted, that a seeded batch gives the same statistics however
+ * many threads play it, that parallel searches can play on every worker at once, and that bad
+ * arguments are rejected.
+ */
+public class TestBatchSimulation {
+  private BatchSimulation simulation;
+
+  @Before
+  public void setUp() {
+    simulation = new BatchSimulation("docs", "docs/cardsWorksWithAll.config",
+            "docs", "docs/boardWithNoHoles.config");
+  }
+
+  @Test
+  public void testEveryGameCounted() {
+    SimulationResult result = simulation.run(MaxCardFlip::new, Corner::new, 50, 2, 1);
+    Assert.assertEquals(50, result.getGames());
+    Assert.assertEquals(50, result.getRedWins() + result.getBlueWins() + result.getDraws());
+    Assert.assertEquals(50 * 16, result.getRedScore() + result.getBlueScore());
+  }
+
+  @Test
+  public void testSeededBatchIndependentOfThreads() {
+    SimulationResult single = simulation.run(MaxCardFlip::new, Corner::new, 40, 1, 99);
+    SimulationResult parallel = simulation.run(MaxCardFlip::new, Corner::new, 40, 4, 99);
+    Assert.assertEquals(single.getRedWins(), parallel.getRedWins());
+    Assert.assertEquals(single.getBlueWins(), parallel.getBlueWins());
+    Assert.assertEquals(single.getRedScore(), parallel.getRedScore());
+  }
+
+  @Test
+  public void testPlayGameIsRepeatable() {
+    long seed = BatchSimulation.gameSeed(5, 3);
+    ThreeTriosGridModel first = simulation.playGame(new MaxCardFlip(), new Corner(), seed);
+    ThreeTriosGridModel second = simulation.playGame(new MaxCardFlip(), new Corner(), seed);
+    Assert.assertTrue(first.isGameOver());
+    Assert.assertEquals(first.getStateHash(), second.getStateHash());
+    Assert.assertEquals(first.getPlayerScore(Player.RED), second.getPlayerScore(Player.RED));
+  }
+
+  @Test
+  public void testParallelSearchesShareTheCores() {
+    SimulationResult result = simulation.run(() -> new MonteCarlo(4, 500, 1000),
+            Strategies.supplier("strategy5", 4), 8, 4, 3);
+    Assert.assertEquals(8, result.getGames());
+    Assert.assertEquals(8 * 16, result.getRedScore() + result.getBlueScore());
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    Assert.assertThrows("null config", IllegalArgumentException.class, () ->
+            new BatchSimulation(null, "cards", "docs", "board"));
+    Assert.assertThrows("null strategy", IllegalArgumentException.class, () ->
+            simulation.run(null, Corner::new, 1, 1, 0));
+    Assert.assertThrows("no games", IllegalArgumentException.class, () ->
+            simulation.run(Corner::new, Corner::new, 0, 1, 0));
+    Assert.assertThrows("no threads", IllegalArgumentException.class, () ->
+            simulation.run(Corner::new, Corner::new, 1, 0, 0));
+  }
+
+  @Test
+  public void testStrategyRegistry() {
+    Assert.assertTrue(Strategies.contains("Strategy2"));
+    Assert.assertFalse(Strategies.contains("human"));
+    Assert.assertTrue(Strategies.create("strategy2") instanceof MaxCardFlip);
+    Assert.assertNotSame(Strategies.create("strategy1"), Strategies.create("strategy1"));
+    Assert.assertThrows("unknown strategy", IllegalArgumentException.class, () ->
+            Strategies.create("strategy0"));
+    Assert.assertTrue(Strategies.supplier("strategy5", 64).get() instanceof MonteCarlo);
+    Assert.assertThrows("no workers", IllegalArgumentException.class, () ->
+            Strategies.supplier("strategy5", 0));
+  }
+}
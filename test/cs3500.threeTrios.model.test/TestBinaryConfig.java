@@ -0,0 +1,116 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.threetrios.model.AttackDistribution;
+import cs3500.threetrios.model.BinaryConfig;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.ConfigGenerator;
+import cs3500.threetrios.model.FlatGridModel;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+
+/**
+ * Tests for compiled board and card configurations. Verifies that the configurations in docs
+ * and generated ones start the same game compiled as they do as text, and that corrupt
+ * compiled files are rejected.
+ */
+public class TestBinaryConfig {
+
+  private static final List<String> BOARDS = Arrays.asList("board.config",
+          "boardNotReachCC.config", "boardWithHoleAllCCCanReach.config",
+          "boardWithNoHoles.config");
+
+  @Test
+  public void testCompiledDocsStartTheSameGame() throws IOException {
+    try (ConfigDirectory directory = new ConfigDirectory("compiled")) {
+      BinaryConfig.compileCards("docs", "cardsWorksWithAll.config",
+              directory.resolve("cards.ttc"));
+      for (String board : BOARDS) {
+        BinaryConfig.compileBoard("docs", board, directory.resolve("board.ttb"));
+        ThreeTriosGridModel fromText = new ThreeTriosGridModel(new Random(3));
+        fromText.startGame("docs", "cardsWorksWithAll.config", "docs", board);
+        ThreeTriosGridModel compiled = directory.start(new ThreeTriosGridModel(new Random(3)),
+                "cards.ttc", "board.ttb");
+
+        Assert.assertEquals(board, fromText.getStateHash(), compiled.getStateHash());
+        Assert.assertEquals(board, fromText.getLegalMoves(), compiled.getLegalMoves());
+        Assert.assertEquals(board, fromText.getPlayerHand(Player.BLUE).toString(),
+                compiled.getPlayerHand(Player.BLUE).toString());
+      }
+    }
+  }
+
+  @Test
+  public void testCompiledGeneratedConfigsMatchFlatModel() throws IOException {
+    List<String> board = ConfigGenerator.generateBoard(13, 21, 0.3, new Random(7));
+    List<Card> cards = ConfigGenerator.generateCards(300, AttackDistribution.UNIFORM,
+            new Random(7));
+    try (ConfigDirectory directory = new ConfigDirectory("compiled")) {
+      directory.write("board.config", board);
+      directory.write("cards.config", ConfigGenerator.toCardLines(cards));
+      BinaryConfig.compileBoard(directory.toString(), "board.config",
+              directory.resolve("board.ttb"));
+      BinaryConfig.compileCards(directory.toString(), "cards.config",
+              directory.resolve("cards.ttc"));
+      FlatGridModel compiled = directory.start(new FlatGridModel(new Random(9)), "cards.ttc",
+              "board.ttb");
+      FlatGridModel inMemory = new FlatGridModel(new Random(9));
+      inMemory.createGrid(board, cards);
+
+      Assert.assertEquals(inMemory.getLegalMoves(), compiled.getLegalMoves());
+      Assert.assertEquals(inMemory.getPlayerHand(Player.RED).toString(),
+              compiled.getPlayerHand(Player.RED).toString());
+      Assert.assertEquals(cards.get(299).toString(),
+              compiled.getCardByName("Card299").toString());
+    }
+  }
+
+  @Test
+  public void testTextDeckNamedLikeTheOldMagicIsReadAsText() throws IOException {
+    try (ConfigDirectory directory = new ConfigDirectory("compiled")) {
+      List<String> deck = Files.readAllLines(Paths.get("docs", "cardsWorksWithAll.config"));
+      for (String first : new String[] {"TTC1", "TTC1anything", "TTB1"}) {
+        List<String> renamed = new ArrayList<>(deck);
+        renamed.set(0, renamed.get(0).replaceFirst("^\\S+", first));
+        directory.write("cards.config", renamed);
+        ThreeTriosGridModel model = new ThreeTriosGridModel(new Random(1));
+        model.startGame(directory.toString(), "cards.config", "docs", "board.config");
+
+        Assert.assertEquals(first, model.getCardByName(first).getName());
+      }
+    }
+  }
+
+  @Test
+  public void testCorruptCompiledFilesAreRejected() throws IOException {
+    try (ConfigDirectory directory = new ConfigDirectory("compiled")) {
+      BinaryConfig.compileCards("docs", "cardsWorksWithAll.config",
+              directory.resolve("cards.ttc"));
+      BinaryConfig.compileBoard("docs", "board.config", directory.resolve("board.ttb"));
+      byte[] deck = Files.readAllBytes(directory.resolve("cards.ttc"));
+      directory.write("short.ttc", Arrays.copyOf(deck, deck.length - 1));
+      byte[] badAttack = deck.clone();
+      badAttack[8] = (byte) 0xA0;
+      directory.write("attack.ttc", badAttack);
+      byte[] grid = Files.readAllBytes(directory.resolve("board.ttb"));
+      directory.write("short.ttb", Arrays.copyOf(grid, grid.length - 1));
+
+      for (String file : new String[] {"short.ttc", "attack.ttc"}) {
+        Assert.assertThrows(file, IllegalArgumentException.class, () ->
+                new ThreeTriosGridModel().startGame(directory.toString(), file,
+                        "docs", "board.config"));
+      }
+      Assert.assertThrows(IllegalArgumentException.class, () ->
+              new ThreeTriosGridModel().startGame(directory.toString(), "cards.ttc",
+                      directory.toString(), "short.ttb"));
+    }
+  }
+}
@@ -0,0 +1,91 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.threetrios.model.AttackDistribution;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.ConfigGenerator;
+import cs3500.threetrios.model.FlatGridModel;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+import cs3500.threetrios.strategy.MaxCardFlip;
+
+/**
+ * Tests for the configuration cache shared by games started from files. Verifies that games
+ * on the same files share the parsed cards without sharing any game state, also when the files
+ * are named by different paths, and that a file that changes on disk is parsed again.
+ */
+public class TestConfigCache {
+
+  @Test
+  public void testGamesShareParsedCardsButNotState() throws IOException {
+    List<String> board = ConfigGenerator.generateBoard(5, 5, 0, new Random(1));
+    List<Card> cards = ConfigGenerator.generateCards(30, AttackDistribution.UNIFORM,
+            new Random(1));
+    try (ConfigDirectory directory = new ConfigDirectory("cached")) {
+      directory.write("board.config", board);
+      directory.write("cards.config", ConfigGenerator.toCardLines(cards));
+      ThreeTriosGridModel first = start(directory, new Random(2));
+      MaxCardFlip strategy = new MaxCardFlip();
+      while (!first.isGameOver()) {
+        strategy.execute(first, first.getCurrentPlayer());
+      }
+      ThreeTriosGridModel second = start(directory, new Random(2));
+      FlatGridModel flat = directory.start(new FlatGridModel(new Random(2)), "cards.config",
+              "board.config");
+
+      Assert.assertSame(first.getCardByName("Card7"), second.getCardByName("Card7"));
+      Assert.assertSame(first.getCardByName("Card7"), flat.getCardByName("Card7"));
+      Assert.assertEquals(25, second.getLegalMoves().size());
+      Assert.assertEquals(13, second.getPlayerHand(Player.RED).size());
+      Assert.assertEquals(second.getPlayerHand(Player.RED).toString(),
+              flat.getPlayerHand(Player.RED).toString());
+    }
+  }
+
+  @Test
+  public void testChangedFileIsParsedAgain() throws IOException {
+    List<Card> cards = ConfigGenerator.generateCards(30, AttackDistribution.UNIFORM,
+            new Random(3));
+    try (ConfigDirectory directory = new ConfigDirectory("cached")) {
+      Path boardFile = directory.resolve("board.config");
+      directory.write("board.config", Arrays.asList("3 3", "CCC", "CCC", "CCC"));
+      directory.write("cards.config", ConfigGenerator.toCardLines(cards));
+      Assert.assertEquals(3, start(directory, new Random(4)).getRows());
+      Assert.assertEquals(3, start(directory, new Random(4)).getRows());
+
+      FileTime modified = Files.getLastModifiedTime(boardFile);
+      directory.write("board.config", Arrays.asList("1 5", "CCCCC"));
+      Files.setLastModifiedTime(boardFile, FileTime.fromMillis(modified.toMillis() + 2000));
+      ThreeTriosGridModel changed = start(directory, new Random(4));
+
+      Assert.assertEquals(1, changed.getRows());
+      Assert.assertEquals(5, changed.getCols());
+      Assert.assertEquals(3, changed.getPlayerHand(Player.BLUE).size());
+    }
+  }
+
+  @Test
+  public void testSpellingsOfOneFileShareAnEntry() {
+    Card card = null;
+    for (String directory : new String[] {"docs", "./docs", "docs/../docs"}) {
+      ThreeTriosGridModel model = new ThreeTriosGridModel(new Random(5));
+      model.startGame(directory, "cardsWorksWithAll.config", directory, "board.config");
+      if (card == null) {
+        card = model.getDeck().get(0);
+      }
+      Assert.assertSame(directory, card, model.getCardByName(card.getName()));
+    }
+  }
+
+  private static ThreeTriosGridModel start(ConfigDirectory directory, Random random) {
+    return directory.start(new ThreeTriosGridModel(random), "cards.config", "board.config");
+  }
+}
@@ -0,0 +1,203 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import cs3500.threetrios.model.AttackDistribution;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.CellType;
+import cs3500.threetrios.model.ConfigGenerator;
+import cs3500.threetrios.model.Direction;
+import cs3500.threetrios.model.FlatGridModel;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+import cs3500.threetrios.strategy.MaxCardFlip;
+
+/**
+ * Tests for the board and deck generator and for starting games from configurations held in
+ * memory. Verifies that generated boards have an odd number of connected card cells, that
+ * decks have unique names, and that generated files and in-memory configurations start the
+ * same game.
+ */
+public class TestConfigGenerator {
+
+  @Test
+  public void testBoardDimensionsAndOddCardCells() {
+    for (double density : new double[] {0, 0.2, 0.5, 0.8}) {
+      List<String> lines = ConfigGenerator.generateBoard(17, 24, density, new Random(3));
+      Assert.assertEquals(18, lines.size());
+      Assert.assertEquals("17 24", lines.get(0));
+      int cardCells = 0;
+      for (String line : lines.subList(1, lines.size())) {
+        Assert.assertEquals(24, line.length());
+        Assert.assertTrue(line.matches("[CX]+"));
+        cardCells += line.replace("X", "").length();
+      }
+      Assert.assertEquals(1, cardCells % 2);
+    }
+  }
+
+  @Test
+  public void testBoardCardCellsAreConnected() {
+    for (long seed = 0; seed < 20; seed++) {
+      List<String> lines = ConfigGenerator.generateBoard(30, 30, 0.45, new Random(seed));
+      Assert.assertEquals(countCardCells(lines), countReachable(lines));
+    }
+  }
+
+  @Test
+  public void testHoleDensity() {
+    List<String> open = ConfigGenerator.generateBoard(40, 40, 0, new Random(1));
+    Assert.assertEquals(40 * 40 - 1, countCardCells(open));
+    List<String> sparse = ConfigGenerator.generateBoard(100, 100, 0.25, new Random(1));
+    double holes = 1 - countCardCells(sparse) / 10000.0;
+    Assert.assertTrue(holes > 0.2 && holes < 0.26);
+  }
+
+  @Test
+  public void testCardsHaveUniqueNamesAndDistribution() {
+    List<Card> weak = ConfigGenerator.generateCards(5000, AttackDistribution.WEAK,
+            new Random(2));
+    List<Card> strong = ConfigGenerator.generateCards(5000, AttackDistribution.STRONG,
+            new Random(2));
+    Set<String> names = new HashSet<>();
+    for (Card card : weak) {
+      Assert.assertTrue(names.add(card.getName()));
+    }
+    Assert.assertTrue(averageAttack(weak) < 4.5);
+    Assert.assertTrue(averageAttack(strong) > 6.5);
+  }
+
+  @Test
+  public void testCardLinesRoundTrip() {
+    List<Card> cards = Arrays.asList(ConfigGenerator.generateCards(1, AttackDistribution.UNIFORM,
+            new Random(0)).get(0));
+    String line = ConfigGenerator.toCardLines(cards).get(0);
+    Card card = cards.get(0);
+    String[] parts = line.split(" ");
+    Assert.assertEquals(card.getName(), parts[0]);
+    Assert.assertEquals(card.getAttackValue(Direction.NORTH), attack(parts[1]));
+    Assert.assertEquals(card.getAttackValue(Direction.SOUTH), attack(parts[2]));
+    Assert.assertEquals(card.getAttackValue(Direction.EAST), attack(parts[3]));
+    Assert.assertEquals(card.getAttackValue(Direction.WEST), attack(parts[4]));
+  }
+
+  @Test
+  public void testFilesAndMemoryStartTheSameGame() throws IOException {
+    List<String> board = ConfigGenerator.generateBoard(9, 9, 0.2, new Random(4));
+    List<Card> cards = ConfigGenerator.generateCards(countCardCells(board) + 1,
+            AttackDistribution.BALANCED, new Random(4));
+    try (ConfigDirectory directory = new ConfigDirectory("generated")) {
+      directory.write("board.config", board);
+      directory.write("cards.config", ConfigGenerator.toCardLines(cards));
+      ThreeTriosGridModel fromFiles = directory.start(new ThreeTriosGridModel(new Random(8)),
+              "cards.config", "board.config");
+      ThreeTriosGridModel inMemory = new ThreeTriosGridModel(new Random(8));
+      inMemory.createGrid(board, cards);
+
+      Assert.assertEquals(fromFiles.getStateHash(), inMemory.getStateHash());
+      Assert.assertEquals(fromFiles.getLegalMoves(), inMemory.getLegalMoves());
+      Assert.assertEquals(fromFiles.getPlayerHand(Player.RED).toString(),
+              inMemory.getPlayerHand(Player.RED).toString());
+    }
+  }
+
+  @Test
+  public void testCreateGridPlaysToTheEnd() {
+    List<String> board = ConfigGenerator.generateBoard(15, 15, 0.3, new Random(6));
+    List<Card> cards = ConfigGenerator.generateCards(countCardCells(board) + 1,
+            AttackDistribution.UNIFORM, new Random(6));
+    ThreeTriosGridModel model = new ThreeTriosGridModel(new Random(6));
+    model.createGrid(board, cards);
+    FlatGridModel flat = new FlatGridModel(new Random(6));
+    flat.createGrid(board, cards);
+    Assert.assertEquals(CellType.HOLE == model.getCellType(0, 0),
+            CellType.HOLE == flat.getCellType(0, 0));
+    MaxCardFlip strategy = new MaxCardFlip();
+    while (!model.isGameOver()) {
+      strategy.execute(model, model.getCurrentPlayer());
+    }
+    Assert.assertEquals(countCardCells(board) + 1,
+            model.getPlayerScore(Player.RED) + model.getPlayerScore(Player.BLUE));
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    Assert.assertThrows("no rows", IllegalArgumentException.class, () ->
+            ConfigGenerator.generateBoard(0, 5, 0, new Random()));
+    Assert.assertThrows("all holes", IllegalArgumentException.class, () ->
+            ConfigGenerator.generateBoard(5, 5, 1, new Random()));
+    Assert.assertThrows("negative cards", IllegalArgumentException.class, () ->
+            ConfigGenerator.generateCards(-1, AttackDistribution.UNIFORM, new Random()));
+    List<String> board = ConfigGenerator.generateBoard(3, 3, 0, new Random(0));
+    Assert.assertThrows("too few cards", IllegalArgumentException.class, () ->
+            new ThreeTriosGridModel().createGrid(board, ConfigGenerator.generateCards(4,
+                    AttackDistribution.UNIFORM, new Random())));
+    List<Card> duplicates = new ArrayList<>(ConfigGenerator.generateCards(9,
+            AttackDistribution.UNIFORM, new Random()));
+    duplicates.add(duplicates.get(0));
+    Assert.assertThrows("duplicate names", IllegalArgumentException.class, () ->
+            new FlatGridModel().createGrid(board, duplicates));
+    Assert.assertThrows("bad grid", IllegalArgumentException.class, () ->
+            new ThreeTriosGridModel().createGrid(Arrays.asList("1 2", "CZ"), duplicates));
+  }
+
+  private static int countCardCells(List<String> lines) {
+    int count = 0;
+    for (String line : lines.subList(1, lines.size())) {
+      count += line.replace("X", "").length();
+    }
+    return count;
+  }
+
+  private static int countReachable(List<String> lines) {
+    List<String> rows = lines.subList(1, lines.size());
+    int numRows = rows.size();
+    int numCols = rows.get(0).length();
+    boolean[][] seen = new boolean[numRows][numCols];
+    List<int[]> stack = new ArrayList<>();
+    for (int row = 0; row < numRows && stack.isEmpty(); row++) {
+      int col = rows.get(row).indexOf('C');
+      if (col != -1) {
+        stack.add(new int[] {row, col});
+        seen[row][col] = true;
+      }
+    }
+    int reached = 0;
+    int[][] steps = {{-1, 0}, {1, 0}, {0, 1}, {0, -1}};
+    while (!stack.isEmpty()) {
+      int[] cell = stack.remove(stack.size() - 1);
+      reached++;
+      for (int[] step : steps) {
+        int row = cell[0] + step[0];
+        int col = cell[1] + step[1];
+        if (row >= 0 && row < numRows && col >= 0 && col < numCols && !seen[row][col]
+                && rows.get(row).charAt(col) == 'C') {
+          seen[row][col] = true;
+          stack.add(new int[] {row, col});
+        }
+      }
+    }
+    return reached;
+  }
+
+  private static double averageAttack(List<Card> cards) {
+    double total = 0;
+    for (Card card : cards) {
+      for (Direction direction : Direction.values()) {
+        total += card.getAttackValue(direction);
+      }
+    }
+    return total / (cards.size() * 4);
+  }
+
+  private static int attack(String value) {
+    return value.equals("A") ? 10 : Integer.parseInt(value);
+  }
+}
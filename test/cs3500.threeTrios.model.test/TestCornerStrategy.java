@@ -9,6 +9,7 @@ import cs3500.threetrios.model.Player;
 import cs3500.threetrios.model.Position;
 import cs3500.threetrios.model.ReadOnlyTTModel;
 import cs3500.threetrios.strategy.Corner;
+import cs3500.threetrios.strategy.ScoredMove;
 import cs3500.threetrios.strategy.StrategicThreeTrios;
 import cs3500.threetrios.strategy.mocks.MockCornerEqualModel;
 import cs3500.threetrios.strategy.mocks.MockDefaultCornerModel;
@@ -63,6 +64,17 @@ public class TestCornerStrategy {
     Assert.assertEquals(1, pos.getCol());
   }
 
+  @Test
+  public void testOptimalMoveDefaultsToCardThenPosition() {
+    ReadOnlyTTModel model = new MockDefaultCornerModel(mockHand);
+    ScoredMove move = cornerStrategy.optimalMove(model, Player.RED);
+    Card card = cornerStrategy.optimalCard(model, Player.RED);
+    Assert.assertEquals(card, move.getCard());
+    Assert.assertEquals(cornerStrategy.optimalPosition(model, card, Player.RED),
+            move.getPosition());
+    Assert.assertEquals(0, move.getScore());
+  }
+
   @Test
   public void testGameOverCheck() {
     ReadOnlyTTModel model = new MockThreeTriosModel(mockHand, true, 3, 3);
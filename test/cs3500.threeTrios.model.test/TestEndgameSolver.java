@@ -0,0 +1,115 @@
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import cs3500.threetrios.controller.MachinePlayer;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.Position;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+import cs3500.threetrios.strategy.Corner;
+import cs3500.threetrios.strategy.EndgameSolver;
+import cs3500.threetrios.strategy.MaxCardFlip;
+import cs3500.threetrios.strategy.StrategicThreeTrios;
+
+/**
+ * Tests for the EndgameSolver. Verifies that solved margins match an exhaustive search, also
+ * when one solver moves between boards, that the solver plays a move achieving that margin,
+ * and that it hands decisions to the wrapped strategy before the endgame and when the node
+ * budget runs out.
+ */
+public class TestEndgameSolver {
+  private ThreeTriosGridModel model;
+
+  @Before
+  public void setUp() {
+    model = ExhaustiveSearch.start("boardWithHoleAllCCCanReach.config");
+    model.applyMove(0, 0, 0);
+    model.applyMove(0, 2, 2);
+  }
+
+  @Test
+  public void testSolveMatchesExhaustiveSearch() {
+    EndgameSolver solver = new EndgameSolver(new MaxCardFlip(), 5);
+    Assert.assertTrue(solver.isEndgame(model));
+    Assert.assertEquals(ExhaustiveSearch.negamax(model), solver.solve(model));
+  }
+
+  @Test
+  public void testSolvesOtherBoardsAfterOneIsSolved() {
+    EndgameSolver solver = new EndgameSolver(new MaxCardFlip(), 5);
+    Assert.assertEquals(ExhaustiveSearch.negamax(model), solver.solve(model));
+    for (int seed = 0; seed < 20; seed++) {
+      for (String board : new String[] {"board.config", "boardNotReachCC.config"}) {
+        ThreeTriosGridModel other = ExhaustiveSearch.start(board, new Random(seed));
+        Assert.assertEquals(board + " " + seed, ExhaustiveSearch.negamax(other),
+                solver.solve(other));
+      }
+    }
+  }
+
+  @Test
+  public void testPlaysMoveAchievingSolvedMargin() {
+    EndgameSolver solver = new EndgameSolver(new MaxCardFlip(), 5);
+    int margin = solver.solve(model);
+    Player toMove = model.getCurrentPlayer();
+    Card card = solver.optimalCard(model, toMove);
+    Position pos = solver.optimalPosition(model, card, toMove);
+    Assert.assertEquals(margin, ExhaustiveSearch.valueOf(model, card, pos));
+  }
+
+  @Test
+  public void testPositionForAnyCardIsLegal() {
+    EndgameSolver solver = new EndgameSolver(new MaxCardFlip(), 5);
+    for (Card card : model.getPlayerHand(model.getCurrentPlayer())) {
+      Position pos = solver.optimalPosition(model, card, model.getCurrentPlayer());
+      Assert.assertTrue(model.isLegalMove(pos.getRow(), pos.getCol()));
+    }
+  }
+
+  @Test
+  public void testDelegatesBeforeEndgame() {
+    StrategicThreeTrios maxFlip = new MaxCardFlip();
+    EndgameSolver solver = new EndgameSolver(maxFlip, 4);
+    Assert.assertFalse(solver.isEndgame(model));
+    Player toMove = model.getCurrentPlayer();
+    Card card = solver.optimalCard(model, toMove);
+    Assert.assertEquals(maxFlip.optimalCard(model, toMove), card);
+    Position expected = maxFlip.optimalPosition(model, card, toMove);
+    Position actual = solver.optimalPosition(model, card, toMove);
+    Assert.assertEquals(expected.getRow(), actual.getRow());
+    Assert.assertEquals(expected.getCol(), actual.getCol());
+    Assert.assertThrows("not an endgame", IllegalArgumentException.class, () ->
+            solver.solve(model));
+  }
+
+  @Test
+  public void testDelegatesWhenBudgetRunsOut() {
+    StrategicThreeTrios maxFlip = new MaxCardFlip();
+    EndgameSolver solver = new EndgameSolver(maxFlip, 5, 1);
+    Assert.assertThrows("budget", IllegalStateException.class, () -> solver.solve(model));
+    Player toMove = model.getCurrentPlayer();
+    Assert.assertEquals(maxFlip.optimalCard(model, toMove), solver.optimalCard(model, toMove));
+  }
+
+  @Test
+  public void testMachinePlayerUsesSolverInEndgame() {
+    long hash = model.getStateHash();
+    new MachinePlayer(model.getCurrentPlayer(), model, new Corner(), 5)
+            .performModelAction(model);
+    Assert.assertNotEquals(hash, model.getStateHash());
+    Assert.assertEquals(4, model.getLegalMoves().size());
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    Assert.assertThrows("null strategy", IllegalArgumentException.class, () ->
+            new EndgameSolver(null, 5));
+    Assert.assertThrows("cells must be positive", IllegalArgumentException.class, () ->
+            new EndgameSolver(new Corner(), 0));
+    Assert.assertThrows("budget must be positive", IllegalArgumentException.class, () ->
+            new EndgameSolver(new Corner(), 5, 0));
+  }
+}
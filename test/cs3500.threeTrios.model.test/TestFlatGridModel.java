@@ -0,0 +1,112 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import cs3500.threetrios.model.AttackDistribution;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.CellType;
+import cs3500.threetrios.model.ConfigGenerator;
+import cs3500.threetrios.model.FlatGridModel;
+import cs3500.threetrios.model.GameGridModel;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.Position;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+
+/**
+ * Tests that the flat model plays exactly like the grid model. Both are dealt from the same
+ * seed and given the same random moves, and after every move they must agree on the owner of
+ * every cell, the scores, the hands, the flips every card would make on every empty cell, and
+ * at the end on the winner.
+ */
+public class TestFlatGridModel {
+
+  @Test
+  public void testSameMovesGiveTheSameGame() {
+    Random random = new Random(21);
+    for (int game = 0; game < 40; game++) {
+      int rows = 1 + random.nextInt(6);
+      int cols = 1 + random.nextInt(6);
+      List<String> board = ConfigGenerator.generateBoard(rows, cols, 0.3, random);
+      List<Card> cards = ConfigGenerator.generateCards(rows * cols + 1,
+              AttackDistribution.values()[game % AttackDistribution.values().length], random);
+      long seed = random.nextLong();
+      ThreeTriosGridModel model = new ThreeTriosGridModel(new Random(seed));
+      model.createGrid(board, cards);
+      FlatGridModel flat = new FlatGridModel(new Random(seed));
+      flat.createGrid(board, cards);
+
+      assertSameState(model, flat);
+      while (!model.isGameOver()) {
+        List<Position> moves = model.getLegalMoves();
+        Position move = moves.get(random.nextInt(moves.size()));
+        int card = random.nextInt(model.getPlayerHand(model.getCurrentPlayer()).size());
+        model.playCardToCardCell(model.getPlayerHand(model.getCurrentPlayer()).get(card),
+                move.getRow(), move.getCol());
+        flat.playCardToCardCell(flat.getPlayerHand(flat.getCurrentPlayer()).get(card),
+                move.getRow(), move.getCol());
+        assertSameState(model, flat);
+      }
+      Assert.assertTrue(flat.isGameOver());
+      Assert.assertEquals(model.getWinner(), flat.getWinner());
+    }
+  }
+
+  @Test
+  public void testSameMovesFromTheSameFiles() {
+    ThreeTriosGridModel model = new ThreeTriosGridModel(new Random(4));
+    model.startGame("docs", "cardsWorksWithAll.config", "docs", "board.config");
+    FlatGridModel flat = new FlatGridModel(new Random(4));
+    flat.startGame("docs", "cardsWorksWithAll.config", "docs", "board.config");
+    while (!model.isGameOver()) {
+      Position move = model.getLegalMoves().get(0);
+      model.playCardToCardCell(model.getPlayerHand(model.getCurrentPlayer()).get(0),
+              move.getRow(), move.getCol());
+      flat.playCardToCardCell(flat.getPlayerHand(flat.getCurrentPlayer()).get(0),
+              move.getRow(), move.getCol());
+      assertSameState(model, flat);
+    }
+    Assert.assertEquals(model.getWinner(), flat.getWinner());
+  }
+
+  private static void assertSameState(GameGridModel expected, GameGridModel actual) {
+    Assert.assertEquals(expected.getRows(), actual.getRows());
+    Assert.assertEquals(expected.getCols(), actual.getCols());
+    Assert.assertEquals(expected.isGameOver(), actual.isGameOver());
+    for (int row = 0; row < expected.getRows(); row++) {
+      for (int col = 0; col < expected.getCols(); col++) {
+        Assert.assertEquals(expected.getCellType(row, col), actual.getCellType(row, col));
+        if (expected.getCellType(row, col) == CellType.CARD_CELL) {
+          Assert.assertEquals(row + "," + col, expected.getCell(row, col).getOwner(),
+                  actual.getCell(row, col).getOwner());
+        }
+      }
+    }
+    for (Player player : new Player[] {Player.RED, Player.BLUE}) {
+      Assert.assertEquals(expected.getPlayerScore(player), actual.getPlayerScore(player));
+      Assert.assertEquals(expected.getPlayerHand(player).toString(),
+              actual.getPlayerHand(player).toString());
+    }
+    if (expected.isGameOver()) {
+      return;
+    }
+    Assert.assertEquals(expected.getCurrentPlayer(), actual.getCurrentPlayer());
+    Assert.assertEquals(expected.getLegalMoves(), actual.getLegalMoves());
+    Player player = expected.getCurrentPlayer();
+    Assert.assertArrayEquals(expected.getFlipMatrix(player), actual.getFlipMatrix(player));
+    List<Card> hand = expected.getPlayerHand(player);
+    for (int card = 0; card < hand.size(); card++) {
+      Assert.assertArrayEquals(expected.getCardFlips(player, hand.get(card)),
+              actual.getCardFlips(player, actual.getPlayerHand(player).get(card)));
+    }
+    for (Position move : expected.getLegalMoves()) {
+      for (int card = 0; card < hand.size(); card++) {
+        Assert.assertEquals(expected.getPotentialFlips(hand.get(card), move.getRow(),
+                        move.getCol()),
+                actual.getPotentialFlips(actual.getPlayerHand(player).get(card), move.getRow(),
+                        move.getCol()));
+      }
+    }
+  }
+}
@@ -0,0 +1,84 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ReadOnlyTTModel;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+
+/**
+ * Tests the batch flip queries against single flip counts. Over the whole board of random
+ * games, every entry of the flip matrix and of each card's flip row must equal
+ * getPotentialFlips at a legal cell and -1 everywhere else, and each card's row must equal its
+ * row of the matrix for either player.
+ */
+public class TestFlipMatrix {
+
+  @Test
+  public void testMatrixMatchesPotentialFlipsOnEveryCell() {
+    Random random = new Random(61);
+    for (int game = 0; game < 40; game++) {
+      ThreeTriosGridModel model = RandomGames.start(random);
+      while (!model.isGameOver()) {
+        assertMatchesPotentialFlips(model);
+        assertMatchesPotentialFlips(model.getCopy());
+        RandomGames.playMove(model, random);
+      }
+    }
+  }
+
+  @Test
+  public void testCardRowsMatchTheMatrixForBothPlayers() {
+    Random random = new Random(62);
+    for (int game = 0; game < 40; game++) {
+      ThreeTriosGridModel model = RandomGames.start(random);
+      while (!model.isGameOver()) {
+        for (Player player : new Player[] {Player.RED, Player.BLUE}) {
+          List<Card> hand = model.getPlayerHand(player);
+          int[][] matrix = model.getFlipMatrix(player);
+          for (int card = 0; card < hand.size(); card++) {
+            Assert.assertArrayEquals(matrix[card], model.getCardFlips(player, hand.get(card)));
+          }
+        }
+        RandomGames.playMove(model, random);
+      }
+    }
+  }
+
+  @Test
+  public void testCardFlipsRejectsNullArguments() {
+    ThreeTriosGridModel model = RandomGames.start(new Random(63));
+    Card card = model.getPlayerHand(Player.RED).get(0);
+    Assert.assertThrows(IllegalArgumentException.class, () -> model.getCardFlips(Player.RED,
+            null));
+    Assert.assertThrows(IllegalArgumentException.class, () -> model.getCardFlips(null, card));
+    Assert.assertThrows(IllegalArgumentException.class, () ->
+            model.getCardFlips(Player.NULL_PLAYER, card));
+  }
+
+  /**
+   * Checks every entry of the flip matrix and the flip rows of the player to move against
+   * getPotentialFlips, or -1 where the cell is not a legal move.
+   */
+  private static void assertMatchesPotentialFlips(ReadOnlyTTModel model) {
+    Player player = model.getCurrentPlayer();
+    List<Card> hand = model.getPlayerHand(player);
+    int[][] matrix = model.getFlipMatrix(player);
+    Assert.assertEquals(hand.size(), matrix.length);
+    for (int card = 0; card < hand.size(); card++) {
+      int[] row = model.getCardFlips(player, hand.get(card));
+      Assert.assertEquals(model.getRows() * model.getCols(), matrix[card].length);
+      for (int r = 0; r < model.getRows(); r++) {
+        for (int c = 0; c < model.getCols(); c++) {
+          int expected = model.isLegalMove(r, c)
+                  ? model.getPotentialFlips(hand.get(card), r, c) : -1;
+          Assert.assertEquals(r + "," + c, expected, matrix[card][r * model.getCols() + c]);
+          Assert.assertEquals(r + "," + c, expected, row[r * model.getCols() + c]);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,141 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import cs3500.threetrios.model.AttackDistribution;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.ConfigGenerator;
+import cs3500.threetrios.model.FlatGridModel;
+import cs3500.threetrios.model.Player;
+
+/**
+ * Tests for reading grid configuration files from disk, which are decoded from a memory-mapped
+ * file rather than read line by line. Verifies that every file is accepted or rejected the
+ * same way, and gives the same grid, as parsing the lines a BufferedReader splits it into,
+ * including files mixing carriage returns, line feeds and CRLFs and files with malformed rows.
+ */
+public class TestGridFileParser {
+
+  private static final List<Card> CARDS = ConfigGenerator.generateCards(40,
+          AttackDistribution.UNIFORM, new Random(1));
+
+  @Test
+  public void testPaddedLowerCaseGridMatchesParsedLines() throws IOException {
+    List<String> board = ConfigGenerator.generateBoard(70, 13, 0.3, new Random(5));
+    List<Card> cards = ConfigGenerator.generateCards(board.size() * 13,
+            AttackDistribution.UNIFORM, new Random(5));
+    StringBuilder padded = new StringBuilder(board.get(0)).append("\r\n");
+    for (String row : board.subList(1, board.size())) {
+      padded.append(' ').append(row.toLowerCase()).append(" \r\n");
+    }
+    padded.append("ignored trailing line");
+    try (ConfigDirectory directory = new ConfigDirectory("mapped")) {
+      directory.write("board.config", padded.toString().getBytes(StandardCharsets.UTF_8));
+      directory.write("cards.config", ConfigGenerator.toCardLines(cards));
+      FlatGridModel fromFile = directory.start(new FlatGridModel(new Random(2)), "cards.config",
+              "board.config");
+      FlatGridModel inMemory = new FlatGridModel(new Random(2));
+      inMemory.createGrid(board, cards);
+
+      Assert.assertEquals(inMemory.getLegalMoves(), fromFile.getLegalMoves());
+      Assert.assertEquals(inMemory.getPlayerHand(Player.RED).toString(),
+              fromFile.getPlayerHand(Player.RED).toString());
+    }
+  }
+
+  @Test
+  public void testLoneCarriageReturnsEndLines() throws IOException {
+    assertReadLikeLines("3 1\rx\r\nc\r\nc", true);
+    assertReadLikeLines("3 1\rC\rC\rC\r", true);
+    assertReadLikeLines("1 3\r\r\nCXC", false);
+    assertReadLikeLines("2 4\nxCXX\r \nCCCC\n", false);
+    assertReadLikeLines("2 2\r\nCC\n\rCC", false);
+    assertReadLikeLines("1 3 \t\f\r\nCCC\r", true);
+  }
+
+  @Test
+  public void testMalformedRowsAreRejected() throws IOException {
+    assertReadLikeLines("2 3\nCXC\nC XC\n", false);
+    assertReadLikeLines("2 3\nCXC\nCX\n", false);
+    assertReadLikeLines("2 3\nCXC\nCXCC\n", false);
+    assertReadLikeLines("2 3\nCXC\nCYC\n", false);
+    assertReadLikeLines("2 3\nCXC\n", false);
+    assertReadLikeLines("2 3\nCXC\n\nCXC\n", false);
+    assertReadLikeLines("2 3 4\nCXC\nCXC\n", false);
+    assertReadLikeLines("", false);
+    assertReadLikeLines("\n", false);
+    assertReadLikeLines("2 3\n\tCXC \nCCC\t\nanything after the rows", true);
+    assertReadLikeLines("                                                                  "
+            + "                  1 1\nC", true);
+  }
+
+  @Test
+  public void testRandomGridsMatchParsedLines() throws IOException {
+    Random random = new Random(11);
+    String[] breaks = {"\n", "\r", "\r\n", "\n\r", " \n", "\r ", ""};
+    String[] cells = {"C", "X", "c", "x", " ", "\t", "Y"};
+    for (int trial = 0; trial < 1000; trial++) {
+      int rows = 1 + random.nextInt(4);
+      int cols = 1 + random.nextInt(4);
+      StringBuilder grid = new StringBuilder();
+      grid.append(random.nextInt(8) == 0 ? " " : "").append(rows).append(' ').append(cols);
+      for (int row = 0; row <= rows; row++) {
+        grid.append(random.nextInt(4) == 0 ? breaks[random.nextInt(breaks.length)] : "\n");
+        int length = cols + (random.nextInt(6) == 0 ? random.nextInt(3) - 1 : 0);
+        for (int col = 0; col < length; col++) {
+          grid.append(random.nextInt(10) == 0 ? cells[random.nextInt(cells.length)]
+                  : cells[random.nextInt(2)]);
+        }
+      }
+      assertReadLikeLines(grid.toString(), null);
+    }
+  }
+
+  /**
+   * Checks that a grid file is accepted exactly when its BufferedReader lines are, and that
+   * both give the same grid.
+   *
+   * @param contents the contents of the grid file.
+   * @param accepted whether the grid should be accepted, or null to only compare the two.
+   */
+  private static void assertReadLikeLines(String contents, Boolean accepted) throws IOException {
+    List<String> lines = new BufferedReader(new StringReader(contents)).lines()
+            .collect(Collectors.toList());
+    FlatGridModel inMemory = new FlatGridModel(new Random(3));
+    boolean parsed = starts(() -> inMemory.createGrid(lines, CARDS));
+
+    FlatGridModel fromFile = new FlatGridModel(new Random(3));
+    boolean decoded;
+    try (ConfigDirectory directory = new ConfigDirectory("mapped")) {
+      directory.write("board.config", contents.getBytes(StandardCharsets.UTF_8));
+      directory.write("cards.config", ConfigGenerator.toCardLines(CARDS));
+      decoded = starts(() -> directory.start(fromFile, "cards.config", "board.config"));
+    }
+
+    String shown = contents.replace("\r", "\\r").replace("\n", "\\n").replace("\t", "\\t");
+    Assert.assertEquals(shown, parsed, decoded);
+    if (accepted != null) {
+      Assert.assertEquals(shown, accepted, decoded);
+    }
+    if (parsed) {
+      Assert.assertEquals(shown, inMemory.getLegalMoves(), fromFile.getLegalMoves());
+      Assert.assertEquals(shown, inMemory.getCols(), fromFile.getCols());
+    }
+  }
+
+  private static boolean starts(Runnable start) {
+    try {
+      start.run();
+      return true;
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      return false;
+    }
+  }
+}
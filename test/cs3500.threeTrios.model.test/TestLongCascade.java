@@ -0,0 +1,91 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.FlatGridModel;
+import cs3500.threetrios.model.GameGridModel;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+
+/**
+ * Tests a cascade running the whole length of a long board. Blue fills the top row and red the
+ * bottom row without a single flip, then red's card in the top-left corner flips, or is
+ * simulated to flip, every blue card in a chain, which must match the flat model.
+ */
+public class TestLongCascade {
+  private static final int LENGTH = 20000;
+
+  @Test
+  public void testCornerMoveFlipsTheWholeRow() throws IOException {
+    try (ConfigDirectory directory = new ConfigDirectory("cascade")) {
+      writeConfigs(directory, "5 5 1 9");
+      ThreeTriosGridModel model = directory.start(new ThreeTriosGridModel(), "cards.config",
+              "board.config");
+      FlatGridModel flat = directory.start(new FlatGridModel(), "cards.config", "board.config");
+      fillRows(model);
+      fillRows(flat);
+
+      model.playCardToCardCell(model.getPlayerHand(Player.RED).get(0), 0, 0);
+      flat.playCardToCardCell(flat.getPlayerHand(Player.RED).get(0), 0, 0);
+
+      Assert.assertTrue(model.isGameOver());
+      Assert.assertEquals(Player.RED, model.getCell(0, LENGTH - 1).getOwner());
+      Assert.assertEquals(2 * LENGTH - 1, model.getPlayerScore(Player.RED));
+      Assert.assertEquals(flat.getPlayerScore(Player.RED), model.getPlayerScore(Player.RED));
+      Assert.assertEquals(flat.getPlayerScore(Player.BLUE), model.getPlayerScore(Player.BLUE));
+    }
+  }
+
+  @Test
+  public void testSimulatedCornerMoveCountsTheWholeRow() throws IOException {
+    try (ConfigDirectory directory = new ConfigDirectory("cascade")) {
+      // The flip simulation counts a flip when the attack is higher than the defense.
+      writeConfigs(directory, "5 5 9 1");
+      ThreeTriosGridModel model = directory.start(new ThreeTriosGridModel(), "cards.config",
+              "board.config");
+      FlatGridModel flat = directory.start(new FlatGridModel(), "cards.config", "board.config");
+      fillRows(model);
+      fillRows(flat);
+      Card last = model.getPlayerHand(Player.RED).get(0);
+
+      Assert.assertEquals(LENGTH - 1, model.getPotentialFlips(last, 0, 0));
+      Assert.assertEquals(LENGTH - 1, model.getFlipMatrix(Player.RED)[0][0]);
+      Assert.assertEquals(flat.getPotentialFlips(flat.getPlayerHand(Player.RED).get(0), 0, 0),
+              model.getPotentialFlips(last, 0, 0));
+    }
+  }
+
+  /**
+   * Writes a two-row board whose bottom row ends in a hole, so red and blue both play
+   * LENGTH - 1 cards before red's last move, and a deck of identical cards.
+   */
+  private static void writeConfigs(ConfigDirectory directory, String attacks)
+          throws IOException {
+    List<String> board = new ArrayList<>();
+    board.add("2 " + LENGTH);
+    board.add("C".repeat(LENGTH));
+    board.add("C".repeat(LENGTH - 1) + "X");
+    directory.write("board.config", board);
+
+    List<String> cards = new ArrayList<>();
+    for (int card = 0; card < 2 * LENGTH; card++) {
+      cards.add("Card" + card + " " + attacks);
+    }
+    directory.write("cards.config", cards);
+  }
+
+  /**
+   * Plays red along the bottom row and blue along the top row from the second column on,
+   * leaving the top-left corner to red.
+   */
+  private static void fillRows(GameGridModel model) {
+    for (int col = 0; col < LENGTH - 1; col++) {
+      model.playCardToCardCell(model.getPlayerHand(Player.RED).get(0), 1, col);
+      model.playCardToCardCell(model.getPlayerHand(Player.BLUE).get(0), 0, col + 1);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import cs3500.threetrios.simulation.BatchSimulation;
+import cs3500.threetrios.simulation.Match;
+import cs3500.threetrios.simulation.MatchResult;
+import cs3500.threetrios.simulation.SequentialTest;
+import cs3500.threetrios.strategy.Corner;
+import cs3500.threetrios.strategy.HardToFlip;
+import cs3500.threetrios.strategy.MaxCardFlip;
+
+/**
+ * Tests for head-to-head matches and the sequential probability ratio test. Verifies that
+ * colour-swapped deals cancel out between identical strategies, that a sequential match stops
+ * early with the same verdict on any number of threads, and the test's likelihood ratio.
+ */
+public class TestMatch {
+  private BatchSimulation setup;
+  private SequentialTest test;
+
+  @Before
+  public void setUp() {
+    setup = new BatchSimulation("docs", "docs/cardsWorksWithAll.config",
+            "docs", "docs/board.config");
+    test = new SequentialTest(0, 20, 0.05, 0.05);
+  }
+
+  @Test
+  public void testFixedMatchPlaysEveryDeal() {
+    MatchResult result = new Match(setup, MaxCardFlip::new, Corner::new).run(30, 2, 1);
+    Assert.assertEquals(60, result.getGames());
+    Assert.assertEquals(0, result.getGamesSaved());
+    Assert.assertEquals(SequentialTest.Verdict.INCONCLUSIVE, result.getVerdict());
+    long deals = 0;
+    for (long count : result.getPairCounts()) {
+      deals += count;
+    }
+    Assert.assertEquals(30, deals);
+  }
+
+  @Test
+  public void testIdenticalStrategiesSplitEveryDeal() {
+    MatchResult result = new Match(setup, MaxCardFlip::new, MaxCardFlip::new)
+            .run(test, 50, 1, 7);
+    Assert.assertArrayEquals(new long[] {0, 0, 50, 0, 0}, result.getPairCounts());
+    Assert.assertEquals(0.5, result.getScore(), 0.0);
+    Assert.assertEquals(0, result.getEloDifference(), 1e-9);
+    Assert.assertEquals(SequentialTest.Verdict.INCONCLUSIVE, result.getVerdict());
+  }
+
+  @Test
+  public void testSequentialMatchStopsEarly() {
+    MatchResult result = new Match(setup, Corner::new, HardToFlip::new)
+            .run(test, 5000, 1, 3);
+    Assert.assertNotEquals(SequentialTest.Verdict.INCONCLUSIVE, result.getVerdict());
+    Assert.assertTrue(result.getGamesSaved() > 0);
+    Assert.assertEquals(10000, result.getGames() + result.getGamesSaved());
+    double ratio = result.getLogLikelihoodRatio();
+    Assert.assertTrue(ratio >= test.getUpperBound() || ratio <= test.getLowerBound());
+  }
+
+  @Test
+  public void testSequentialMatchIndependentOfThreads() {
+    Match match = new Match(setup, Corner::new, HardToFlip::new);
+    MatchResult single = match.run(test, 5000, 1, 3);
+    MatchResult parallel = match.run(test, 5000, 3, 3);
+    Assert.assertEquals(single.getVerdict(), parallel.getVerdict());
+    Assert.assertEquals(single.getGames(), parallel.getGames());
+    Assert.assertArrayEquals(single.getPairCounts(), parallel.getPairCounts());
+  }
+
+  @Test
+  public void testLogLikelihoodRatio() {
+    Assert.assertEquals(0, test.logLikelihoodRatio(new long[5]), 0.0);
+    Assert.assertEquals(0, test.logLikelihoodRatio(new long[] {0, 0, 0, 0, 9}), 0.0);
+    Assert.assertTrue(test.logLikelihoodRatio(new long[] {1, 2, 10, 20, 10}) > 0);
+    Assert.assertTrue(test.logLikelihoodRatio(new long[] {10, 20, 10, 2, 1}) < 0);
+    Assert.assertEquals(SequentialTest.Verdict.H1,
+            test.decide(new long[] {10, 20, 100, 200, 100}));
+    Assert.assertEquals(SequentialTest.Verdict.H0,
+            test.decide(new long[] {100, 200, 100, 20, 10}));
+    Assert.assertEquals(Math.log(0.05 / 0.95), test.getLowerBound(), 1e-12);
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    Assert.assertThrows("unordered bounds", IllegalArgumentException.class, () ->
+            new SequentialTest(5, 5, 0.05, 0.05));
+    Assert.assertThrows("bad alpha", IllegalArgumentException.class, () ->
+            new SequentialTest(0, 5, 0, 0.05));
+    Assert.assertThrows("null setup", IllegalArgumentException.class, () ->
+            new Match(null, Corner::new, Corner::new));
+    Assert.assertThrows("null test", IllegalArgumentException.class, () ->
+            new Match(setup, Corner::new, Corner::new).run(null, 1, 1, 0));
+    Assert.assertThrows("no deals", IllegalArgumentException.class, () ->
+            new Match(setup, Corner::new, Corner::new).run(0, 1, 0));
+    Assert.assertThrows("bad counts", IllegalArgumentException.class, () ->
+            test.logLikelihoodRatio(new long[3]));
+  }
+}
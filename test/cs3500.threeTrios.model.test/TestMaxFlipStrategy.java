@@ -12,6 +12,7 @@ import cs3500.threetrios.model.Player;
 import cs3500.threetrios.model.Position;
 import cs3500.threetrios.model.ReadOnlyTTModel;
 import cs3500.threetrios.strategy.MaxCardFlip;
+import cs3500.threetrios.strategy.ScoredMove;
 import cs3500.threetrios.strategy.mocks.MockDefaultFlipModel;
 import cs3500.threetrios.strategy.mocks.MockFlipEqualModel;
 import cs3500.threetrios.strategy.mocks.MockMultipleMaxFlipsModel;
@@ -81,6 +82,23 @@ public class TestMaxFlipStrategy {
     Assert.assertEquals(1, pos.getCol());
   }
 
+  @Test
+  public void testOptimalMoveMatchesCardThenPosition() {
+    ReadOnlyTTModel model = new MockDefaultFlipModel(mockHand, mockCard3);
+    ScoredMove move = maxFlipStrategy.optimalMove(model, Player.RED);
+    Card card = maxFlipStrategy.optimalCard(model, Player.RED);
+    Assert.assertEquals(card, move.getCard());
+    Assert.assertEquals(maxFlipStrategy.optimalPosition(model, card, Player.RED),
+            move.getPosition());
+    Assert.assertEquals(model.getPotentialFlips(card, 1, 1), move.getScore());
+  }
+
+  @Test
+  public void testOptimalMoveEmptyHand() {
+    ReadOnlyTTModel model = new MockDefaultFlipModel(new ArrayList<>(), null);
+    Assert.assertNull(maxFlipStrategy.optimalMove(model, Player.RED));
+  }
+
   @Test
   public void testNullModel() {
     Assert.assertThrows("model cannot be null",
@@ -0,0 +1,93 @@
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.Position;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+import cs3500.threetrios.strategy.MonteCarlo;
+import cs3500.threetrios.strategy.StrategicThreeTrios;
+
+/**
+ * Tests for the MonteCarlo strategy. Verifies that it finds the winning move of a small
+ * endgame, that a seeded single-threaded search is repeatable, that searching leaves the model
+ * untouched and that several threads can play a whole game.
+ */
+public class TestMonteCarloStrategy {
+  private ThreeTriosGridModel model;
+
+  @Before
+  public void setUp() {
+    model = ExhaustiveSearch.start("board.config");
+  }
+
+  @Test
+  public void testFindsBestOutcomeInEndgame() {
+    model.applyMove(0, 0, 0);
+    model.applyMove(0, 1, 0);
+    model.applyMove(0, 1, 1);
+    StrategicThreeTrios strategy = new MonteCarlo(1, 5000, 60_000, 7);
+    Player toMove = model.getCurrentPlayer();
+    Card card = strategy.optimalCard(model, toMove);
+    Position pos = strategy.optimalPosition(model, card, toMove);
+
+    // The search only tells wins, draws and losses apart, so only the outcome must be best.
+    Assert.assertEquals(Integer.signum(ExhaustiveSearch.negamax(model)),
+            Integer.signum(ExhaustiveSearch.valueOf(model, card, pos)));
+  }
+
+  @Test
+  public void testSeededSearchIsRepeatable() {
+    StrategicThreeTrios first = new MonteCarlo(1, 500, 60_000, 42);
+    StrategicThreeTrios second = new MonteCarlo(1, 500, 60_000, 42);
+    Card firstCard = first.optimalCard(model, Player.RED);
+    Card secondCard = second.optimalCard(model, Player.RED);
+    Assert.assertEquals(firstCard, secondCard);
+    Position firstPos = first.optimalPosition(model, firstCard, Player.RED);
+    Position secondPos = second.optimalPosition(model, secondCard, Player.RED);
+    Assert.assertEquals(firstPos.getRow(), secondPos.getRow());
+    Assert.assertEquals(firstPos.getCol(), secondPos.getCol());
+  }
+
+  @Test
+  public void testSearchLeavesModelUnchanged() {
+    long hash = model.getStateHash();
+    StrategicThreeTrios strategy = new MonteCarlo(2, 2000, 1000);
+    Card card = strategy.optimalCard(model, Player.RED);
+    Position pos = strategy.optimalPosition(model, card, Player.RED);
+    Assert.assertEquals(hash, model.getStateHash());
+    Assert.assertEquals(3, model.getPlayerHand(Player.RED).size());
+    Assert.assertTrue(model.isLegalMove(pos.getRow(), pos.getCol()));
+  }
+
+  @Test
+  public void testPlaysFullGameWithSeveralThreads() {
+    ThreeTriosGridModel game = ExhaustiveSearch.start("boardWithNoHoles.config");
+    StrategicThreeTrios strategy = new MonteCarlo(4, 2000, 200);
+    while (!game.isGameOver()) {
+      strategy.execute(game, game.getCurrentPlayer());
+    }
+    Assert.assertTrue(game.isGameOver());
+  }
+
+  @Test
+  public void testInvalidLimits() {
+    Assert.assertThrows("threads must be positive", IllegalArgumentException.class, () ->
+            new MonteCarlo(0, 100, 100));
+    Assert.assertThrows("playouts must be positive", IllegalArgumentException.class, () ->
+            new MonteCarlo(1, 0, 100));
+    Assert.assertThrows("time must be positive", IllegalArgumentException.class, () ->
+            new MonteCarlo(1, 100, 0));
+  }
+
+  @Test
+  public void testGameOverThrows() {
+    StrategicThreeTrios strategy = new MonteCarlo(1, 200, 1000);
+    while (!model.isGameOver()) {
+      strategy.execute(model, model.getCurrentPlayer());
+    }
+    Assert.assertThrows("game over", IllegalStateException.class, () ->
+            strategy.optimalCard(model, Player.RED));
+  }
+}
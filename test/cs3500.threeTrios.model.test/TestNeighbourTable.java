@@ -0,0 +1,80 @@
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import cs3500.threetrios.model.Direction;
+import cs3500.threetrios.model.FlatGridModel;
+import cs3500.threetrios.model.NeighbourTable;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+import cs3500.threetrios.strategy.mocks.MockNoCornerModel;
+
+/**
+ * Tests for the neighbour table of a board. Verifies the card cell numbering and neighbours
+ * of a board with holes, that games on the same board share one table, and that a model
+ * without a board of its own gets a table built from its cell types.
+ */
+public class TestNeighbourTable {
+  private ThreeTriosGridModel model;
+
+  @Before
+  public void setUp() {
+    // CXX
+    // CCC
+    // XXC
+    model = new ThreeTriosGridModel();
+    model.startGame("docs", "docs/cardsWorksWithAll.config",
+            "docs", "docs/board.config");
+  }
+
+  @Test
+  public void testCardCellsAreNumberedRowByRow() {
+    NeighbourTable table = model.getNeighbourTable();
+    Assert.assertEquals(5, table.getCardCellCount());
+    Assert.assertEquals(0, table.getCardCell(0, 0));
+    Assert.assertEquals(-1, table.getCardCell(0, 1));
+    Assert.assertEquals(2, table.getCardCell(1, 1));
+    Assert.assertEquals(4, table.getCardCell(2, 2));
+    Assert.assertEquals(-1, table.getCardCell(3, 2));
+    Assert.assertEquals(1, table.getRow(3));
+    Assert.assertEquals(2, table.getCol(3));
+  }
+
+  @Test
+  public void testNeighboursSkipEdgesAndHoles() {
+    NeighbourTable table = model.getNeighbourTable();
+    Assert.assertEquals(-1, table.getNeighbour(0, Direction.NORTH));
+    Assert.assertEquals(1, table.getNeighbour(0, Direction.SOUTH));
+    Assert.assertEquals(-1, table.getNeighbour(0, Direction.EAST));
+    Assert.assertEquals(-1, table.getNeighbour(2, Direction.NORTH));
+    Assert.assertEquals(-1, table.getNeighbour(2, Direction.SOUTH));
+    Assert.assertEquals(3, table.getNeighbour(2, Direction.EAST));
+    Assert.assertEquals(1, table.getNeighbour(2, Direction.WEST));
+    Assert.assertEquals(3, table.getNeighbour(4, Direction.NORTH));
+    Assert.assertEquals(1 << Direction.NORTH.ordinal(), table.getNeighbourMask(2, 2));
+  }
+
+  @Test
+  public void testGamesOnTheSameBoardShareTheTable() {
+    ThreeTriosGridModel other = new ThreeTriosGridModel();
+    other.startGame("docs", "docs/cardsWorksWithAll.config",
+            "docs", "docs/board.config");
+    FlatGridModel flat = new FlatGridModel();
+    flat.startGame("docs", "docs/cardsWorksWithAll.config",
+            "docs", "docs/board.config");
+
+    Assert.assertSame(model.getNeighbourTable(), other.getNeighbourTable());
+    Assert.assertSame(model.getNeighbourTable(), flat.getNeighbourTable());
+    Assert.assertSame(model.getNeighbourTable(), model.getCopy().getNeighbourTable());
+  }
+
+  @Test
+  public void testDefaultTableIsBuiltFromCellTypes() {
+    NeighbourTable table = new MockNoCornerModel(new ArrayList<>()).getNeighbourTable();
+    Assert.assertEquals(1, table.getCardCellCount());
+    Assert.assertEquals(0, table.getCardCell(1, 1));
+    Assert.assertEquals(0, table.getNeighbourMask(1, 1));
+    Assert.assertEquals(1 << Direction.SOUTH.ordinal(), table.getNeighbourMask(0, 1));
+  }
+}
@@ -0,0 +1,104 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.CellType;
+import cs3500.threetrios.model.Direction;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.Position;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+
+/**
+ * Tests the model's flip count against the original one, which copied the board into a grid of
+ * new cells, placed the card and flipped adjacent opponent cards recursively. The reference
+ * below does the same on arrays read through the public cell queries, and every card of the
+ * player to move must give the same count on every empty cell of random games.
+ */
+public class TestPotentialFlipsReference {
+  private static final int[] ROW_STEPS = {-1, 1, 0, 0};
+  private static final int[] COL_STEPS = {0, 0, 1, -1};
+
+  @Test
+  public void testFlipCountsMatchTheOriginalSimulation() {
+    Random random = new Random(41);
+    int mostFlips = 0;
+    for (int game = 0; game < 40; game++) {
+      ThreeTriosGridModel model = RandomGames.start(random);
+      while (!model.isGameOver()) {
+        Player player = model.getCurrentPlayer();
+        for (Card card : model.getPlayerHand(player)) {
+          for (Position move : model.getLegalMoves()) {
+            int expected = referenceFlips(model, card, move.getRow(), move.getCol());
+            Assert.assertEquals(card + " at " + move.getRow() + "," + move.getCol(), expected,
+                    model.getPotentialFlips(card, move.getRow(), move.getCol()));
+            mostFlips = Math.max(mostFlips, expected);
+          }
+        }
+        RandomGames.playMove(model, random);
+      }
+    }
+    Assert.assertTrue("no simulated cascade flipped several cards", mostFlips >= 3);
+  }
+
+  @Test
+  public void testSimulationLeavesTheBoardUnchanged() {
+    Random random = new Random(42);
+    ThreeTriosGridModel model = RandomGames.start(random);
+    RandomGames.playMove(model, random);
+    RandomGames.playMove(model, random);
+    long hash = model.getStateHash();
+    for (Card card : model.getPlayerHand(model.getCurrentPlayer())) {
+      for (Position move : model.getLegalMoves()) {
+        model.getPotentialFlips(card, move.getRow(), move.getCol());
+      }
+    }
+    Assert.assertEquals(hash, model.getStateHash());
+  }
+
+  /**
+   * Counts the opponent cards the original simulation flipped: the card is placed for the
+   * player to move, and every adjacent opponent card whose facing attack is lower flips and
+   * goes on to attack its own neighbours.
+   */
+  private static int referenceFlips(ThreeTriosGridModel model, Card card, int row, int col) {
+    int rows = model.getRows();
+    int cols = model.getCols();
+    Card[][] cards = new Card[rows][cols];
+    Player[][] owners = new Player[rows][cols];
+    for (int r = 0; r < rows; r++) {
+      for (int c = 0; c < cols; c++) {
+        if (model.getCellType(r, c) == CellType.CARD_CELL && model.getCell(r, c).isOccupied()) {
+          cards[r][c] = model.getCell(r, c).getCard();
+          owners[r][c] = model.getCell(r, c).getOwner();
+        }
+      }
+    }
+    cards[row][col] = card;
+    owners[row][col] = model.getCurrentPlayer();
+    Set<Position> flipped = new HashSet<>();
+    flipFrom(row, col, cards, owners, flipped);
+    return flipped.size();
+  }
+
+  private static void flipFrom(int row, int col, Card[][] cards, Player[][] owners,
+                               Set<Position> flipped) {
+    for (Direction direction : Direction.values()) {
+      int adjRow = row + ROW_STEPS[direction.ordinal()];
+      int adjCol = col + COL_STEPS[direction.ordinal()];
+      if (adjRow < 0 || adjRow >= cards.length || adjCol < 0 || adjCol >= cards[0].length
+              || cards[adjRow][adjCol] == null || owners[adjRow][adjCol] == owners[row][col]) {
+        continue;
+      }
+      int attack = cards[row][col].getAttackValue(direction);
+      int defense = cards[adjRow][adjCol].getAttackValue(direction.opposite());
+      if (attack > defense && flipped.add(new Position(adjRow, adjCol))) {
+        owners[adjRow][adjCol] = owners[row][col];
+        flipFrom(adjRow, adjCol, cards, owners, flipped);
+      }
+    }
+  }
+}
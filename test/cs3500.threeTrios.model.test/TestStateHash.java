@@ -0,0 +1,121 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.threetrios.model.AttackDistribution;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.ConfigGenerator;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.Position;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+
+/**
+ * Tests the incrementally maintained state hash of the grid model. After every played,
+ * applied and undone move of random games the hash must equal one computed from scratch over
+ * the whole state, reaching the same position by different move orders must give the same
+ * hash, and the same position on a different board or deck must not.
+ */
+public class TestStateHash {
+
+  @Test
+  public void testPlayedMovesKeepTheHashOfTheState() {
+    Random random = new Random(51);
+    for (int game = 0; game < 40; game++) {
+      ThreeTriosGridModel model = RandomGames.start(random);
+      Assert.assertEquals(recomputedHash(model), model.getStateHash());
+      while (!model.isGameOver()) {
+        RandomGames.playMove(model, random);
+        Assert.assertEquals(recomputedHash(model), model.getStateHash());
+      }
+    }
+  }
+
+  @Test
+  public void testAppliedAndUndoneMovesKeepTheHashOfTheState() {
+    Random random = new Random(52);
+    for (int game = 0; game < 40; game++) {
+      ThreeTriosGridModel model = RandomGames.start(random);
+      while (!model.isGameOver()) {
+        List<Position> moves = model.getLegalMoves();
+        Position move = moves.get(random.nextInt(moves.size()));
+        int hand = model.getPlayerHand(model.getCurrentPlayer()).size();
+        model.applyMove(random.nextInt(hand), move.getRow(), move.getCol());
+        Assert.assertEquals(recomputedHash(model), model.getStateHash());
+        if (random.nextInt(3) == 0) {
+          model.undoMove();
+          Assert.assertEquals(recomputedHash(model), model.getStateHash());
+        }
+      }
+      while (model.getAppliedMoveCount() > 0) {
+        model.undoMove();
+        Assert.assertEquals(recomputedHash(model), model.getStateHash());
+      }
+    }
+  }
+
+  @Test
+  public void testTranspositionsHashTheSame() {
+    ThreeTriosGridModel first = new ThreeTriosGridModel(new Random(5));
+    first.startGame("docs", "cardsWorksWithAll.config", "docs", "boardWithNoHoles.config");
+    ThreeTriosGridModel second = new ThreeTriosGridModel(new Random(5));
+    second.startGame("docs", "cardsWorksWithAll.config", "docs", "boardWithNoHoles.config");
+    Card red0 = first.getPlayerHand(Player.RED).get(0);
+    Card red1 = first.getPlayerHand(Player.RED).get(1);
+    Card blue0 = first.getPlayerHand(Player.BLUE).get(0);
+    Card blue1 = first.getPlayerHand(Player.BLUE).get(1);
+
+    first.playCardToCardCell(red0, 0, 0);
+    first.playCardToCardCell(blue0, 2, 2);
+    first.playCardToCardCell(red1, 0, 2);
+    first.playCardToCardCell(blue1, 2, 0);
+    second.playCardToCardCell(second.getCardByName(red1.getName()), 0, 2);
+    second.playCardToCardCell(second.getCardByName(blue1.getName()), 2, 0);
+    second.playCardToCardCell(second.getCardByName(red0.getName()), 0, 0);
+    Assert.assertNotEquals(first.getStateHash(), second.getStateHash());
+    second.playCardToCardCell(second.getCardByName(blue0.getName()), 2, 2);
+
+    Assert.assertEquals(first.getStateHash(), second.getStateHash());
+  }
+
+  @Test
+  public void testOtherBoardsAndDecksHashDifferently() {
+    ThreeTriosGridModel board = new ThreeTriosGridModel(new Random(1));
+    board.startGame("docs", "cardsWorksWithAll.config", "docs", "board.config");
+    ThreeTriosGridModel otherBoard = new ThreeTriosGridModel(new Random(1));
+    otherBoard.startGame("docs", "cardsWorksWithAll.config", "docs", "boardNotReachCC.config");
+    Assert.assertEquals(board.getPlayerHand(Player.RED), otherBoard.getPlayerHand(Player.RED));
+    Assert.assertNotEquals(board.getStateHash(), otherBoard.getStateHash());
+
+    // Same names and deal, so every card sits in the same place with the same id.
+    List<String> grid = List.of("3 3", "CXX", "CCC", "XXC");
+    ThreeTriosGridModel deck = new ThreeTriosGridModel(new Random(2));
+    deck.createGrid(grid, ConfigGenerator.generateCards(10, AttackDistribution.UNIFORM,
+            new Random(3)));
+    ThreeTriosGridModel otherDeck = new ThreeTriosGridModel(new Random(2));
+    otherDeck.createGrid(grid, ConfigGenerator.generateCards(10, AttackDistribution.UNIFORM,
+            new Random(4)));
+    for (int card = 0; card < deck.getPlayerHand(Player.RED).size(); card++) {
+      Assert.assertEquals(deck.getPlayerHand(Player.RED).get(card).getName(),
+              otherDeck.getPlayerHand(Player.RED).get(card).getName());
+    }
+    Assert.assertNotEquals(deck.getStateHash(), otherDeck.getStateHash());
+  }
+
+  /**
+   * Computes the hash of the model's state from scratch, as the model does when a game
+   * starts.
+   */
+  private static long recomputedHash(ThreeTriosGridModel model) {
+    try {
+      Method compute = ThreeTriosGridModel.class.getDeclaredMethod("computeStateHash");
+      compute.setAccessible(true);
+      return (long) compute.invoke(model);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Cannot recompute the state hash", e);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import cs3500.threetrios.simulation.BatchSimulation;
+import cs3500.threetrios.simulation.Tournament;
+import cs3500.threetrios.simulation.TournamentResult;
+import cs3500.threetrios.strategy.Corner;
+import cs3500.threetrios.strategy.HardToFlip;
+import cs3500.threetrios.strategy.MaxCardFlip;
+import cs3500.threetrios.strategy.StrategicThreeTrios;
+
+/**
+ * Tests for the round-robin tournament. Verifies the schedule, that colour-swapped deals make
+ * identical entrants rate the same, that ratings follow the results and that a seeded
+ * tournament does not depend on the number of threads.
+ */
+public class TestTournament {
+  private List<BatchSimulation> setups;
+  private Map<String, Supplier<StrategicThreeTrios>> entrants;
+
+  @Before
+  public void setUp() {
+    setups = Arrays.asList(
+            new BatchSimulation("docs", "docs/cardsWorksWithAll.config",
+                    "docs", "docs/board.config"),
+            new BatchSimulation("docs", "docs/cardsWorksWithAll.config",
+                    "docs", "docs/boardWithNoHoles.config"));
+    entrants = new LinkedHashMap<>();
+    entrants.put("corner", Corner::new);
+    entrants.put("maxflip", MaxCardFlip::new);
+    entrants.put("hardtoflip", HardToFlip::new);
+  }
+
+  @Test
+  public void testEveryPairingPlaysBothColours() {
+    TournamentResult result = new Tournament(entrants, setups).run(5, 2, 11);
+    Assert.assertEquals(3 * 2 * 5 * 2, result.getTotalGames());
+    Assert.assertEquals(20, result.getGames("corner", "maxflip"));
+    Assert.assertEquals(20.0, result.getPoints("corner", "maxflip")
+            + result.getPoints("maxflip", "corner"), 0.0);
+  }
+
+  @Test
+  public void testIdenticalEntrantsRateTheSame() {
+    Map<String, Supplier<StrategicThreeTrios>> twins = new LinkedHashMap<>();
+    twins.put("first", MaxCardFlip::new);
+    twins.put("second", MaxCardFlip::new);
+    TournamentResult result = new Tournament(twins, setups).run(10, 1, 5);
+    Assert.assertEquals(result.getPoints("first", "second"),
+            result.getPoints("second", "first"), 0.0);
+    Assert.assertEquals(1500, result.getRating("first"), 1e-6);
+    Assert.assertEquals(1500, result.getRating("second"), 1e-6);
+    Assert.assertTrue(result.getRatingError("first") > 0);
+  }
+
+  @Test
+  public void testRatingsFollowPoints() {
+    TournamentResult result = new Tournament(entrants, setups).run(20, 2, 3);
+    List<String> names = new ArrayList<>(result.getNames());
+    names.sort((a, b) -> Double.compare(total(result, b), total(result, a)));
+    for (int i = 1; i < names.size(); i++) {
+      Assert.assertTrue(result.getRating(names.get(i - 1))
+              >= result.getRating(names.get(i)));
+    }
+  }
+
+  @Test
+  public void testSeededTournamentIndependentOfThreads() {
+    TournamentResult single = new Tournament(entrants, setups).run(5, 1, 21);
+    TournamentResult parallel = new Tournament(entrants, setups).run(5, 3, 21);
+    for (String name : single.getNames()) {
+      Assert.assertEquals(single.getRating(name), parallel.getRating(name), 1e-9);
+    }
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    Map<String, Supplier<StrategicThreeTrios>> alone = new LinkedHashMap<>();
+    alone.put("corner", Corner::new);
+    Assert.assertThrows("two entrants", IllegalArgumentException.class, () ->
+            new Tournament(alone, setups));
+    Assert.assertThrows("no setups", IllegalArgumentException.class, () ->
+            new Tournament(entrants, new ArrayList<>()));
+    Assert.assertThrows("no deals", IllegalArgumentException.class, () ->
+            new Tournament(entrants, setups).run(0, 1, 0));
+    TournamentResult result = new Tournament(entrants, setups).run(1, 1, 0);
+    Assert.assertThrows("unknown entrant", IllegalArgumentException.class, () ->
+            result.getRating("nobody"));
+  }
+
+  private static double total(TournamentResult result, String name) {
+    double points = 0;
+    for (String opponent : result.getNames()) {
+      if (!opponent.equals(name)) {
+        points += result.getPoints(name, opponent);
+      }
+    }
+    return points;
+  }
+}
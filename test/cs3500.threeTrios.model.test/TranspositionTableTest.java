@@ -0,0 +1,114 @@
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ThreeTriosGridModel;
+import cs3500.threetrios.strategy.TranspositionTable;
+
+/**
+ * Tests for the transposition table shared by the search strategies. Verifies that stored
+ * entries come back intact, that the replacement policy keeps deep entries of the current
+ * search, and that transposed positions hash to the same key.
+ */
+public class TranspositionTableTest {
+  private TranspositionTable table;
+  private TranspositionTable.Entry entry;
+
+  @Before
+  public void setUp() {
+    table = new TranspositionTable(1024);
+    entry = new TranspositionTable.Entry();
+  }
+
+  @Test
+  public void testProbeMissOnEmptyTable() {
+    Assert.assertFalse(table.probe(42L, entry));
+    Assert.assertFalse(table.probe(0L, entry));
+  }
+
+  @Test
+  public void testStoreThenProbe() {
+    table.store(42L, 7, -3, TranspositionTable.Bound.LOWER, 2, 5);
+    Assert.assertTrue(table.probe(42L, entry));
+    Assert.assertEquals(-3, entry.getScore());
+    Assert.assertEquals(7, entry.getDepth());
+    Assert.assertEquals(TranspositionTable.Bound.LOWER, entry.getBound());
+    Assert.assertEquals(2, entry.getHandIndex());
+    Assert.assertEquals(5, entry.getCellIndex());
+  }
+
+  @Test
+  public void testStoreWithoutMove() {
+    table.store(42L, 1, 0, TranspositionTable.Bound.EXACT, -1, -1);
+    Assert.assertTrue(table.probe(42L, entry));
+    Assert.assertEquals(-1, entry.getHandIndex());
+    Assert.assertEquals(-1, entry.getCellIndex());
+  }
+
+  @Test
+  public void testCapacityRoundsDownToPowerOfTwo() {
+    Assert.assertEquals(1024, new TranspositionTable(1500).capacity());
+    Assert.assertThrows("needs 2 entries", IllegalArgumentException.class, () ->
+            new TranspositionTable(1));
+  }
+
+  @Test
+  public void testDeepEntryKeptInCurrentSearch() {
+    TranspositionTable small = new TranspositionTable(2);
+    small.store(1L, 9, 1, TranspositionTable.Bound.EXACT, 0, 0);
+    small.store(2L, 3, 2, TranspositionTable.Bound.EXACT, 0, 1);
+    small.store(3L, 2, 3, TranspositionTable.Bound.EXACT, 0, 2);
+    Assert.assertTrue(small.probe(1L, entry));
+    Assert.assertFalse(small.probe(2L, entry));
+    Assert.assertTrue(small.probe(3L, entry));
+  }
+
+  @Test
+  public void testOlderSearchEntryReplaced() {
+    TranspositionTable small = new TranspositionTable(2);
+    small.store(1L, 9, 1, TranspositionTable.Bound.EXACT, 0, 0);
+    small.newSearch();
+    small.store(2L, 1, 2, TranspositionTable.Bound.EXACT, 0, 1);
+    Assert.assertFalse(small.probe(1L, entry));
+    Assert.assertTrue(small.probe(2L, entry));
+  }
+
+  @Test
+  public void testClear() {
+    table.store(42L, 7, 3, TranspositionTable.Bound.EXACT, 0, 0);
+    table.clear();
+    Assert.assertFalse(table.probe(42L, entry));
+  }
+
+  @Test
+  public void testTransposedPositionsHashEqual() {
+    ThreeTriosGridModel first = new ThreeTriosGridModel();
+    first.startGame("docs", "docs/cardsWorksWithAll.config",
+            "docs", "docs/boardWithNoHoles.config");
+    ThreeTriosGridModel second = (ThreeTriosGridModel) first.getCopy();
+
+    first.applyMove(0, 0, 0);
+    first.applyMove(0, 2, 2);
+    first.applyMove(0, 0, 2);
+    second.applyMove(1, 0, 2);
+    second.applyMove(0, 2, 2);
+    second.applyMove(0, 0, 0);
+
+    Assert.assertEquals(TranspositionTable.hashOf(first), TranspositionTable.hashOf(second));
+    Assert.assertEquals(first.getPlayerHand(Player.RED).get(0).getName(),
+            second.getPlayerHand(Player.RED).get(0).getName());
+  }
+
+  @Test
+  public void testHashChangesWithMoveAndRestoresOnUndo() {
+    ThreeTriosGridModel model = new ThreeTriosGridModel();
+    model.startGame("docs", "docs/cardsWorksWithAll.config",
+            "docs", "docs/board.config");
+    long start = TranspositionTable.hashOf(model);
+    model.applyMove(0, 0, 0);
+    Assert.assertNotEquals(start, TranspositionTable.hashOf(model));
+    model.undoMove();
+    Assert.assertEquals(start, TranspositionTable.hashOf(model));
+  }
+}